@@ -3,7 +3,9 @@ package game.configuration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -17,6 +19,40 @@ public class AppConfiguration {
 
     private List<String> files = new ArrayList<>();
 
+    private String dictionaryImageDir = System.getProperty("java.io.tmpdir") + File.separator + "scrabble-dictionary";
+
+    private double dictionaryFilterFalsePositiveRate = 0.01;
+
+    private boolean dictionaryWatchEnabled = false;
+
+    private long wordSearchTimeBudgetMillis = 100;
+
+    private long moveGenerationTimeBudgetMillis = 200;
+
+    private int moveGenerationParallelism = 0;
+
+    private int hintCacheSize = 1000;
+
+    private int crossCheckCacheSize = 1000;
+
+    private int validationCacheSize = 10000;
+
+    private int botThreads = 1;
+
+    private int botQueueCapacity = 100;
+
+    private long botRetryDelayMillis = 1000;
+
+    private int selfPlayGames = 1000;
+
+    private int selfPlayThreads = 50;
+
+    private int selfPlayMovesPerGame = 30;
+
+    private List<Integer> selfPlayPersonIds = new ArrayList<>(Arrays.asList(1, 2));
+
+    private boolean selfPlayDeleteGames = true;
+
     public List<String> getDictionaries() {
         return dictionaries;
     }
@@ -25,6 +61,74 @@ public class AppConfiguration {
         return files;
     }
 
+    public String getDictionaryImageDir() {
+        return dictionaryImageDir;
+    }
+
+    public double getDictionaryFilterFalsePositiveRate() {
+        return dictionaryFilterFalsePositiveRate;
+    }
+
+    public boolean isDictionaryWatchEnabled() {
+        return dictionaryWatchEnabled;
+    }
+
+    public long getWordSearchTimeBudgetMillis() {
+        return wordSearchTimeBudgetMillis;
+    }
+
+    public long getMoveGenerationTimeBudgetMillis() {
+        return moveGenerationTimeBudgetMillis;
+    }
+
+    public int getMoveGenerationParallelism() {
+        return moveGenerationParallelism;
+    }
+
+    public int getHintCacheSize() {
+        return hintCacheSize;
+    }
+
+    public int getCrossCheckCacheSize() {
+        return crossCheckCacheSize;
+    }
+
+    public int getValidationCacheSize() {
+        return validationCacheSize;
+    }
+
+    public int getBotThreads() {
+        return botThreads;
+    }
+
+    public int getBotQueueCapacity() {
+        return botQueueCapacity;
+    }
+
+    public long getBotRetryDelayMillis() {
+        return botRetryDelayMillis;
+    }
+
+    public int getSelfPlayGames() {
+        return selfPlayGames;
+    }
+
+    public int getSelfPlayThreads() {
+        return selfPlayThreads;
+    }
+
+    public int getSelfPlayMovesPerGame() {
+        return selfPlayMovesPerGame;
+    }
+
+    public List<Integer> getSelfPlayPersonIds() {
+        return selfPlayPersonIds;
+    }
+
+    public boolean isSelfPlayDeleteGames() {
+        return selfPlayDeleteGames;
+    }
+
     public void setDictionaries(List<String> dictionaries) {
         this.dictionaries = dictionaries;
     }
@@ -32,4 +136,72 @@ public class AppConfiguration {
     public void setFiles(List<String> files) {
         this.files = files;
     }
+
+    public void setDictionaryImageDir(String dictionaryImageDir) {
+        this.dictionaryImageDir = dictionaryImageDir;
+    }
+
+    public void setDictionaryFilterFalsePositiveRate(double dictionaryFilterFalsePositiveRate) {
+        this.dictionaryFilterFalsePositiveRate = dictionaryFilterFalsePositiveRate;
+    }
+
+    public void setDictionaryWatchEnabled(boolean dictionaryWatchEnabled) {
+        this.dictionaryWatchEnabled = dictionaryWatchEnabled;
+    }
+
+    public void setWordSearchTimeBudgetMillis(long wordSearchTimeBudgetMillis) {
+        this.wordSearchTimeBudgetMillis = wordSearchTimeBudgetMillis;
+    }
+
+    public void setMoveGenerationTimeBudgetMillis(long moveGenerationTimeBudgetMillis) {
+        this.moveGenerationTimeBudgetMillis = moveGenerationTimeBudgetMillis;
+    }
+
+    public void setMoveGenerationParallelism(int moveGenerationParallelism) {
+        this.moveGenerationParallelism = moveGenerationParallelism;
+    }
+
+    public void setHintCacheSize(int hintCacheSize) {
+        this.hintCacheSize = hintCacheSize;
+    }
+
+    public void setCrossCheckCacheSize(int crossCheckCacheSize) {
+        this.crossCheckCacheSize = crossCheckCacheSize;
+    }
+
+    public void setValidationCacheSize(int validationCacheSize) {
+        this.validationCacheSize = validationCacheSize;
+    }
+
+    public void setBotThreads(int botThreads) {
+        this.botThreads = botThreads;
+    }
+
+    public void setBotQueueCapacity(int botQueueCapacity) {
+        this.botQueueCapacity = botQueueCapacity;
+    }
+
+    public void setBotRetryDelayMillis(long botRetryDelayMillis) {
+        this.botRetryDelayMillis = botRetryDelayMillis;
+    }
+
+    public void setSelfPlayGames(int selfPlayGames) {
+        this.selfPlayGames = selfPlayGames;
+    }
+
+    public void setSelfPlayThreads(int selfPlayThreads) {
+        this.selfPlayThreads = selfPlayThreads;
+    }
+
+    public void setSelfPlayMovesPerGame(int selfPlayMovesPerGame) {
+        this.selfPlayMovesPerGame = selfPlayMovesPerGame;
+    }
+
+    public void setSelfPlayPersonIds(List<Integer> selfPlayPersonIds) {
+        this.selfPlayPersonIds = selfPlayPersonIds;
+    }
+
+    public void setSelfPlayDeleteGames(boolean selfPlayDeleteGames) {
+        this.selfPlayDeleteGames = selfPlayDeleteGames;
+    }
 }
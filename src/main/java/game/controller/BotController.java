@@ -0,0 +1,24 @@
+package game.controller;
+
+import game.resource.BotStatsResource;
+import game.services.BotManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * @author Manish Shrestha
+ */
+@RestController
+@RequestMapping("/api/1.0/bots")
+public class BotController {
+
+    @Autowired
+    private BotManager botManager;
+
+    @RequestMapping(value = "/stats", method = RequestMethod.GET)
+    @ResponseStatus(HttpStatus.OK)
+    public BotStatsResource getBotStats() {
+        return BotStatsResource.fromBotStats(botManager.getBotStats());
+    }
+}
@@ -0,0 +1,86 @@
+package game.controller;
+
+import game.core.DictionaryType;
+import game.data.WordQuery;
+import game.data.WordSearchResult;
+import game.request.parameters.LimitOffsetParam;
+import game.resource.DictionaryStatsResource;
+import game.resource.WordResources;
+import game.services.DictionaryManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.List;
+
+/**
+ * @author Manish Shrestha
+ */
+@RestController
+@RequestMapping("/api/1.0/dictionaries")
+public class DictionaryController {
+
+    @Autowired
+    private DictionaryManager dictionaryManager;
+
+    @RequestMapping(value = "/{name}/stats", method = RequestMethod.GET)
+    @ResponseStatus(HttpStatus.OK)
+    public DictionaryStatsResource getDictionaryStats(@PathVariable("name") String name) {
+        final DictionaryType dictionaryType = DictionaryType.fromName(name);
+        return DictionaryStatsResource.fromDictionaryStats(dictionaryManager.getDictionaryStats(dictionaryType));
+    }
+
+    @RequestMapping(value = "/{name}/anagrams", method = RequestMethod.GET)
+    @ResponseStatus(HttpStatus.OK)
+    public WordResources getAnagrams(@PathVariable("name") String name, @RequestParam("letters") String letters,
+                                     @Valid LimitOffsetParam limitOffsetParam) {
+        final DictionaryType dictionaryType = DictionaryType.fromName(name);
+        final List<String> words = dictionaryManager.findAnagrams(dictionaryType, letters,
+                limitOffsetParam.getOffset(), limitOffsetParam.getLimit());
+        return new WordResources(dictionaryType.getName(), words, limitOffsetParam.getLimit(), limitOffsetParam.getOffset(), false);
+    }
+
+    @RequestMapping(value = "/{name}/words", method = RequestMethod.GET)
+    @ResponseStatus(HttpStatus.OK)
+    public WordResources getWords(@PathVariable("name") String name,
+                                  @RequestParam(value = "pattern", required = false) String pattern,
+                                  @RequestParam(value = "minLength", required = false) Integer minLength,
+                                  @RequestParam(value = "maxLength", required = false) Integer maxLength,
+                                  @RequestParam(value = "containing", required = false) String containing,
+                                  @RequestParam(value = "excluding", required = false) String excluding,
+                                  @Valid LimitOffsetParam limitOffsetParam) {
+        final DictionaryType dictionaryType = DictionaryType.fromName(name);
+        final WordQuery.Builder builder = WordQuery.builder()
+                .setOffset(limitOffsetParam.getOffset())
+                .setLimit(limitOffsetParam.getLimit());
+        if (pattern != null) {
+            builder.setPattern(pattern);
+        }
+        if (minLength != null) {
+            builder.setMinLength(minLength);
+        }
+        if (maxLength != null) {
+            builder.setMaxLength(maxLength);
+        }
+        if (containing != null) {
+            builder.setContaining(containing);
+        }
+        if (excluding != null) {
+            builder.setExcluding(excluding);
+        }
+        final WordSearchResult result = dictionaryManager.findWords(dictionaryType, builder.build());
+        return new WordResources(dictionaryType.getName(), result.getWords(), limitOffsetParam.getLimit(),
+                limitOffsetParam.getOffset(), result.isTimedOut());
+    }
+
+    /**
+     * Starts reloading the dictionary from its source files and returns without waiting for it.
+     */
+    @RequestMapping(value = "/{name}/reload", method = RequestMethod.POST)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void reloadDictionary(@PathVariable("name") String name) {
+        final DictionaryType dictionaryType = DictionaryType.fromName(name);
+        dictionaryManager.reloadDictionary(dictionaryType);
+    }
+}
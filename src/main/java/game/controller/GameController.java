@@ -1,13 +1,19 @@
 package game.controller;
 
 import game.core.*;
+import game.data.MoveSearchResult;
 import game.data.PlayerMove;
 import game.data.dao.UpdateGameOptions;
+import game.data.validation.FailReason;
 import game.request.parameters.*;
 import game.resource.GameResource;
 import game.resource.GameResources;
+import game.resource.HintResource;
+import game.resource.HintResources;
 import game.resource.MoveResource;
 import game.resource.MoveResources;
+import game.resource.MoveValidationResource;
+import game.resource.MoveValidationResources;
 import game.services.MatchManager;
 import game.services.PersonManager;
 import game.viewer.GameView;
@@ -18,9 +24,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -43,8 +51,10 @@ public class GameController {
         int boardSize = createGameParams.getBoardSize();
         int numOfTilesPerPlayer = createGameParams.getTilesPerPlayer();
         List<PlayerParams> playerParams = createGameParams.getPlayers();
+        final String dictionary = createGameParams.getDictionary();
+        final DictionaryType dictionaryType = dictionary == null ? null : DictionaryType.fromName(dictionary);
 
-        final Game game = matchManager.startNewGame(getPlayersFromPlayerParams(playerParams), boardSize, numOfTilesPerPlayer);
+        final Game game = matchManager.startNewGame(getPlayersFromPlayerParams(playerParams), boardSize, numOfTilesPerPlayer, dictionaryType);
         final Player nextTurnPlayer = matchManager.getNextTurnPlayer(game.getId());
         return GameResource.fromGame(game, nextTurnPlayer);
     }
@@ -58,11 +68,10 @@ public class GameController {
         }
         final GameView gameView = builder.build();
         final GamesViewer gamesViewer = matchManager.getGamesViewer(gameView);
-        final List<GameResource> gameResources = gamesViewer.getViewItems(limitOffsetParam.getOffset(), limitOffsetParam.getLimit()).stream()
-                .map(game -> {
-                    final Player nextTurnPlayer = matchManager.getNextTurnPlayer(game.getId());
-                    return GameResource.fromGame(game, nextTurnPlayer);
-                })
+        final List<Game> games = gamesViewer.getViewItems(limitOffsetParam.getOffset(), limitOffsetParam.getLimit());
+        final Map<Integer, Player> nextTurnPlayers = matchManager.getNextTurnPlayers(games);
+        final List<GameResource> gameResources = games.stream()
+                .map(game -> GameResource.fromGame(game, nextTurnPlayers.get(game.getId())))
                 .collect(Collectors.toList());
         final int totalCount = gamesViewer.getViewItemCount();
 
@@ -135,10 +144,38 @@ public class GameController {
         final PlayerMove playerMove = new PlayerMove(word, row, col, moveDirection, player);
 
         Game updatedGame = matchManager.makeMove(game, playerMove);
-        Player nextMovePlayer = matchManager.getNextTurnPlayer(updatedGame.getId());
+        Player nextMovePlayer = updatedGame.getPlayerAfter(order);
         return GameResource.fromGame(updatedGame, nextMovePlayer);
     }
 
+    @RequestMapping(value = "/{id}/move/validations", method = RequestMethod.POST)
+    @ResponseStatus(HttpStatus.OK)
+    public MoveValidationResources validateGameMoves(@PathVariable("id")int id, @Valid @RequestBody ValidateMovesParams validateMovesParams) {
+        final List<PlayerMove> moves = validateMovesParams.getMoves().stream()
+                .map(params -> new PlayerMove(params.getWord(), params.getRow(), params.getColumn(),
+                        MoveDirection.fromId(params.getDirection()), null))
+                .collect(Collectors.toList());
+        final List<Optional<FailReason>> failReasons = matchManager.validateMoves(id, moves);
+        final List<MoveValidationResource> validations = new ArrayList<>(moves.size());
+        for (int idx = 0; idx < moves.size(); idx++) {
+            validations.add(MoveValidationResource.fromValidation(moves.get(idx), failReasons.get(idx)));
+        }
+        return new MoveValidationResources(validations);
+    }
+
+    @RequestMapping(value = "/{id}/hints", method = RequestMethod.GET)
+    @ResponseStatus(HttpStatus.OK)
+    public HintResources getHints(@PathVariable("id")int id, @RequestParam("player") int playerId,
+                                  @RequestParam("rack") String rack,
+                                  @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        final int hintLimit = Math.max(limit, 0);
+        final MoveSearchResult hints = matchManager.getHints(id, playerId, rack, hintLimit);
+        final List<HintResource> hintResources = hints.getMoves().stream()
+                .map(HintResource::fromMoveCandidate)
+                .collect(Collectors.toList());
+        return new HintResources(hintResources, hintLimit, hints.isTimedOut());
+    }
+
     private List<Player> getPlayersFromPlayerParams(List<PlayerParams> playerParams) {
         final Map<Integer, Integer> playerOrderMap = new HashMap<>();
         playerParams.stream().forEach(param -> playerOrderMap.put(param.getId(), param.getOrder()));
@@ -0,0 +1,24 @@
+package game.controller;
+
+import game.resource.ValidationStatsResource;
+import game.services.MatchManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * @author Manish Shrestha
+ */
+@RestController
+@RequestMapping("/api/1.0/validations")
+public class ValidationController {
+
+    @Autowired
+    private MatchManager matchManager;
+
+    @RequestMapping(value = "/stats", method = RequestMethod.GET)
+    @ResponseStatus(HttpStatus.OK)
+    public ValidationStatsResource getValidationStats() {
+        return ValidationStatsResource.fromValidationStats(matchManager.getValidationStats());
+    }
+}
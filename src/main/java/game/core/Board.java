@@ -7,10 +7,41 @@ import java.util.List;
  */
 public interface Board {
 
+    /**
+     * Largest size of a board, the row and the column of a placed letter are stored in one byte each.
+     */
+    int MAX_SIZE = 256;
+
     int getSize();
 
     List<Tile> getTiles();
 
+    /**
+     * Letter on the square, {@code '.'} when it is empty. Boards that keep their letters in an array read it from
+     * there, the default builds the whole matrix.
+     */
+    default char getLetter(int row, int column) {
+        return getBoardMatrix()[row][column];
+    }
+
+    default int getBoost(int row, int column) {
+        for (Tile tile: getTiles()) {
+            if (tile.getRow() == row && tile.getColumn() == column) {
+                return tile.getBoost();
+            }
+        }
+        return 1;
+    }
+
+    default int getCharBoost(int row, int column) {
+        for (Tile tile: getTiles()) {
+            if (tile.getRow() == row && tile.getColumn() == column) {
+                return tile.getCharBoost();
+            }
+        }
+        return 1;
+    }
+
     default char [][] getBoardMatrix() {
         final List<Tile> tiles = getTiles();
         final int size = getSize();
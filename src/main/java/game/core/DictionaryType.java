@@ -1,5 +1,7 @@
 package game.core;
 
+import game.exceptions.IncorrectDictionaryTypeException;
+
 /**
  * @author Manish Shrestha
  */
@@ -29,6 +31,6 @@ public enum DictionaryType {
         } else if (DictionaryType.TWL06.name.equalsIgnoreCase(name)) {
             return DictionaryType.TWL06;
         }
-        throw new RuntimeException("Unsupported dictionary type specified. Dictionary: " + name);
+        throw new IncorrectDictionaryTypeException("Unsupported dictionary type specified. Dictionary: " + name);
     }
 }
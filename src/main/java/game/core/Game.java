@@ -13,4 +13,26 @@ public interface Game {
     Board getBoard();
 
     GameState getState();
+
+    DictionaryType getDictionaryType();
+
+    /**
+     * Number of times the board or state of the game changed since it was created.
+     */
+    default int getVersion() {
+        return 0;
+    }
+
+    /**
+     * Player whose turn follows that of the player of the given order, the first player when the order is 0.
+     */
+    default Player getPlayerAfter(int playerOrder) {
+        final int nextPlayerOrder = playerOrder % getNumberOfPlayers() + 1;
+        for (Player player: getPlayers()) {
+            if (player.getOrder() == nextPlayerOrder) {
+                return player;
+            }
+        }
+        throw new RuntimeException("player " + nextPlayerOrder + " not found for game with id : " + getId());
+    }
 }
@@ -11,4 +11,11 @@ public interface Person {
     String getFirstName();
 
     String getLastName();
+
+    /**
+     * Whether the person is a computer opponent whose moves are made by the server.
+     */
+    default boolean isBot() {
+        return false;
+    }
 }
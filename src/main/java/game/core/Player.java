@@ -8,4 +8,11 @@ public interface Player {
 
     int getOrder();
 
+    /**
+     * Points the player scored in the game so far.
+     */
+    default int getScore() {
+        return 0;
+    }
+
 }
@@ -1,26 +1,149 @@
 package game.core;
 
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 
 /**
+ * Board packed into a single byte array. The first {@code size * size} bytes hold the letter of each square, row by
+ * row, with {@code '.'} for an empty square. The next {@code size * size} bytes hold the premium code of each square,
+ * its word boost in the high four bits and its letter boost in the low four bits.
+ * <p>
+ * Tiles are not kept, {@link #getTiles()} creates them from the array as they are read.
+ *
  * @author Manish Shrestha
  */
 public class StandardBoard implements Board {
-    private final List<Tile> tiles;
+    private static final byte EMPTY = '.';
+    private static final byte NO_PREMIUM = premium(1, 1);
 
+    private final int size;
+    private final byte[] squares;
+
+    /**
+     * Board of the tiles of every square.
+     */
     public StandardBoard(List<Tile> tiles) {
-        this.tiles = tiles;
+        this((int) Math.sqrt(tiles.size()), tiles);
+    }
+
+    /**
+     * Board of the given size, squares without a tile are empty and have no premium.
+     */
+    public StandardBoard(int size, List<Tile> tiles) {
+        this.size = size;
+        this.squares = emptySquares(size);
+        for (Tile tile: tiles) {
+            set(tile.getRow(), tile.getColumn(), tile.getValue(), tile.getBoost(), tile.getCharBoost());
+        }
+    }
+
+    private StandardBoard(int size, byte[] squares) {
+        this.size = size;
+        this.squares = squares;
+    }
+
+    /**
+     * Board of the letters of the matrix, without premium squares.
+     */
+    public static StandardBoard fromMatrix(char[][] boardMatrix) {
+        final StandardBoard board = new StandardBoard(boardMatrix.length, emptySquares(boardMatrix.length));
+        for (int row = 0; row < board.size; row++) {
+            for (int col = 0; col < board.size; col++) {
+                board.set(row, col, boardMatrix[row][col], 1, 1);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Board with the premium squares of this board and the given letters, one byte per square row by row as returned
+     * by {@link #getLetters()}.
+     */
+    public StandardBoard withLetters(byte[] letters) {
+        if (letters.length != size * size) {
+            throw new IllegalArgumentException(letters.length + " letters for a board of size " + size);
+        }
+        final byte[] copy = squares.clone();
+        System.arraycopy(letters, 0, copy, 0, letters.length);
+        return new StandardBoard(size, copy);
     }
 
     @Override
     public int getSize() {
-        return (int)Math.sqrt(tiles.size());
+        return size;
     }
 
     @Override
     public List<Tile> getTiles() {
-        return tiles;
+        return new AbstractList<Tile>() {
+            @Override
+            public Tile get(int index) {
+                if (index < 0 || index >= size()) {
+                    throw new IndexOutOfBoundsException("Tile " + index + " of " + size());
+                }
+                final int row = index / StandardBoard.this.size;
+                final int col = index % StandardBoard.this.size;
+                return new StandardTile(row, col, getLetter(row, col), getBoost(row, col), getCharBoost(row, col));
+            }
+
+            @Override
+            public int size() {
+                return squares.length / 2;
+            }
+        };
+    }
+
+    @Override
+    public char getLetter(int row, int column) {
+        return (char) (squares[row * size + column] & 0xFF);
+    }
+
+    @Override
+    public int getBoost(int row, int column) {
+        return (squares[size * size + row * size + column] >> 4) & 0xF;
+    }
+
+    @Override
+    public int getCharBoost(int row, int column) {
+        return squares[size * size + row * size + column] & 0xF;
+    }
+
+    /**
+     * Letters of the board, one byte per square row by row with {@code '.'} for an empty square.
+     */
+    public byte[] getLetters() {
+        return Arrays.copyOf(squares, size * size);
+    }
+
+    @Override
+    public char[][] getBoardMatrix() {
+        final char[][] boardMatrix = new char[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                boardMatrix[row][col] = getLetter(row, col);
+            }
+        }
+        return boardMatrix;
+    }
+
+    private void set(int row, int column, char value, int boost, int charBoost) {
+        if (value > 0xFF) {
+            throw new IllegalArgumentException("Tile value " + value + " at row " + row + " col " + column + " is not a single byte character");
+        }
+        squares[row * size + column] = (byte) value;
+        squares[size * size + row * size + column] = premium(boost, charBoost);
+    }
+
+    private static byte[] emptySquares(int size) {
+        final byte[] squares = new byte[2 * size * size];
+        Arrays.fill(squares, 0, size * size, EMPTY);
+        Arrays.fill(squares, size * size, squares.length, NO_PREMIUM);
+        return squares;
+    }
+
+    private static byte premium(int boost, int charBoost) {
+        return (byte) ((boost & 0xF) << 4 | (charBoost & 0xF));
     }
 
     @Override
@@ -28,18 +151,29 @@ public class StandardBoard implements Board {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         StandardBoard that = (StandardBoard) o;
-        return Objects.equals(tiles, that.tiles);
+        return size == that.size &&
+                Arrays.equals(squares, that.squares);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(tiles);
+        return 31 * size + Arrays.hashCode(squares);
     }
 
     @Override
     public String toString() {
+        final StringBuilder letters = new StringBuilder(size * (size + 1));
+        for (int row = 0; row < size; row++) {
+            if (row > 0) {
+                letters.append('/');
+            }
+            for (int col = 0; col < size; col++) {
+                letters.append(getLetter(row, col));
+            }
+        }
         return "StandardBoard{" +
-                "tiles=" + tiles +
+                "size=" + size +
+                ", letters=" + letters +
                 '}';
     }
 }
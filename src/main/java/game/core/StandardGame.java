@@ -12,13 +12,21 @@ public class StandardGame implements Game {
     private final Board board;
     private final List<Player> players;
     private final GameState state;
+    private final DictionaryType dictionaryType;
+    private final int version;
 
-    public StandardGame(int id, List<Player> players, Board board, GameState state) {
+    public StandardGame(int id, List<Player> players, Board board, GameState state, DictionaryType dictionaryType) {
+        this(id, players, board, state, dictionaryType, 0);
+    }
+
+    public StandardGame(int id, List<Player> players, Board board, GameState state, DictionaryType dictionaryType, int version) {
         this.id = id;
         this.numberOfPlayers = players.size();
         this.players = players;
         this.board = board;
         this.state = state;
+        this.dictionaryType = dictionaryType;
+        this.version = version;
     }
 
     @Override
@@ -46,6 +54,16 @@ public class StandardGame implements Game {
         return state;
     }
 
+    @Override
+    public DictionaryType getDictionaryType() {
+        return dictionaryType;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -53,12 +71,14 @@ public class StandardGame implements Game {
         StandardGame that = (StandardGame) o;
         return id == that.id &&
                 Objects.equals(board, that.board) &&
-                state == that.state;
+                state == that.state &&
+                dictionaryType == that.dictionaryType &&
+                version == that.version;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, board, state);
+        return Objects.hash(id, board, state, dictionaryType, version);
     }
 
     @Override
@@ -69,6 +89,8 @@ public class StandardGame implements Game {
                 ", board=" + board +
                 ", players=" + players +
                 ", state=" + state +
+                ", dictionaryType=" + dictionaryType +
+                ", version=" + version +
                 '}';
     }
 }
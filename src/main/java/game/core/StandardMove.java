@@ -13,14 +13,20 @@ public class StandardMove implements Move {
     private final MoveDirection moveDirection;
     private final Player player;
     private final long time;
+    private final int points;
 
     public StandardMove(String word, int row, int column, MoveDirection moveDirection, Player player, long time) {
+        this(word, row, column, moveDirection, player, time, word.length());
+    }
+
+    public StandardMove(String word, int row, int column, MoveDirection moveDirection, Player player, long time, int points) {
         this.word = word;
         this.row = row;
         this.column = column;
         this.moveDirection = moveDirection;
         this.player = player;
         this.time = time;
+        this.points = points;
     }
 
     @Override
@@ -53,6 +59,11 @@ public class StandardMove implements Move {
         return time;
     }
 
+    @Override
+    public int getPoints() {
+        return points;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -61,6 +72,7 @@ public class StandardMove implements Move {
         return row == that.row &&
                 column == that.column &&
                 time == that.time &&
+                points == that.points &&
                 Objects.equals(word, that.word) &&
                 moveDirection == that.moveDirection &&
                 Objects.equals(player, that.player);
@@ -68,7 +80,7 @@ public class StandardMove implements Move {
 
     @Override
     public int hashCode() {
-        return Objects.hash(word, row, column, moveDirection, player, time);
+        return Objects.hash(word, row, column, moveDirection, player, time, points);
     }
 
     @Override
@@ -80,6 +92,7 @@ public class StandardMove implements Move {
                 ", moveDirection=" + moveDirection +
                 ", player=" + player +
                 ", time=" + time +
+                ", points=" + points +
                 '}';
     }
 }
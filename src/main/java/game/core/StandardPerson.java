@@ -10,12 +10,18 @@ public class StandardPerson implements Person {
     private final String userName;
     private final String firstName;
     private final String lastName;
+    private final boolean bot;
 
     public StandardPerson(int id, String userName, String firstName, String lastName) {
+        this(id, userName, firstName, lastName, false);
+    }
+
+    public StandardPerson(int id, String userName, String firstName, String lastName, boolean bot) {
         this.id = id;
         this.userName = userName;
         this.firstName = firstName;
         this.lastName = lastName;
+        this.bot = bot;
     }
 
     @Override
@@ -38,6 +44,11 @@ public class StandardPerson implements Person {
         return lastName;
     }
 
+    @Override
+    public boolean isBot() {
+        return bot;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -58,6 +69,7 @@ public class StandardPerson implements Person {
                 ", userName='" + userName + '\'' +
                 ", firstName='" + firstName + '\'' +
                 ", lastName='" + lastName + '\'' +
+                ", bot=" + bot +
                 '}';
     }
 }
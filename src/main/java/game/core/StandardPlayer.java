@@ -8,10 +8,19 @@ import java.util.Objects;
 public class StandardPlayer implements Player {
     private final Person person;
     private final int order;
+    private final int score;
 
     public StandardPlayer(Person person, int order) {
+        this(person, order, 0);
+    }
+
+    /**
+     * The score is not part of the identity of a player, a player equals itself at any point of the game.
+     */
+    public StandardPlayer(Person person, int order, int score) {
         this.person = person;
         this.order = order;
+        this.score = score;
     }
 
     @Override
@@ -24,6 +33,11 @@ public class StandardPlayer implements Player {
         return order;
     }
 
+    @Override
+    public int getScore() {
+        return score;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -43,6 +57,7 @@ public class StandardPlayer implements Player {
         return "StandardPlayer{" +
                 "person=" + person +
                 ", order=" + order +
+                ", score=" + score +
                 '}';
     }
 }
@@ -0,0 +1,51 @@
+package game.data;
+
+/**
+ * Snapshot of the executor computing the moves of computer opponents.
+ *
+ * @author Manish Shrestha
+ */
+public class BotStats {
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final int activeMoves;
+    private final long completedMoves;
+    private final long rejectedMoves;
+
+    public BotStats(int queueDepth, int queueCapacity, int activeMoves, long completedMoves, long rejectedMoves) {
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.activeMoves = activeMoves;
+        this.completedMoves = completedMoves;
+        this.rejectedMoves = rejectedMoves;
+    }
+
+    /**
+     * Bot turns waiting for a thread.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Bot turns being computed right now.
+     */
+    public int getActiveMoves() {
+        return activeMoves;
+    }
+
+    public long getCompletedMoves() {
+        return completedMoves;
+    }
+
+    /**
+     * Bot turns dropped because the queue was full.
+     */
+    public long getRejectedMoves() {
+        return rejectedMoves;
+    }
+}
@@ -0,0 +1,182 @@
+package game.data;
+
+import game.core.DictionaryType;
+
+/**
+ * Size of a dictionary index and of its filter, and the lookups it served since it was created.
+ *
+ * @author Manish Shrestha
+ */
+public class DictionaryStats {
+    private final DictionaryType dictionaryType;
+    private final boolean loaded;
+    private final int wordCount;
+    private final int nodeCount;
+    private final int edgeCount;
+    private final int filterSizeInBytes;
+    private final int filterHashCount;
+    private final double filterFalsePositiveRate;
+    private final long lookups;
+    private final long filterRejections;
+    private final long filterFalsePositives;
+
+    private DictionaryStats(Builder builder) {
+        dictionaryType = builder.dictionaryType;
+        loaded = builder.loaded;
+        wordCount = builder.wordCount;
+        nodeCount = builder.nodeCount;
+        edgeCount = builder.edgeCount;
+        filterSizeInBytes = builder.filterSizeInBytes;
+        filterHashCount = builder.filterHashCount;
+        filterFalsePositiveRate = builder.filterFalsePositiveRate;
+        lookups = builder.lookups;
+        filterRejections = builder.filterRejections;
+        filterFalsePositives = builder.filterFalsePositives;
+    }
+
+    public DictionaryType getDictionaryType() {
+        return dictionaryType;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public int getFilterSizeInBytes() {
+        return filterSizeInBytes;
+    }
+
+    public int getFilterHashCount() {
+        return filterHashCount;
+    }
+
+    /**
+     * False positive rate the filter was configured with.
+     */
+    public double getFilterFalsePositiveRate() {
+        return filterFalsePositiveRate;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    /**
+     * Lookups answered by the filter alone.
+     */
+    public long getFilterRejections() {
+        return filterRejections;
+    }
+
+    /**
+     * Lookups the filter let through for words that are not in the dictionary.
+     */
+    public long getFilterFalsePositives() {
+        return filterFalsePositives;
+    }
+
+    @Override
+    public String toString() {
+        return "DictionaryStats{" +
+                "dictionaryType=" + dictionaryType +
+                ", loaded=" + loaded +
+                ", wordCount=" + wordCount +
+                ", nodeCount=" + nodeCount +
+                ", edgeCount=" + edgeCount +
+                ", filterSizeInBytes=" + filterSizeInBytes +
+                ", filterHashCount=" + filterHashCount +
+                ", filterFalsePositiveRate=" + filterFalsePositiveRate +
+                ", lookups=" + lookups +
+                ", filterRejections=" + filterRejections +
+                ", filterFalsePositives=" + filterFalsePositives +
+                '}';
+    }
+
+    public static class Builder {
+        private final DictionaryType dictionaryType;
+        private boolean loaded;
+        private int wordCount;
+        private int nodeCount;
+        private int edgeCount;
+        private int filterSizeInBytes;
+        private int filterHashCount;
+        private double filterFalsePositiveRate;
+        private long lookups;
+        private long filterRejections;
+        private long filterFalsePositives;
+
+        private Builder(DictionaryType dictionaryType) {
+            this.dictionaryType = dictionaryType;
+        }
+
+        public Builder setLoaded(boolean loaded) {
+            this.loaded = loaded;
+            return this;
+        }
+
+        public Builder setWordCount(int wordCount) {
+            this.wordCount = wordCount;
+            return this;
+        }
+
+        public Builder setNodeCount(int nodeCount) {
+            this.nodeCount = nodeCount;
+            return this;
+        }
+
+        public Builder setEdgeCount(int edgeCount) {
+            this.edgeCount = edgeCount;
+            return this;
+        }
+
+        public Builder setFilterSizeInBytes(int filterSizeInBytes) {
+            this.filterSizeInBytes = filterSizeInBytes;
+            return this;
+        }
+
+        public Builder setFilterHashCount(int filterHashCount) {
+            this.filterHashCount = filterHashCount;
+            return this;
+        }
+
+        public Builder setFilterFalsePositiveRate(double filterFalsePositiveRate) {
+            this.filterFalsePositiveRate = filterFalsePositiveRate;
+            return this;
+        }
+
+        public Builder setLookups(long lookups) {
+            this.lookups = lookups;
+            return this;
+        }
+
+        public Builder setFilterRejections(long filterRejections) {
+            this.filterRejections = filterRejections;
+            return this;
+        }
+
+        public Builder setFilterFalsePositives(long filterFalsePositives) {
+            this.filterFalsePositives = filterFalsePositives;
+            return this;
+        }
+
+        public DictionaryStats build() {
+            return new DictionaryStats(this);
+        }
+    }
+
+    public static Builder builder(DictionaryType dictionaryType) {
+        return new Builder(dictionaryType);
+    }
+}
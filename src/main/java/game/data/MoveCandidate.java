@@ -0,0 +1,83 @@
+package game.data;
+
+import game.core.MoveDirection;
+
+import java.util.Objects;
+
+/**
+ * A legal play found by the move generator. The word includes the letters already on the board, and tiles used are
+ * the letters the play takes from the rack with {@code ?} for a blank.
+ *
+ * @author Manish Shrestha
+ */
+public final class MoveCandidate {
+    private final String word;
+    private final int row;
+    private final int column;
+    private final MoveDirection moveDirection;
+    private final int score;
+    private final String tilesUsed;
+
+    public MoveCandidate(String word, int row, int column, MoveDirection moveDirection, int score, String tilesUsed) {
+        this.word = word;
+        this.row = row;
+        this.column = column;
+        this.moveDirection = moveDirection;
+        this.score = score;
+        this.tilesUsed = tilesUsed;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public MoveDirection getMoveDirection() {
+        return moveDirection;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public String getTilesUsed() {
+        return tilesUsed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MoveCandidate that = (MoveCandidate) o;
+        return row == that.row &&
+                column == that.column &&
+                score == that.score &&
+                Objects.equals(word, that.word) &&
+                moveDirection == that.moveDirection &&
+                Objects.equals(tilesUsed, that.tilesUsed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(word, row, column, moveDirection, score, tilesUsed);
+    }
+
+    @Override
+    public String toString() {
+        return "MoveCandidate{" +
+                "word='" + word + '\'' +
+                ", row=" + row +
+                ", column=" + column +
+                ", moveDirection=" + moveDirection +
+                ", score=" + score +
+                ", tilesUsed='" + tilesUsed + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,27 @@
+package game.data;
+
+import java.util.List;
+
+/**
+ * Plays found by the move generator, highest score first. When the search ran out of time the plays are the best of
+ * the ones found until then.
+ *
+ * @author Manish Shrestha
+ */
+public class MoveSearchResult {
+    private final List<MoveCandidate> moves;
+    private final boolean timedOut;
+
+    public MoveSearchResult(List<MoveCandidate> moves, boolean timedOut) {
+        this.moves = moves;
+        this.timedOut = timedOut;
+    }
+
+    public List<MoveCandidate> getMoves() {
+        return moves;
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+}
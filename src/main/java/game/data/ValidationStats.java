@@ -0,0 +1,39 @@
+package game.data;
+
+/**
+ * Snapshot of the cache answering repeated validations of a move against the same version of a board.
+ *
+ * @author Manish Shrestha
+ */
+public class ValidationStats {
+    private final long cacheHits;
+    private final long cacheMisses;
+    private final int cacheSize;
+    private final int cacheMaxSize;
+
+    public ValidationStats(long cacheHits, long cacheMisses, int cacheSize, int cacheMaxSize) {
+        this.cacheHits = cacheHits;
+        this.cacheMisses = cacheMisses;
+        this.cacheSize = cacheSize;
+        this.cacheMaxSize = cacheMaxSize;
+    }
+
+    /**
+     * Validations answered from the cache.
+     */
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+}
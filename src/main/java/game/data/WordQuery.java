@@ -0,0 +1,126 @@
+package game.data;
+
+/**
+ * Search for dictionary words by pattern and letters. In the pattern {@code ?} stands for any one letter and
+ * {@code *} for any number of letters, including none. The letters a word must contain are counted, so {@code EE}
+ * only matches words with at least two E's.
+ *
+ * @author Manish Shrestha
+ */
+public class WordQuery {
+    private final String pattern;
+    private final int minLength;
+    private final int maxLength;
+    private final String containing;
+    private final String excluding;
+    private final int offset;
+    private final int limit;
+    private final long timeBudgetMillis;
+
+    private WordQuery(Builder builder) {
+        pattern = builder.pattern;
+        minLength = builder.minLength;
+        maxLength = builder.maxLength;
+        containing = builder.containing;
+        excluding = builder.excluding;
+        offset = builder.offset;
+        limit = builder.limit;
+        timeBudgetMillis = builder.timeBudgetMillis;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public String getContaining() {
+        return containing;
+    }
+
+    public String getExcluding() {
+        return excluding;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Time the search may take before it returns the words found so far, 0 to use the configured budget.
+     */
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    public static class Builder {
+        private String pattern = "*";
+        private int minLength = 1;
+        private int maxLength = Integer.MAX_VALUE;
+        private String containing = "";
+        private String excluding = "";
+        private int offset = 0;
+        private int limit = 50;
+        private long timeBudgetMillis = 0;
+
+        private Builder() {}
+
+        public Builder setPattern(String pattern) {
+            this.pattern = pattern;
+            return this;
+        }
+
+        public Builder setMinLength(int minLength) {
+            this.minLength = minLength;
+            return this;
+        }
+
+        public Builder setMaxLength(int maxLength) {
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        public Builder setContaining(String containing) {
+            this.containing = containing;
+            return this;
+        }
+
+        public Builder setExcluding(String excluding) {
+            this.excluding = excluding;
+            return this;
+        }
+
+        public Builder setOffset(int offset) {
+            this.offset = offset;
+            return this;
+        }
+
+        public Builder setLimit(int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public Builder setTimeBudgetMillis(long timeBudgetMillis) {
+            this.timeBudgetMillis = timeBudgetMillis;
+            return this;
+        }
+
+        public WordQuery build() {
+            return new WordQuery(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+}
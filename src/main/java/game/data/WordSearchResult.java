@@ -0,0 +1,26 @@
+package game.data;
+
+import java.util.List;
+
+/**
+ * Words found by a {@link WordQuery}. When the search ran out of time the words are the ones found until then.
+ *
+ * @author Manish Shrestha
+ */
+public class WordSearchResult {
+    private final List<String> words;
+    private final boolean timedOut;
+
+    public WordSearchResult(List<String> words, boolean timedOut) {
+        this.words = words;
+        this.timedOut = timedOut;
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+}
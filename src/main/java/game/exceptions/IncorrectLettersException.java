@@ -0,0 +1,19 @@
+package game.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Manish Shrestha
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class IncorrectLettersException extends RuntimeException {
+
+    public IncorrectLettersException(String msg, Exception e) {
+        super(msg, e);
+    }
+
+    public IncorrectLettersException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,82 @@
+package game.request.parameters;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.lang.NonNull;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.PositiveOrZero;
+import java.util.Objects;
+
+/**
+ * A move that is only validated, so it needs no player.
+ *
+ * @author Manish Shrestha
+ */
+public class CandidateMoveParams {
+
+    @NonNull
+    @NotEmpty
+    private final String word;
+
+    @PositiveOrZero
+    private final int row;
+
+    @PositiveOrZero
+    private final int column;
+
+    private final int direction;
+
+    @JsonCreator
+    public CandidateMoveParams(@JsonProperty(value = "word", required = true) String word,
+                               @JsonProperty(value = "row", required = true) int row,
+                               @JsonProperty(value = "column", required = true) int column,
+                               @JsonProperty(value = "direction", required = true) int direction) {
+        this.word = word;
+        this.row = row;
+        this.column = column;
+        this.direction = direction;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public int getDirection() {
+        return direction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CandidateMoveParams that = (CandidateMoveParams) o;
+        return row == that.row &&
+                column == that.column &&
+                direction == that.direction &&
+                Objects.equals(word, that.word);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(word, row, column, direction);
+    }
+
+    @Override
+    public String toString() {
+        return "CandidateMoveParams{" +
+                "word='" + word + '\'' +
+                ", row=" + row +
+                ", column=" + column +
+                ", direction=" + direction +
+                '}';
+    }
+}
@@ -2,8 +2,10 @@ package game.request.parameters;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import game.core.Board;
 import game.validators.PlayerParamsInOrder;
 
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.PositiveOrZero;
 import java.util.List;
@@ -15,6 +17,7 @@ import java.util.Objects;
 public class CreateGameParams {
 
     @PositiveOrZero
+    @Max(Board.MAX_SIZE)
     private final int boardSize;
 
     @NotEmpty
@@ -24,13 +27,21 @@ public class CreateGameParams {
     @PositiveOrZero
     private final int tilesPerPlayer;
 
+    private final String dictionary;
+
     @JsonCreator
     public CreateGameParams(@JsonProperty(value = "boardSize", defaultValue = "15") int boardSize,
                             @JsonProperty(value = "players", required = true) List<PlayerParams> players,
-                            @JsonProperty(value = "tilesPerPlayer", defaultValue = "100") int tilesPerPlayer) {
+                            @JsonProperty(value = "tilesPerPlayer", defaultValue = "100") int tilesPerPlayer,
+                            @JsonProperty(value = "dictionary") String dictionary) {
         this.boardSize = boardSize;
         this.players = players;
         this.tilesPerPlayer = tilesPerPlayer;
+        this.dictionary = dictionary;
+    }
+
+    public CreateGameParams(int boardSize, List<PlayerParams> players, int tilesPerPlayer) {
+        this(boardSize, players, tilesPerPlayer, null);
     }
 
     public int getBoardSize() {
@@ -45,6 +56,10 @@ public class CreateGameParams {
         return tilesPerPlayer;
     }
 
+    public String getDictionary() {
+        return dictionary;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -52,12 +67,13 @@ public class CreateGameParams {
         CreateGameParams that = (CreateGameParams) o;
         return boardSize == that.boardSize &&
                 tilesPerPlayer == that.tilesPerPlayer &&
-                Objects.equals(players, that.players);
+                Objects.equals(players, that.players) &&
+                Objects.equals(dictionary, that.dictionary);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(boardSize, players, tilesPerPlayer);
+        return Objects.hash(boardSize, players, tilesPerPlayer, dictionary);
     }
 
     @Override
@@ -66,6 +82,7 @@ public class CreateGameParams {
                 "boardSize=" + boardSize +
                 ", players=" + players +
                 ", tilesPerPlayer=" + tilesPerPlayer +
+                ", dictionary=" + dictionary +
                 '}';
     }
 }
@@ -2,8 +2,10 @@ package game.request.parameters;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import game.core.Board;
 import game.validators.PlayerParamsInOrder;
 
+import javax.validation.constraints.Max;
 import javax.validation.constraints.PositiveOrZero;
 import java.util.List;
 import java.util.Objects;
@@ -14,6 +16,7 @@ import java.util.Objects;
 public class UpdateGameParams {
 
     @PositiveOrZero
+    @Max(Board.MAX_SIZE)
     private final Integer boardSize;
 
     @PlayerParamsInOrder
@@ -26,6 +29,7 @@ public class UpdateGameParams {
 
     @JsonCreator
     public UpdateGameParams(@PositiveOrZero
+                            @Max(Board.MAX_SIZE)
                             @JsonProperty("boardSize") Integer boardSize,
                             @JsonProperty("players") List<PlayerParams> players,
                             @PositiveOrZero
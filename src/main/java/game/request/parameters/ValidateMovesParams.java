@@ -0,0 +1,51 @@
+package game.request.parameters;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Manish Shrestha
+ */
+public class ValidateMovesParams {
+    public static final int MAX_MOVES = 500;
+
+    @Valid
+    @NotEmpty
+    @Size(max = MAX_MOVES)
+    private final List<CandidateMoveParams> moves;
+
+    @JsonCreator
+    public ValidateMovesParams(@JsonProperty(value = "moves", required = true) List<CandidateMoveParams> moves) {
+        this.moves = moves;
+    }
+
+    public List<CandidateMoveParams> getMoves() {
+        return moves;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ValidateMovesParams that = (ValidateMovesParams) o;
+        return Objects.equals(moves, that.moves);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moves);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidateMovesParams{" +
+                "moves=" + moves +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+package game.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import game.data.BotStats;
+import org.springframework.lang.NonNull;
+
+import java.util.Objects;
+
+/**
+ * @author Manish Shrestha
+ */
+@JsonRootName("botStats")
+public final class BotStatsResource {
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final int activeMoves;
+    private final long completedMoves;
+    private final long rejectedMoves;
+
+    @JsonCreator
+    public BotStatsResource(@JsonProperty("queueDepth") int queueDepth,
+                            @JsonProperty("queueCapacity") int queueCapacity,
+                            @JsonProperty("activeMoves") int activeMoves,
+                            @JsonProperty("completedMoves") long completedMoves,
+                            @JsonProperty("rejectedMoves") long rejectedMoves) {
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.activeMoves = activeMoves;
+        this.completedMoves = completedMoves;
+        this.rejectedMoves = rejectedMoves;
+    }
+
+    public final int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public final int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public final int getActiveMoves() {
+        return activeMoves;
+    }
+
+    public final long getCompletedMoves() {
+        return completedMoves;
+    }
+
+    public final long getRejectedMoves() {
+        return rejectedMoves;
+    }
+
+    @JsonIgnore
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BotStatsResource that = (BotStatsResource) o;
+        return queueDepth == that.queueDepth &&
+                queueCapacity == that.queueCapacity &&
+                activeMoves == that.activeMoves &&
+                completedMoves == that.completedMoves &&
+                rejectedMoves == that.rejectedMoves;
+    }
+
+    @JsonIgnore
+    @Override
+    public int hashCode() {
+        return Objects.hash(queueDepth, queueCapacity, activeMoves, completedMoves, rejectedMoves);
+    }
+
+    @JsonIgnore
+    @Override
+    public String toString() {
+        return "BotStatsResource{" +
+                "queueDepth=" + queueDepth +
+                ", queueCapacity=" + queueCapacity +
+                ", activeMoves=" + activeMoves +
+                ", completedMoves=" + completedMoves +
+                ", rejectedMoves=" + rejectedMoves +
+                '}';
+    }
+
+    @JsonIgnore
+    public static BotStatsResource fromBotStats(@NonNull BotStats stats) {
+        return new BotStatsResource(stats.getQueueDepth(), stats.getQueueCapacity(), stats.getActiveMoves(),
+                stats.getCompletedMoves(), stats.getRejectedMoves());
+    }
+}
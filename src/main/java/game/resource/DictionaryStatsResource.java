@@ -0,0 +1,179 @@
+package game.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import game.data.DictionaryStats;
+import org.springframework.lang.NonNull;
+
+import java.util.Objects;
+
+/**
+ * @author Manish Shrestha
+ */
+@JsonRootName("dictionaryStats")
+public final class DictionaryStatsResource {
+    private final String dictionary;
+    private final boolean loaded;
+    private final int wordCount;
+    private final int nodeCount;
+    private final int edgeCount;
+    private final int filterSizeInBytes;
+    private final int filterHashCount;
+    private final double filterFalsePositiveRate;
+    private final long lookups;
+    private final long filterRejections;
+    private final long filterFalsePositives;
+    private final double filterHitRate;
+    private final double observedFalsePositiveRate;
+
+    @JsonCreator
+    public DictionaryStatsResource(@JsonProperty("dictionary") String dictionary,
+                                   @JsonProperty("loaded") boolean loaded,
+                                   @JsonProperty("wordCount") int wordCount,
+                                   @JsonProperty("nodeCount") int nodeCount,
+                                   @JsonProperty("edgeCount") int edgeCount,
+                                   @JsonProperty("filterSizeInBytes") int filterSizeInBytes,
+                                   @JsonProperty("filterHashCount") int filterHashCount,
+                                   @JsonProperty("filterFalsePositiveRate") double filterFalsePositiveRate,
+                                   @JsonProperty("lookups") long lookups,
+                                   @JsonProperty("filterRejections") long filterRejections,
+                                   @JsonProperty("filterFalsePositives") long filterFalsePositives,
+                                   @JsonProperty("filterHitRate") double filterHitRate,
+                                   @JsonProperty("observedFalsePositiveRate") double observedFalsePositiveRate) {
+        this.dictionary = dictionary;
+        this.loaded = loaded;
+        this.wordCount = wordCount;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.filterSizeInBytes = filterSizeInBytes;
+        this.filterHashCount = filterHashCount;
+        this.filterFalsePositiveRate = filterFalsePositiveRate;
+        this.lookups = lookups;
+        this.filterRejections = filterRejections;
+        this.filterFalsePositives = filterFalsePositives;
+        this.filterHitRate = filterHitRate;
+        this.observedFalsePositiveRate = observedFalsePositiveRate;
+    }
+
+    public final String getDictionary() {
+        return dictionary;
+    }
+
+    public final boolean isLoaded() {
+        return loaded;
+    }
+
+    public final int getWordCount() {
+        return wordCount;
+    }
+
+    public final int getNodeCount() {
+        return nodeCount;
+    }
+
+    public final int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public final int getFilterSizeInBytes() {
+        return filterSizeInBytes;
+    }
+
+    public final int getFilterHashCount() {
+        return filterHashCount;
+    }
+
+    public final double getFilterFalsePositiveRate() {
+        return filterFalsePositiveRate;
+    }
+
+    public final long getLookups() {
+        return lookups;
+    }
+
+    public final long getFilterRejections() {
+        return filterRejections;
+    }
+
+    public final long getFilterFalsePositives() {
+        return filterFalsePositives;
+    }
+
+    public final double getFilterHitRate() {
+        return filterHitRate;
+    }
+
+    public final double getObservedFalsePositiveRate() {
+        return observedFalsePositiveRate;
+    }
+
+    @JsonIgnore
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DictionaryStatsResource that = (DictionaryStatsResource) o;
+        return loaded == that.loaded &&
+                wordCount == that.wordCount &&
+                nodeCount == that.nodeCount &&
+                edgeCount == that.edgeCount &&
+                filterSizeInBytes == that.filterSizeInBytes &&
+                filterHashCount == that.filterHashCount &&
+                Double.compare(that.filterFalsePositiveRate, filterFalsePositiveRate) == 0 &&
+                lookups == that.lookups &&
+                filterRejections == that.filterRejections &&
+                filterFalsePositives == that.filterFalsePositives &&
+                Double.compare(that.filterHitRate, filterHitRate) == 0 &&
+                Double.compare(that.observedFalsePositiveRate, observedFalsePositiveRate) == 0 &&
+                Objects.equals(dictionary, that.dictionary);
+    }
+
+    @JsonIgnore
+    @Override
+    public int hashCode() {
+        return Objects.hash(dictionary, loaded, wordCount, nodeCount, edgeCount, filterSizeInBytes, filterHashCount,
+                filterFalsePositiveRate, lookups, filterRejections, filterFalsePositives, filterHitRate,
+                observedFalsePositiveRate);
+    }
+
+    @JsonIgnore
+    @Override
+    public String toString() {
+        return "DictionaryStatsResource{" +
+                "dictionary='" + dictionary + '\'' +
+                ", loaded=" + loaded +
+                ", wordCount=" + wordCount +
+                ", nodeCount=" + nodeCount +
+                ", edgeCount=" + edgeCount +
+                ", filterSizeInBytes=" + filterSizeInBytes +
+                ", filterHashCount=" + filterHashCount +
+                ", filterFalsePositiveRate=" + filterFalsePositiveRate +
+                ", lookups=" + lookups +
+                ", filterRejections=" + filterRejections +
+                ", filterFalsePositives=" + filterFalsePositives +
+                ", filterHitRate=" + filterHitRate +
+                ", observedFalsePositiveRate=" + observedFalsePositiveRate +
+                '}';
+    }
+
+    /**
+     * The hit rate is the share of lookups answered by the filter alone. The observed false positive rate is the
+     * share of words not in the dictionary that the filter let through.
+     */
+    @JsonIgnore
+    public static DictionaryStatsResource fromDictionaryStats(@NonNull DictionaryStats stats) {
+        final long lookups = stats.getLookups();
+        final long rejections = stats.getFilterRejections();
+        final long falsePositives = stats.getFilterFalsePositives();
+        final long misses = rejections + falsePositives;
+        final double hitRate = lookups == 0 ? 0 : (double) rejections / lookups;
+        final double observedFalsePositiveRate = misses == 0 ? 0 : (double) falsePositives / misses;
+
+        return new DictionaryStatsResource(stats.getDictionaryType().getName(), stats.isLoaded(), stats.getWordCount(),
+                stats.getNodeCount(), stats.getEdgeCount(), stats.getFilterSizeInBytes(), stats.getFilterHashCount(),
+                stats.getFilterFalsePositiveRate(), lookups, rejections, falsePositives, hitRate,
+                observedFalsePositiveRate);
+    }
+}
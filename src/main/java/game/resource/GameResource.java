@@ -22,6 +22,7 @@ public final class GameResource {
     private final BoardResource board;
     private final List<PlayerResource> players;
     private final int state;
+    private final String dictionary;
     private final PlayerResource nextTurnPlayer;
 
     @JsonCreator
@@ -29,11 +30,13 @@ public final class GameResource {
                         @JsonProperty("board") BoardResource board,
                         @JsonProperty("players") List<PlayerResource> players,
                         @JsonProperty("state") int state,
+                        @JsonProperty("dictionary") String dictionary,
                         @JsonProperty("nextTurnPlayer") PlayerResource nextTurnPlayer) {
         this.id = id;
         this.board = board;
         this.players = players;
         this.state = state;
+        this.dictionary = dictionary;
         this.nextTurnPlayer = nextTurnPlayer;
     }
 
@@ -53,6 +56,10 @@ public final class GameResource {
         return state;
     }
 
+    public final String getDictionary() {
+        return dictionary;
+    }
+
     public final PlayerResource getNextTurnPlayer() {
         return nextTurnPlayer;
     }
@@ -64,6 +71,7 @@ public final class GameResource {
         GameResource that = (GameResource) o;
         return id == that.id &&
                 state == that.state &&
+                Objects.equals(dictionary, that.dictionary) &&
                 Objects.equals(board, that.board) &&
                 Objects.equals(players, that.players) &&
                 Objects.equals(nextTurnPlayer, that.nextTurnPlayer);
@@ -71,7 +79,7 @@ public final class GameResource {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, board, players, state, nextTurnPlayer);
+        return Objects.hash(id, board, players, state, dictionary, nextTurnPlayer);
     }
 
     @Override
@@ -81,6 +89,7 @@ public final class GameResource {
                 ", board=" + board +
                 ", players=" + players +
                 ", state=" + state +
+                ", dictionary=" + dictionary +
                 ", nextTurnPlayer=" + nextTurnPlayer +
                 '}';
     }
@@ -92,7 +101,8 @@ public final class GameResource {
         game.getPlayers().forEach(player -> players.add(PlayerResource.fromPlayer(player)));
         final PlayerResource nextTurnPlayerResource = PlayerResource.fromPlayer(nextTurnPlayer);
         final GameState state = game.getState();
+        final String dictionary = game.getDictionaryType().getName();
 
-        return new GameResource(game.getId(), boardResource, players, state.getStateId(), nextTurnPlayerResource);
+        return new GameResource(game.getId(), boardResource, players, state.getStateId(), dictionary, nextTurnPlayerResource);
     }
 }
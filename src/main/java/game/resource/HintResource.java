@@ -0,0 +1,94 @@
+package game.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import game.data.MoveCandidate;
+
+import java.util.Objects;
+
+/**
+ * @author Manish Shrestha
+ */
+public final class HintResource {
+
+    private final String word;
+    private final int row;
+    private final int column;
+    private final int direction;
+    private final int points;
+    private final String tilesUsed;
+
+    @JsonCreator
+    public HintResource(@JsonProperty("word") String word,
+                        @JsonProperty("row") int row,
+                        @JsonProperty("column") int column,
+                        @JsonProperty("direction") int direction,
+                        @JsonProperty("points") int points,
+                        @JsonProperty("tilesUsed") String tilesUsed) {
+        this.word = word;
+        this.row = row;
+        this.column = column;
+        this.direction = direction;
+        this.points = points;
+        this.tilesUsed = tilesUsed;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public int getDirection() {
+        return direction;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public String getTilesUsed() {
+        return tilesUsed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HintResource that = (HintResource) o;
+        return row == that.row &&
+                column == that.column &&
+                direction == that.direction &&
+                points == that.points &&
+                Objects.equals(word, that.word) &&
+                Objects.equals(tilesUsed, that.tilesUsed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(word, row, column, direction, points, tilesUsed);
+    }
+
+    @Override
+    public String toString() {
+        return "HintResource{" +
+                "word='" + word + '\'' +
+                ", row=" + row +
+                ", column=" + column +
+                ", direction=" + direction +
+                ", points=" + points +
+                ", tilesUsed='" + tilesUsed + '\'' +
+                '}';
+    }
+
+    public static HintResource fromMoveCandidate(MoveCandidate moveCandidate) {
+        return new HintResource(moveCandidate.getWord(), moveCandidate.getRow(), moveCandidate.getColumn(),
+                moveCandidate.getMoveDirection().getDirectionId(), moveCandidate.getScore(), moveCandidate.getTilesUsed());
+    }
+}
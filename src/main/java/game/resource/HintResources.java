@@ -0,0 +1,61 @@
+package game.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Manish Shrestha
+ */
+public class HintResources {
+    private final List<HintResource> hints;
+    private final int limit;
+    private final boolean timedOut;
+
+    @JsonCreator
+    public HintResources(@JsonProperty("hints") List<HintResource> hints,
+                         @JsonProperty("limit") int limit,
+                         @JsonProperty("timedOut") boolean timedOut) {
+        this.hints = hints;
+        this.limit = limit;
+        this.timedOut = timedOut;
+    }
+
+    public List<HintResource> getHints() {
+        return hints;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HintResources that = (HintResources) o;
+        return limit == that.limit &&
+                timedOut == that.timedOut &&
+                Objects.equals(hints, that.hints);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hints, limit, timedOut);
+    }
+
+    @Override
+    public String toString() {
+        return "HintResources{" +
+                "hints=" + hints +
+                ", limit=" + limit +
+                ", timedOut=" + timedOut +
+                '}';
+    }
+}
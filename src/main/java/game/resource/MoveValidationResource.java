@@ -0,0 +1,97 @@
+package game.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import game.data.PlayerMove;
+import game.data.validation.FailReason;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * @author Manish Shrestha
+ */
+public final class MoveValidationResource {
+
+    private final String word;
+    private final int row;
+    private final int column;
+    private final int direction;
+    private final boolean valid;
+    private final String reason;
+
+    @JsonCreator
+    public MoveValidationResource(@JsonProperty("word") String word,
+                                  @JsonProperty("row") int row,
+                                  @JsonProperty("column") int column,
+                                  @JsonProperty("direction") int direction,
+                                  @JsonProperty("valid") boolean valid,
+                                  @JsonProperty("reason") String reason) {
+        this.word = word;
+        this.row = row;
+        this.column = column;
+        this.direction = direction;
+        this.valid = valid;
+        this.reason = reason;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public int getDirection() {
+        return direction;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MoveValidationResource that = (MoveValidationResource) o;
+        return row == that.row &&
+                column == that.column &&
+                direction == that.direction &&
+                valid == that.valid &&
+                Objects.equals(word, that.word) &&
+                Objects.equals(reason, that.reason);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(word, row, column, direction, valid, reason);
+    }
+
+    @Override
+    public String toString() {
+        return "MoveValidationResource{" +
+                "word='" + word + '\'' +
+                ", row=" + row +
+                ", column=" + column +
+                ", direction=" + direction +
+                ", valid=" + valid +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+
+    public static MoveValidationResource fromValidation(PlayerMove move, Optional<FailReason> failReason) {
+        return new MoveValidationResource(move.getWord(), move.getRow(), move.getColumn(),
+                move.getMoveDirection().getDirectionId(), !failReason.isPresent(),
+                failReason.map(FailReason::getReason).orElse(null));
+    }
+}
@@ -0,0 +1,43 @@
+package game.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Manish Shrestha
+ */
+public class MoveValidationResources {
+    private final List<MoveValidationResource> validations;
+
+    @JsonCreator
+    public MoveValidationResources(@JsonProperty("validations") List<MoveValidationResource> validations) {
+        this.validations = validations;
+    }
+
+    public List<MoveValidationResource> getValidations() {
+        return validations;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MoveValidationResources that = (MoveValidationResources) o;
+        return Objects.equals(validations, that.validations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(validations);
+    }
+
+    @Override
+    public String toString() {
+        return "MoveValidationResources{" +
+                "validations=" + validations +
+                '}';
+    }
+}
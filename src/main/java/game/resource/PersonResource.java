@@ -18,16 +18,19 @@ public final class PersonResource {
     private final String userName;
     private final String firstName;
     private final String lastName;
+    private final boolean bot;
 
     @JsonCreator
     public PersonResource(@JsonProperty("id") int id,
                           @JsonProperty("userName") String userName,
                           @JsonProperty("firstName") String firstName,
-                          @JsonProperty("lastName") String lastName) {
+                          @JsonProperty("lastName") String lastName,
+                          @JsonProperty("bot") boolean bot) {
         this.id = id;
         this.userName = userName;
         this.firstName = firstName;
         this.lastName = lastName;
+        this.bot = bot;
     }
 
     public final int getId() {
@@ -46,6 +49,10 @@ public final class PersonResource {
         return lastName;
     }
 
+    public final boolean isBot() {
+        return bot;
+    }
+
     @JsonIgnore
     @Override
     public boolean equals(Object o) {
@@ -56,13 +63,14 @@ public final class PersonResource {
         return id == that.id &&
                 Objects.equals(userName, that.userName) &&
                 Objects.equals(firstName, that.firstName) &&
-                Objects.equals(lastName, that.lastName);
+                Objects.equals(lastName, that.lastName) &&
+                bot == that.bot;
     }
 
     @JsonIgnore
     @Override
     public int hashCode() {
-        return Objects.hash(id, userName, firstName, lastName);
+        return Objects.hash(id, userName, firstName, lastName, bot);
     }
 
     @JsonIgnore
@@ -73,11 +81,13 @@ public final class PersonResource {
                 ", userName='" + userName + '\'' +
                 ", firstName='" + firstName + '\'' +
                 ", lastName='" + lastName + '\'' +
+                ", bot=" + bot +
                 '}';
     }
 
     @JsonIgnore
     public static PersonResource fromPerson(@NonNull Person person) {
-        return new PersonResource(person.getId(), person.getUserName(), person.getFirstName(), person.getLastName());
+        return new PersonResource(person.getId(), person.getUserName(), person.getFirstName(), person.getLastName(),
+                person.isBot());
     }
 }
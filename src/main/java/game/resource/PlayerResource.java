@@ -15,11 +15,14 @@ import java.util.Objects;
 public class PlayerResource {
     private final PersonResource person;
     private final int order;
+    private final int score;
 
     public PlayerResource(@JsonProperty(value = "person") PersonResource person,
-                          @JsonProperty(value = "order") int order) {
+                          @JsonProperty(value = "order") int order,
+                          @JsonProperty(value = "score") int score) {
         this.person = person;
         this.order = order;
+        this.score = score;
     }
 
     public final PersonResource getPerson() {
@@ -30,6 +33,10 @@ public class PlayerResource {
         return order;
     }
 
+    public final int getScore() {
+        return score;
+    }
+
     @JsonIgnore
     @Override
     public boolean equals(Object o) {
@@ -37,13 +44,14 @@ public class PlayerResource {
         if (o == null || getClass() != o.getClass()) return false;
         PlayerResource that = (PlayerResource) o;
         return order == that.order &&
+                score == that.score &&
                 Objects.equals(person, that.person);
     }
 
     @JsonIgnore
     @Override
     public int hashCode() {
-        return Objects.hash(person, order);
+        return Objects.hash(person, order, score);
     }
 
     @JsonIgnore
@@ -52,12 +60,13 @@ public class PlayerResource {
         return "PlayerResource{" +
                 "personResource=" + person +
                 ", order=" + order +
+                ", score=" + score +
                 '}';
     }
 
     @JsonIgnore
     public static final PlayerResource fromPlayer(@NonNull Player player) {
         final PersonResource personResource = PersonResource.fromPerson(player.getPerson());
-        return new PlayerResource(personResource, player.getOrder());
+        return new PlayerResource(personResource, player.getOrder(), player.getScore());
     }
 }
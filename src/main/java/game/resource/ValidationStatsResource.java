@@ -0,0 +1,93 @@
+package game.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import game.data.ValidationStats;
+import org.springframework.lang.NonNull;
+
+import java.util.Objects;
+
+/**
+ * @author Manish Shrestha
+ */
+@JsonRootName("validationStats")
+public final class ValidationStatsResource {
+    private final long cacheHits;
+    private final long cacheMisses;
+    private final int cacheSize;
+    private final int cacheMaxSize;
+    private final double cacheHitRate;
+
+    @JsonCreator
+    public ValidationStatsResource(@JsonProperty("cacheHits") long cacheHits,
+                                   @JsonProperty("cacheMisses") long cacheMisses,
+                                   @JsonProperty("cacheSize") int cacheSize,
+                                   @JsonProperty("cacheMaxSize") int cacheMaxSize,
+                                   @JsonProperty("cacheHitRate") double cacheHitRate) {
+        this.cacheHits = cacheHits;
+        this.cacheMisses = cacheMisses;
+        this.cacheSize = cacheSize;
+        this.cacheMaxSize = cacheMaxSize;
+        this.cacheHitRate = cacheHitRate;
+    }
+
+    public final long getCacheHits() {
+        return cacheHits;
+    }
+
+    public final long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public final int getCacheSize() {
+        return cacheSize;
+    }
+
+    public final int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    public final double getCacheHitRate() {
+        return cacheHitRate;
+    }
+
+    @JsonIgnore
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ValidationStatsResource that = (ValidationStatsResource) o;
+        return cacheHits == that.cacheHits &&
+                cacheMisses == that.cacheMisses &&
+                cacheSize == that.cacheSize &&
+                cacheMaxSize == that.cacheMaxSize &&
+                Double.compare(that.cacheHitRate, cacheHitRate) == 0;
+    }
+
+    @JsonIgnore
+    @Override
+    public int hashCode() {
+        return Objects.hash(cacheHits, cacheMisses, cacheSize, cacheMaxSize, cacheHitRate);
+    }
+
+    @JsonIgnore
+    @Override
+    public String toString() {
+        return "ValidationStatsResource{" +
+                "cacheHits=" + cacheHits +
+                ", cacheMisses=" + cacheMisses +
+                ", cacheSize=" + cacheSize +
+                ", cacheMaxSize=" + cacheMaxSize +
+                ", cacheHitRate=" + cacheHitRate +
+                '}';
+    }
+
+    @JsonIgnore
+    public static ValidationStatsResource fromValidationStats(@NonNull ValidationStats stats) {
+        final long lookups = stats.getCacheHits() + stats.getCacheMisses();
+        return new ValidationStatsResource(stats.getCacheHits(), stats.getCacheMisses(), stats.getCacheSize(),
+                stats.getCacheMaxSize(), lookups == 0 ? 0 : (double) stats.getCacheHits() / lookups);
+    }
+}
@@ -0,0 +1,77 @@
+package game.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Manish Shrestha
+ */
+public class WordResources {
+    private final String dictionary;
+    private final List<String> words;
+    private final int limit;
+    private final int offset;
+    private final boolean timedOut;
+
+    @JsonCreator
+    public WordResources(@JsonProperty("dictionary") String dictionary, @JsonProperty("words") List<String> words,
+                         @JsonProperty("limit") int limit, @JsonProperty("offset") int offset,
+                         @JsonProperty("timedOut") boolean timedOut) {
+        this.dictionary = dictionary;
+        this.words = words;
+        this.limit = limit;
+        this.offset = offset;
+        this.timedOut = timedOut;
+    }
+
+    public String getDictionary() {
+        return dictionary;
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WordResources that = (WordResources) o;
+        return limit == that.limit &&
+                offset == that.offset &&
+                timedOut == that.timedOut &&
+                Objects.equals(dictionary, that.dictionary) &&
+                Objects.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dictionary, words, limit, offset, timedOut);
+    }
+
+    @Override
+    public String toString() {
+        return "WordResources{" +
+                "dictionary='" + dictionary + '\'' +
+                ", words=" + words +
+                ", limit=" + limit +
+                ", offset=" + offset +
+                ", timedOut=" + timedOut +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package game.selfplay;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and statement counts of the calls of one operation. Thread safe.
+ *
+ * @author Manish Shrestha
+ */
+final class OperationStats {
+    private long[] latencies = new long[1024];
+    private int calls;
+    private long statements;
+    private long errors;
+
+    synchronized void record(long latencyNanos, long statementCount, boolean failed) {
+        if (calls == latencies.length) {
+            latencies = Arrays.copyOf(latencies, calls * 2);
+        }
+        latencies[calls++] = latencyNanos;
+        statements += statementCount;
+        if (failed) {
+            errors++;
+        }
+    }
+
+    synchronized int getCalls() {
+        return calls;
+    }
+
+    synchronized long getStatements() {
+        return statements;
+    }
+
+    synchronized long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Latency below which the given share of the calls completed, by the nearest rank method.
+     */
+    synchronized long percentileNanos(double percentile) {
+        if (calls == 0) {
+            return 0;
+        }
+        final long[] sorted = Arrays.copyOf(latencies, calls);
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile * calls);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
@@ -0,0 +1,173 @@
+package game.selfplay;
+
+import game.configuration.AppConfiguration;
+import game.core.Game;
+import game.core.Person;
+import game.core.Player;
+import game.core.StandardPlayer;
+import game.data.MoveCandidate;
+import game.data.MoveSearchResult;
+import game.data.PlayerMove;
+import game.services.DictionaryManager;
+import game.services.MatchManager;
+import game.services.PersonManager;
+import game.services.TileBag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Plays games against the real dictionary and database through {@link MatchManager}, the same calls the game
+ * endpoints make, and logs moves per second together with the latency and statement count of every operation.
+ * Every turn the player asks for hints with a rack drawn from a full bag and plays one of them at random, so games
+ * spread over the board the way games between people do.
+ *
+ * @author Manish Shrestha
+ */
+@Component
+@Profile("selfplay")
+class SelfPlayRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SelfPlayRunner.class);
+    private static final int HINTS_PER_TURN = 10;
+    private static final int MAX_EMPTY_RACKS = 3;
+
+    private final MatchManager matchManager;
+    private final PersonManager personManager;
+    private final DictionaryManager dictionaryManager;
+    private final AppConfiguration appConfiguration;
+    private final StatementCountingDataSource dataSource;
+    private final Map<String, OperationStats> operationStats = new ConcurrentSkipListMap<>();
+    private final LongAdder moves = new LongAdder();
+
+    @Autowired
+    SelfPlayRunner(MatchManager matchManager, PersonManager personManager, DictionaryManager dictionaryManager,
+                   AppConfiguration appConfiguration, DataSource dataSource) {
+        this.matchManager = matchManager;
+        this.personManager = personManager;
+        this.dictionaryManager = dictionaryManager;
+        this.appConfiguration = appConfiguration;
+        this.dataSource = dataSource instanceof StatementCountingDataSource ? (StatementCountingDataSource) dataSource : null;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        final List<Player> players = new ArrayList<>();
+        for (Person person: personManager.getPersons(new LinkedHashSet<>(appConfiguration.getSelfPlayPersonIds()))) {
+            players.add(new StandardPlayer(person, players.size() + 1));
+        }
+        final int games = appConfiguration.getSelfPlayGames();
+        final int threads = appConfiguration.getSelfPlayThreads();
+        log.info("Self-play of {} games on {} threads with players {}", games, threads, appConfiguration.getSelfPlayPersonIds());
+        warmUp(players);
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "self-play-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long startNanos = System.nanoTime();
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int game = 0; game < games; game++) {
+                futures.add(executor.submit(() -> playGame(players)));
+            }
+            for (Future<?> future: futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info(report(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Loads the dictionary and builds its move generation index, which would otherwise make the hints of the first
+     * games time out.
+     */
+    private void warmUp(List<Player> players) {
+        final Game game = matchManager.startNewGame(players, 0, 0, null);
+        try {
+            dictionaryManager.generateMoves(game.getDictionaryType(), game.getBoard(), TileBag.drawRack(new Random()), 1,
+                    TimeUnit.MINUTES.toMillis(1));
+        } finally {
+            matchManager.deleteGame(game.getId());
+        }
+    }
+
+    private void playGame(List<Player> players) {
+        final Random random = ThreadLocalRandom.current();
+        Game game = timed("startNewGame", () -> matchManager.startNewGame(players, 0, 0, null));
+        final int gameId = game.getId();
+        try {
+            int emptyRacks = 0;
+            for (int turn = 0; turn < appConfiguration.getSelfPlayMovesPerGame() && emptyRacks < MAX_EMPTY_RACKS; turn++) {
+                final Player player = timed("getNextTurnPlayer", () -> matchManager.getNextTurnPlayer(gameId));
+                final String rack = TileBag.drawRack(random);
+                final MoveSearchResult hints = timed("getHints",
+                        () -> matchManager.getHints(gameId, player.getPerson().getId(), rack, HINTS_PER_TURN));
+                if (hints.getMoves().isEmpty()) {
+                    emptyRacks++;
+                    continue;
+                }
+                emptyRacks = 0;
+                final MoveCandidate move = hints.getMoves().get(random.nextInt(hints.getMoves().size()));
+                final Game currentGame = game;
+                game = timed("makeMove", () -> matchManager.makeMove(currentGame, new PlayerMove(move.getWord(),
+                        move.getRow(), move.getColumn(), move.getMoveDirection(), player)));
+                moves.increment();
+            }
+            timed("getGame", () -> matchManager.getGame(gameId));
+        } catch (RuntimeException e) {
+            log.debug("Self-play game " + gameId + " stopped", e);
+        } finally {
+            if (appConfiguration.isSelfPlayDeleteGames()) {
+                timed("deleteGame", () -> {
+                    matchManager.deleteGame(gameId);
+                    return null;
+                });
+            }
+        }
+    }
+
+    private <T> T timed(String operation, Supplier<T> call) {
+        final long statementsBefore = dataSource == null ? 0 : dataSource.getThreadStatementCount();
+        final long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            final T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            final long latencyNanos = System.nanoTime() - startNanos;
+            final long statements = dataSource == null ? 0 : dataSource.getThreadStatementCount() - statementsBefore;
+            operationStats.computeIfAbsent(operation, name -> new OperationStats()).record(latencyNanos, statements, failed);
+        }
+    }
+
+    private String report(long elapsedNanos) {
+        final double seconds = elapsedNanos / 1e9;
+        final StringBuilder report = new StringBuilder(String.format("Self-play made %d moves in %.1f s, %.1f moves/s",
+                moves.sum(), seconds, moves.sum() / seconds));
+        if (dataSource != null) {
+            report.append(String.format(", %d statements", dataSource.getStatementCount()));
+        }
+        report.append(String.format("%n%-18s %8s %8s %10s %10s %12s", "operation", "calls", "errors", "p50 ms", "p99 ms",
+                "stmts/call"));
+        operationStats.forEach((operation, stats) -> report.append(String.format("%n%-18s %8d %8d %10.2f %10.2f %12.1f",
+                operation, stats.getCalls(), stats.getErrors(), stats.percentileNanos(0.5) / 1e6,
+                stats.percentileNanos(0.99) / 1e6, (double) stats.getStatements() / stats.getCalls())));
+        return report.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package game.selfplay;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Data source counting the statements executed through it, in total and by the calling thread, so that the
+ * statements of one call can be told apart while other threads use the same pool.
+ *
+ * @author Manish Shrestha
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+    private final LongAdder statementCount = new LongAdder();
+    private final ThreadLocal<long[]> threadStatementCount = ThreadLocal.withInitial(() -> new long[1]);
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    /**
+     * Statements executed by the calling thread since it first used the data source.
+     */
+    public long getThreadStatementCount() {
+        return threadStatementCount.get()[0];
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection);
+    }
+
+    /**
+     * Proxies a connection or a statement, counting every execute call of a statement and proxying the statements
+     * created by a connection.
+     */
+    private <T> T proxy(Class<T> type, T target) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                statementCount.increment();
+                threadStatementCount.get()[0]++;
+            }
+            final Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof CallableStatement) {
+                return proxy(CallableStatement.class, (CallableStatement) result);
+            } else if (result instanceof PreparedStatement) {
+                return proxy(PreparedStatement.class, (PreparedStatement) result);
+            } else if (result instanceof Statement) {
+                return proxy(Statement.class, (Statement) result);
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
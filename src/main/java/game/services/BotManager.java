@@ -0,0 +1,14 @@
+package game.services;
+
+import game.data.BotStats;
+
+/**
+ * Plays the turns of computer opponents. A bot is seated like any other player, by the id of a person flagged as a
+ * bot, and whenever it becomes its turn the move is computed on a bounded background executor and made through
+ * {@link MatchManager#makeMove(game.core.Game, game.data.PlayerMove)}.
+ *
+ * @author Manish Shrestha
+ */
+public interface BotManager {
+    BotStats getBotStats();
+}
@@ -0,0 +1,41 @@
+package game.services;
+
+/**
+ * Word graph of a dictionary together with the filter that guards it. Both are compiled from the same word list and
+ * are written to and mapped from the same image. The GADDAG used to generate moves is built from the graph the first
+ * time it is needed and only lives on heap.
+ *
+ * @author Manish Shrestha
+ */
+final class CompiledDictionary {
+    private final DictionaryGraph graph;
+    private final DictionaryFilter filter;
+    private volatile DictionaryGraph gaddag;
+
+    CompiledDictionary(DictionaryGraph graph, DictionaryFilter filter) {
+        this.graph = graph;
+        this.filter = filter;
+    }
+
+    DictionaryGraph getGraph() {
+        return graph;
+    }
+
+    DictionaryFilter getFilter() {
+        return filter;
+    }
+
+    DictionaryGraph getGaddag() {
+        DictionaryGraph result = gaddag;
+        if (result == null) {
+            synchronized (this) {
+                result = gaddag;
+                if (result == null) {
+                    result = MoveGenerator.buildGaddag(graph);
+                    gaddag = result;
+                }
+            }
+        }
+        return result;
+    }
+}
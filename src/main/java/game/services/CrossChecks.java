@@ -0,0 +1,202 @@
+package game.services;
+
+import game.core.Board;
+import game.core.MoveDirection;
+
+/**
+ * Letters each empty square of a board allows, as 26 bit masks for both play directions. A tile put on a square
+ * while playing across must form a word with the tiles above and below it, and a tile played down must form one with
+ * the tiles left and right of it. A square without such neighbours allows every letter.
+ * <p>
+ * The masks are computed against one dictionary graph and one board and are not changed afterwards, so a validation
+ * reading them never sees a move half applied. {@link #placed} follows a committed move with a copy that computes
+ * again only the row and the columns the move touched, every other square keeps its mask.
+ *
+ * @author Manish Shrestha
+ */
+public final class CrossChecks {
+    static final int NO_CROSS_WORD = -1;
+    private static final char EMPTY = '.';
+
+    private final DictionaryGraph graph;
+    private final int size;
+    private final char[] letters;
+    private final int[] acrossPlayMasks;
+    private final int[] downPlayMasks;
+
+    private CrossChecks(DictionaryGraph graph, Board board) {
+        this.graph = graph;
+        this.size = board.getSize();
+        this.letters = new char[size * size];
+        this.acrossPlayMasks = new int[size * size];
+        this.downPlayMasks = new int[size * size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                letters[row * size + col] = board.getLetter(row, col);
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                acrossPlayMasks[row * size + col] = computeMask(row, col, 1, 0);
+                downPlayMasks[row * size + col] = computeMask(row, col, 0, 1);
+            }
+        }
+    }
+
+    private CrossChecks(CrossChecks crossChecks) {
+        this.graph = crossChecks.graph;
+        this.size = crossChecks.size;
+        this.letters = crossChecks.letters.clone();
+        this.acrossPlayMasks = crossChecks.acrossPlayMasks.clone();
+        this.downPlayMasks = crossChecks.downPlayMasks.clone();
+    }
+
+    static CrossChecks compute(DictionaryGraph graph, Board board) {
+        return new CrossChecks(graph, board);
+    }
+
+    /**
+     * Whether the masks were computed against this graph and a board holding exactly these tiles.
+     */
+    boolean isFor(DictionaryGraph graph, Board board) {
+        if (this.graph != graph || board.getSize() != size) {
+            return false;
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (letters[row * size + col] != board.getLetter(row, col)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the letter put on the empty square while playing in {@code playDirection} forms a word with the tiles
+     * across that direction.
+     */
+    boolean allows(int row, int col, MoveDirection playDirection, char letter) {
+        final int mask = mask(row, col, playDirection);
+        if (mask == NO_CROSS_WORD) {
+            return true;
+        }
+        final char c = Character.toUpperCase(letter);
+        return c >= 'A' && c <= 'Z' && (mask & (1 << (c - 'A'))) != 0;
+    }
+
+    /**
+     * Letters the square allows while playing in {@code playDirection}, bit 0 standing for A, or
+     * {@link #NO_CROSS_WORD} when the square has no neighbour across that direction.
+     */
+    int mask(int row, int col, MoveDirection playDirection) {
+        final int square = row * size + col;
+        return playDirection == MoveDirection.LEFT_RIGHT ? acrossPlayMasks[square] : downPlayMasks[square];
+    }
+
+    /**
+     * Masks of the board with the letters of a committed move put on it, computing again the masks of the line it was
+     * played on and of the lines crossing its letters. Letters that would fall off the board are ignored, and these
+     * masks are returned when none is left.
+     */
+    public CrossChecks placed(String word, int row, int col, MoveDirection direction) {
+        final int rowStep = direction == MoveDirection.LEFT_RIGHT ? 0 : 1;
+        final int colStep = direction == MoveDirection.LEFT_RIGHT ? 1 : 0;
+        final CrossChecks placed = new CrossChecks(this);
+        int count = 0;
+        for (int idx = 0; idx < word.length(); idx++) {
+            final int r = row + idx * rowStep;
+            final int c = col + idx * colStep;
+            if (r >= 0 && r < size && c >= 0 && c < size) {
+                placed.letters[r * size + c] = word.charAt(idx);
+                count++;
+            }
+        }
+        if (count == 0) {
+            return this;
+        }
+        placed.computeMasks(word, row, col, direction);
+        return placed;
+    }
+
+    private void computeMasks(String word, int row, int col, MoveDirection direction) {
+        final int rowStep = direction == MoveDirection.LEFT_RIGHT ? 0 : 1;
+        final int colStep = direction == MoveDirection.LEFT_RIGHT ? 1 : 0;
+        for (int idx = 0; idx < size; idx++) {
+            // masks of the line the move was played on, they are used by plays crossing it
+            if (direction == MoveDirection.LEFT_RIGHT) {
+                downPlayMasks[row * size + idx] = computeMask(row, idx, 0, 1);
+            } else {
+                acrossPlayMasks[idx * size + col] = computeMask(idx, col, 1, 0);
+            }
+        }
+        for (int idx = 0; idx < word.length(); idx++) {
+            final int r = row + idx * rowStep;
+            final int c = col + idx * colStep;
+            if (r < 0 || r >= size || c < 0 || c >= size) {
+                continue;
+            }
+            // masks of the crossing line, they are used by plays along the move
+            for (int other = 0; other < size; other++) {
+                if (direction == MoveDirection.LEFT_RIGHT) {
+                    acrossPlayMasks[other * size + c] = computeMask(other, c, 1, 0);
+                } else {
+                    downPlayMasks[r * size + other] = computeMask(r, other, 0, 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mask of an empty square from the tiles next to it along the step, walking the graph over the tiles before the
+     * square and trying each edge against the tiles after it. An occupied square allows nothing.
+     */
+    private int computeMask(int row, int col, int rowStep, int colStep) {
+        if (letter(row, col) != EMPTY) {
+            return 0;
+        }
+        int startRow = row;
+        int startCol = col;
+        while (inside(startRow - rowStep, startCol - colStep) && letter(startRow - rowStep, startCol - colStep) != EMPTY) {
+            startRow -= rowStep;
+            startCol -= colStep;
+        }
+        int endRow = row;
+        int endCol = col;
+        while (inside(endRow + rowStep, endCol + colStep) && letter(endRow + rowStep, endCol + colStep) != EMPTY) {
+            endRow += rowStep;
+            endCol += colStep;
+        }
+        if (startRow == endRow && startCol == endCol) {
+            return NO_CROSS_WORD;
+        }
+
+        int node = graph.getRoot();
+        for (int r = startRow, c = startCol; (r != row || c != col) && node >= 0; r += rowStep, c += colStep) {
+            node = graph.child(node, Character.toUpperCase(letter(r, c)));
+        }
+        int mask = 0;
+        if (node >= 0) {
+            for (int edge = graph.firstEdge(node); edge < graph.endEdge(node); edge++) {
+                final char c = graph.edgeChar(edge);
+                int next = graph.edgeTarget(edge);
+                for (int r = row + rowStep, k = col + colStep; (r != endRow + rowStep || k != endCol + colStep) && next >= 0;
+                     r += rowStep, k += colStep) {
+                    next = graph.child(next, Character.toUpperCase(letter(r, k)));
+                }
+                if (next >= 0 && graph.isTerminal(next) && c >= 'A' && c <= 'Z') {
+                    mask |= 1 << (c - 'A');
+                }
+            }
+        }
+        return mask;
+    }
+
+    private boolean inside(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+
+    private char letter(int row, int col) {
+        return letters[row * size + col];
+    }
+}
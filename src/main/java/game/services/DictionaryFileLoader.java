@@ -0,0 +1,168 @@
+package game.services;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Reads dictionary word files on the common fork-join pool.
+ * <p>
+ * Every file is mapped and cut into byte ranges aligned to line breaks. Each range is read, normalized and sorted by
+ * its own task, and the sorted ranges are merged pairwise as the tasks join. Tasks only touch their own arrays, so
+ * nothing is shared or locked until the final sorted word list is handed to the {@link DictionaryGraph.Builder}.
+ *
+ * @author Manish Shrestha
+ */
+final class DictionaryFileLoader {
+    private static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+    private static final String[] NO_WORDS = new String[0];
+
+    private DictionaryFileLoader() {}
+
+    /**
+     * Returns the distinct words of the files, trimmed, upper cased and sorted.
+     */
+    static String[] loadSortedWords(List<File> files) throws IOException {
+        return loadSortedWords(files, DEFAULT_CHUNK_SIZE);
+    }
+
+    static String[] loadSortedWords(List<File> files, int chunkSize) throws IOException {
+        final List<Chunk> chunks = new ArrayList<>();
+        for (File file: files) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                final long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("Dictionary file " + file + " is too large");
+                }
+                final MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                for (int start = 0; start < size; start += chunkSize) {
+                    chunks.add(new Chunk(mapping, start, (int) Math.min(size, (long) start + chunkSize)));
+                }
+            }
+        }
+        if (chunks.isEmpty()) {
+            return NO_WORDS;
+        }
+
+        return ForkJoinPool.commonPool().invoke(new SortedWordsTask(chunks, 0, chunks.size()));
+    }
+
+    /**
+     * Byte range of a mapped file. The range owns every line that starts inside it, including a last line that runs
+     * past its end.
+     */
+    private static final class Chunk {
+        private final MappedByteBuffer mapping;
+        private final int start;
+        private final int end;
+
+        private Chunk(MappedByteBuffer mapping, int start, int end) {
+            this.mapping = mapping;
+            this.start = start;
+            this.end = end;
+        }
+
+        private String[] readSortedWords() {
+            final int limit = mapping.limit();
+            int lineStart = start;
+            if (start > 0) {
+                //the line running into this range belongs to the previous one
+                while (lineStart < limit && mapping.get(lineStart - 1) != '\n') {
+                    lineStart++;
+                }
+            }
+
+            final List<String> words = new ArrayList<>();
+            byte[] line = new byte[64];
+            while (lineStart < end && lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && mapping.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+
+                int from = lineStart;
+                int to = lineEnd;
+                while (from < to && (mapping.get(from) & 0xff) <= ' ') {
+                    from++;
+                }
+                while (to > from && (mapping.get(to - 1) & 0xff) <= ' ') {
+                    to--;
+                }
+                final int length = to - from;
+                if (length > 0) {
+                    if (length > line.length) {
+                        line = new byte[Math.max(length, line.length * 2)];
+                    }
+                    for (int idx = 0; idx < length; idx++) {
+                        line[idx] = mapping.get(from + idx);
+                    }
+                    words.add(new String(line, 0, length, StandardCharsets.UTF_8).toUpperCase(Locale.ROOT));
+                }
+                lineStart = lineEnd + 1;
+            }
+
+            final String[] sortedWords = words.toArray(NO_WORDS);
+            Arrays.sort(sortedWords);
+            int count = 0;
+            for (String word: sortedWords) {
+                if (count == 0 || !sortedWords[count - 1].equals(word)) {
+                    sortedWords[count++] = word;
+                }
+            }
+            return count == sortedWords.length ? sortedWords : Arrays.copyOf(sortedWords, count);
+        }
+    }
+
+    private static final class SortedWordsTask extends RecursiveTask<String[]> {
+        private final List<Chunk> chunks;
+        private final int from;
+        private final int to;
+
+        private SortedWordsTask(List<Chunk> chunks, int from, int to) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected String[] compute() {
+            if (to - from == 1) {
+                return chunks.get(from).readSortedWords();
+            }
+            final int mid = (from + to) >>> 1;
+            final SortedWordsTask left = new SortedWordsTask(chunks, from, mid);
+            left.fork();
+            final String[] right = new SortedWordsTask(chunks, mid, to).compute();
+            return merge(left.join(), right);
+        }
+
+        private static String[] merge(String[] left, String[] right) {
+            final String[] merged = new String[left.length + right.length];
+            int leftIdx = 0;
+            int rightIdx = 0;
+            int count = 0;
+            while (leftIdx < left.length || rightIdx < right.length) {
+                final String next;
+                if (rightIdx == right.length
+                        || (leftIdx < left.length && left[leftIdx].compareTo(right[rightIdx]) <= 0)) {
+                    next = left[leftIdx++];
+                } else {
+                    next = right[rightIdx++];
+                }
+                if (count == 0 || !merged[count - 1].equals(next)) {
+                    merged[count++] = next;
+                }
+            }
+            return count == merged.length ? merged : Arrays.copyOf(merged, count);
+        }
+    }
+}
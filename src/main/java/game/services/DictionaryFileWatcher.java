@@ -0,0 +1,82 @@
+package game.services;
+
+import game.core.DictionaryType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Watches the folders of the dictionary source files and reports the dictionaries whose files were created or
+ * modified. Runs on its own daemon thread until closed.
+ *
+ * @author Manish Shrestha
+ */
+final class DictionaryFileWatcher implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(DictionaryFileWatcher.class);
+
+    private final WatchService watchService;
+    private final Map<Path, List<DictionaryType>> dictionariesByFile;
+    private final Consumer<DictionaryType> onChange;
+    private final Thread thread;
+
+    DictionaryFileWatcher(Map<Path, List<DictionaryType>> dictionariesByFile, Consumer<DictionaryType> onChange) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.dictionariesByFile = dictionariesByFile;
+        this.onChange = onChange;
+
+        final Set<Path> folders = new HashSet<>();
+        for (Path file: dictionariesByFile.keySet()) {
+            final Path folder = file.getParent();
+            if (folder != null && Files.isDirectory(folder) && folders.add(folder)) {
+                folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                log.info("Watching dictionary folder {}", folder);
+            }
+        }
+
+        this.thread = new Thread(this::watch, "dictionary-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                final WatchKey key = watchService.take();
+                final Path folder = (Path) key.watchable();
+                final Set<DictionaryType> changed = EnumSet.noneOf(DictionaryType.class);
+                for (WatchEvent<?> event: key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        for (Map.Entry<Path, List<DictionaryType>> entry: dictionariesByFile.entrySet()) {
+                            if (folder.equals(entry.getKey().getParent())) {
+                                changed.addAll(entry.getValue());
+                            }
+                        }
+                    } else {
+                        final Path file = folder.resolve((Path) event.context());
+                        changed.addAll(dictionariesByFile.getOrDefault(file, Collections.emptyList()));
+                    }
+                }
+                key.reset();
+                for (DictionaryType dictionaryType: changed) {
+                    try {
+                        onChange.accept(dictionaryType);
+                    } catch (RuntimeException e) {
+                        log.warn("Unable to reload dictionary " + dictionaryType, e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            log.debug("Stopped watching dictionary files");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
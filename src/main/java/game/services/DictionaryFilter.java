@@ -0,0 +1,144 @@
+package game.services;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * Bloom filter over the words of a dictionary, checked before the {@link DictionaryGraph} so most words that are not
+ * in the dictionary are rejected after a few bit probes.
+ * <p>
+ * The bit count and number of probes are derived from the word count and the configured false positive rate. Probe
+ * positions come from two 64 bit hashes of the upper cased word combined by double hashing, which needs no
+ * allocation. Like the graph, the filter lives in a flat image that can be written to disk and mapped back. A filter
+ * with a false positive rate of 0 has no bits and lets every word through.
+ *
+ * @author Manish Shrestha
+ */
+final class DictionaryFilter {
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + Double.BYTES;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SECOND_HASH_SEED = 0x9e3779b97f4a7c15L;
+
+    private final ByteBuffer image;
+    private final LongBuffer bits;
+    private final int hashCount;
+    private final int bitCount;
+    private final double falsePositiveRate;
+
+    private DictionaryFilter(ByteBuffer image) {
+        this.image = image;
+        this.hashCount = image.getInt(0);
+        this.bitCount = image.getInt(Integer.BYTES);
+        this.falsePositiveRate = image.getDouble(2 * Integer.BYTES);
+        final ByteBuffer bitSection = image.duplicate();
+        bitSection.position(HEADER_SIZE);
+        this.bits = bitSection.slice().order(image.order()).asLongBuffer();
+    }
+
+    /**
+     * Wraps a filter image previously exposed by {@link #getImage()}.
+     */
+    static DictionaryFilter wrap(ByteBuffer image) {
+        return new DictionaryFilter(image);
+    }
+
+    /**
+     * Builds a filter for the given upper cased words with the given false positive rate.
+     */
+    static DictionaryFilter build(String[] words, double falsePositiveRate) {
+        int bitCount = 0;
+        int hashCount = 0;
+        if (falsePositiveRate > 0 && words.length > 0) {
+            final double ln2 = Math.log(2);
+            final long optimalBits = (long) Math.ceil(-words.length * Math.log(falsePositiveRate) / (ln2 * ln2));
+            bitCount = (int) Math.min(Integer.MAX_VALUE - Long.SIZE, Math.max(Long.SIZE, optimalBits));
+            hashCount = Math.max(1, (int) Math.round((double) bitCount / words.length * ln2));
+        }
+
+        final int longCount = (bitCount + Long.SIZE - 1) / Long.SIZE;
+        final ByteBuffer image = ByteBuffer.allocate(HEADER_SIZE + longCount * Long.BYTES).order(ByteOrder.nativeOrder());
+        image.putInt(hashCount).putInt(bitCount).putDouble(falsePositiveRate);
+        image.rewind();
+
+        final DictionaryFilter filter = new DictionaryFilter(image);
+        for (String word: words) {
+            filter.add(word);
+        }
+        return filter;
+    }
+
+    boolean mightContain(CharSequence word) {
+        if (bitCount == 0) {
+            return true;
+        }
+        final long hash = hash(word);
+        final long first = mix(hash);
+        final long second = mix(hash ^ SECOND_HASH_SEED);
+        for (int idx = 0; idx < hashCount; idx++) {
+            final int bit = bitIndex(first + idx * second);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int getHashCount() {
+        return hashCount;
+    }
+
+    int getBitCount() {
+        return bitCount;
+    }
+
+    double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    int getSizeInBytes() {
+        return image.limit();
+    }
+
+    ByteBuffer getImage() {
+        return image.asReadOnlyBuffer().order(image.order());
+    }
+
+    private void add(CharSequence word) {
+        if (bitCount == 0) {
+            return;
+        }
+        final long hash = hash(word);
+        final long first = mix(hash);
+        final long second = mix(hash ^ SECOND_HASH_SEED);
+        for (int idx = 0; idx < hashCount; idx++) {
+            final int bit = bitIndex(first + idx * second);
+            bits.put(bit >>> 6, bits.get(bit >>> 6) | (1L << bit));
+        }
+    }
+
+    private int bitIndex(long combinedHash) {
+        return (int) (((combinedHash >>> 32) * bitCount) >>> 32);
+    }
+
+    private static long hash(CharSequence word) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int idx = 0; idx < word.length(); idx++) {
+            hash = (hash ^ Character.toUpperCase(word.charAt(idx))) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Finalizer of MurmurHash3, spreads every input bit over the whole hash.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
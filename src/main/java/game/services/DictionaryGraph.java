@@ -0,0 +1,514 @@
+package game.services;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Minimized directed acyclic word graph (DAWG) of dictionary words.
+ * <p>
+ * Words sharing a prefix share the path from the root and words sharing a suffix share the path to the final node,
+ * so the whole word list is stored as a small set of nodes and labelled edges. The graph lives in a single flat
+ * image (node offsets, edge targets and edge labels) that can be written to disk and mapped back without parsing.
+ * A lookup walks one edge per character of the word and does not allocate. Lookups are case insensitive.
+ *
+ * @author Manish Shrestha
+ */
+final class DictionaryGraph {
+    private static final int ROOT = 0;
+    private static final int TERMINAL_FLAG = 0x80000000;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int MAX_SORTED_BATCH = 32;
+
+    private final ByteBuffer image;
+    private final IntBuffer nodes;
+    private final IntBuffer edgeTargets;
+    private final CharBuffer edgeChars;
+    private final int wordCount;
+
+    private DictionaryGraph(ByteBuffer image) {
+        this.image = image;
+        this.wordCount = image.getInt(0);
+        final int nodeCount = image.getInt(Integer.BYTES);
+        final int edgeCount = image.getInt(2 * Integer.BYTES);
+
+        final int nodesOffset = HEADER_SIZE;
+        final int edgeTargetsOffset = nodesOffset + (nodeCount + 1) * Integer.BYTES;
+        final int edgeCharsOffset = edgeTargetsOffset + edgeCount * Integer.BYTES;
+        this.nodes = section(image, nodesOffset, nodeCount + 1, Integer.BYTES).asIntBuffer();
+        this.edgeTargets = section(image, edgeTargetsOffset, edgeCount, Integer.BYTES).asIntBuffer();
+        this.edgeChars = section(image, edgeCharsOffset, edgeCount, Character.BYTES).asCharBuffer();
+    }
+
+    /**
+     * Wraps a graph image previously produced by {@link Builder#build()} and exposed by {@link #getImage()}.
+     * The buffer may live off heap, for example a read only mapping of an image file.
+     */
+    static DictionaryGraph wrap(ByteBuffer image) {
+        return new DictionaryGraph(image);
+    }
+
+    int getRoot() {
+        return ROOT;
+    }
+
+    boolean contains(CharSequence word) {
+        int node = ROOT;
+        for (int idx = 0; idx < word.length(); idx++) {
+            node = child(node, Character.toUpperCase(word.charAt(idx)));
+            if (node < 0) {
+                return false;
+            }
+        }
+        return isTerminal(node);
+    }
+
+    /**
+     * Visits every word of the graph in alphabetical order.
+     */
+    void forEachWord(Consumer<String> visitor) {
+        forEachWord(ROOT, new char[16], 0, visitor);
+    }
+
+    private void forEachWord(int node, char[] word, int depth, Consumer<String> visitor) {
+        if (depth > 0 && isTerminal(node)) {
+            visitor.accept(new String(word, 0, depth));
+        }
+        final char[] buffer = depth == word.length ? Arrays.copyOf(word, depth * 2) : word;
+        final int end = nodes.get(node + 1) & ~TERMINAL_FLAG;
+        for (int edge = nodes.get(node) & ~TERMINAL_FLAG; edge < end; edge++) {
+            buffer[depth] = edgeChars.get(edge);
+            forEachWord(edgeTargets.get(edge), buffer, depth + 1, visitor);
+        }
+    }
+
+    /**
+     * Visits, in alphabetical order, every word that can be spelled from the letters of a rack. {@code letterCounts}
+     * holds how many of each letter from A to Z the rack has and a blank can stand for any of those letters. Only the
+     * branches the remaining letters can still follow are walked. Stops as soon as the visitor returns false.
+     */
+    void forEachAnagram(int[] letterCounts, int blankCount, Predicate<String> visitor) {
+        int rackSize = blankCount;
+        for (int count: letterCounts) {
+            rackSize += count;
+        }
+        forEachAnagram(ROOT, new char[rackSize], 0, letterCounts.clone(), blankCount, visitor);
+    }
+
+    private boolean forEachAnagram(int node, char[] word, int depth, int[] letterCounts, int blankCount,
+                                   Predicate<String> visitor) {
+        if (depth > 0 && isTerminal(node) && !visitor.test(new String(word, 0, depth))) {
+            return false;
+        }
+        if (depth == word.length) {
+            return true;
+        }
+
+        final int end = nodes.get(node + 1) & ~TERMINAL_FLAG;
+        for (int edge = nodes.get(node) & ~TERMINAL_FLAG; edge < end; edge++) {
+            final char c = edgeChars.get(edge);
+            if (c < 'A' || c > 'Z') {
+                continue;
+            }
+            final int letter = c - 'A';
+            final boolean useBlank = letterCounts[letter] == 0;
+            if (useBlank && blankCount == 0) {
+                continue;
+            }
+
+            word[depth] = c;
+            if (useBlank) {
+                if (!forEachAnagram(edgeTargets.get(edge), word, depth + 1, letterCounts, blankCount - 1, visitor)) {
+                    return false;
+                }
+            } else {
+                letterCounts[letter]--;
+                final boolean more = forEachAnagram(edgeTargets.get(edge), word, depth + 1, letterCounts, blankCount, visitor);
+                letterCounts[letter]++;
+                if (!more) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visits, in alphabetical order, every word that matches a pattern. A branch is left as soon as the pattern can no
+     * longer match, an excluded letter would be needed, the word would get too long or too few letters remain for
+     * the required ones. Stops as soon as the visitor returns false or the deadline from {@link System#nanoTime()}
+     * passes, and returns whether it ran out of time.
+     */
+    boolean forEachMatch(WordPattern pattern, long deadlineNanos, Predicate<String> visitor) {
+        final MatchWalk walk = new MatchWalk(pattern, deadlineNanos, visitor);
+        walk.walk(ROOT, 0, pattern.getStartStates(), pattern.getRequiredCount());
+        return walk.timedOut;
+    }
+
+    private final class MatchWalk {
+        private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+        private final WordPattern pattern;
+        private final long deadlineNanos;
+        private final Predicate<String> visitor;
+        private final int[] letterCounts = new int[26];
+        private char[] word = new char[16];
+        private int steps;
+        private boolean timedOut;
+
+        private MatchWalk(WordPattern pattern, long deadlineNanos, Predicate<String> visitor) {
+            this.pattern = pattern;
+            this.deadlineNanos = deadlineNanos;
+            this.visitor = visitor;
+        }
+
+        private boolean walk(int node, int depth, long states, int missingCount) {
+            if (++steps % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadlineNanos > 0) {
+                timedOut = true;
+                return false;
+            }
+            if (depth >= pattern.getMinLength() && missingCount == 0 && isTerminal(node) && pattern.isAccepting(states)
+                    && !visitor.test(new String(word, 0, depth))) {
+                return false;
+            }
+            if (depth == pattern.getMaxLength() || pattern.getMaxLength() - depth < missingCount) {
+                return true;
+            }
+            if (depth == word.length) {
+                word = Arrays.copyOf(word, depth * 2);
+            }
+
+            final int end = nodes.get(node + 1) & ~TERMINAL_FLAG;
+            for (int edge = nodes.get(node) & ~TERMINAL_FLAG; edge < end; edge++) {
+                final char c = edgeChars.get(edge);
+                if (c < 'A' || c > 'Z' || pattern.isExcluded(c)) {
+                    continue;
+                }
+                final long nextStates = pattern.step(states, c);
+                if (nextStates == 0) {
+                    continue;
+                }
+
+                final int letter = c - 'A';
+                final int nextMissingCount = letterCounts[letter] < pattern.getRequiredCount(c) ? missingCount - 1 : missingCount;
+                word[depth] = c;
+                letterCounts[letter]++;
+                final boolean more = walk(edgeTargets.get(edge), depth + 1, nextStates, nextMissingCount);
+                letterCounts[letter]--;
+                if (!more) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Looks up the first {@code count} words of a batch, marks the ones that are not in the graph and returns how
+     * many there are. Small batches are visited in sorted order so the prefix a word shares with the previous one is
+     * walked only once. Allocates nothing once the batch scratch space has grown to fit.
+     */
+    int markMissing(WordBatch words, int count) {
+        final int[] order = words.order();
+        int maxLength = 0;
+        for (int idx = 0; idx < count; idx++) {
+            order[idx] = idx;
+            maxLength = Math.max(maxLength, words.length(idx));
+        }
+        if (count <= MAX_SORTED_BATCH) {
+            for (int idx = 1; idx < count; idx++) {
+                final int wordIdx = order[idx];
+                int insertIdx = idx;
+                while (insertIdx > 0 && compareIgnoreCase(words, order[insertIdx - 1], wordIdx) > 0) {
+                    order[insertIdx] = order[insertIdx - 1];
+                    insertIdx--;
+                }
+                order[insertIdx] = wordIdx;
+            }
+        }
+
+        final int[] path = words.path(maxLength + 1);
+        path[0] = ROOT;
+        int previousIdx = -1;
+        int walkedLength = 0;
+        int missingCount = 0;
+        for (int orderIdx = 0; orderIdx < count; orderIdx++) {
+            final int wordIdx = order[orderIdx];
+            final int wordLength = words.length(wordIdx);
+            int depth = 0;
+            while (depth < walkedLength && depth < wordLength &&
+                    Character.toUpperCase(words.charAt(wordIdx, depth)) == Character.toUpperCase(words.charAt(previousIdx, depth))) {
+                depth++;
+            }
+
+            int node = path[depth];
+            while (depth < wordLength) {
+                node = child(node, Character.toUpperCase(words.charAt(wordIdx, depth)));
+                if (node < 0) {
+                    break;
+                }
+                path[++depth] = node;
+            }
+            final boolean wordMissing = depth < wordLength || !isTerminal(node);
+            words.setMissing(wordIdx, wordMissing);
+            if (wordMissing) {
+                missingCount++;
+            }
+            previousIdx = wordIdx;
+            walkedLength = depth;
+        }
+        return missingCount;
+    }
+
+    int getNodeCount() {
+        return nodes.limit() - 1;
+    }
+
+    int getEdgeCount() {
+        return edgeChars.limit();
+    }
+
+    int getWordCount() {
+        return wordCount;
+    }
+
+    ByteBuffer getImage() {
+        return image.asReadOnlyBuffer().order(image.order());
+    }
+
+    boolean isTerminal(int node) {
+        return (nodes.get(node) & TERMINAL_FLAG) != 0;
+    }
+
+    /**
+     * Node reached from {@code node} over the edge labelled {@code c}, or -1 when there is no such edge.
+     */
+    int child(int node, char c) {
+        int low = nodes.get(node) & ~TERMINAL_FLAG;
+        int high = (nodes.get(node + 1) & ~TERMINAL_FLAG) - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final char midChar = edgeChars.get(mid);
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets.get(mid);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Edges leaving a node are numbered from {@code firstEdge(node)} up to but not including {@code endEdge(node)},
+     * ordered by their label.
+     */
+    int firstEdge(int node) {
+        return nodes.get(node) & ~TERMINAL_FLAG;
+    }
+
+    int endEdge(int node) {
+        return nodes.get(node + 1) & ~TERMINAL_FLAG;
+    }
+
+    char edgeChar(int edge) {
+        return edgeChars.get(edge);
+    }
+
+    int edgeTarget(int edge) {
+        return edgeTargets.get(edge);
+    }
+
+    private static int compareIgnoreCase(WordBatch words, int leftIdx, int rightIdx) {
+        final int leftLength = words.length(leftIdx);
+        final int rightLength = words.length(rightIdx);
+        final int length = Math.min(leftLength, rightLength);
+        for (int idx = 0; idx < length; idx++) {
+            final int diff = Character.toUpperCase(words.charAt(leftIdx, idx)) - Character.toUpperCase(words.charAt(rightIdx, idx));
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return leftLength - rightLength;
+    }
+
+    private static ByteBuffer section(ByteBuffer image, int offset, int count, int elementSize) {
+        final ByteBuffer section = image.duplicate();
+        section.limit(offset + count * elementSize);
+        section.position(offset);
+        return section.slice().order(image.order());
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Collects words and compiles them into a {@link DictionaryGraph}. The graph is built with the incremental
+     * construction for sorted input (Daciuk et al.): each word only adds the suffix it does not share with the
+     * previous word, and finished nodes are merged with an equivalent registered node as soon as they can no
+     * longer change.
+     */
+    static final class Builder {
+        private final List<String> words = new ArrayList<>();
+
+        private Builder() {}
+
+        Builder addWord(String word) {
+            final String normalized = word.trim().toUpperCase(Locale.ROOT);
+            if (!normalized.isEmpty()) {
+                words.add(normalized);
+            }
+            return this;
+        }
+
+        DictionaryGraph build() {
+            Collections.sort(words);
+
+            final BuildNode root = new BuildNode();
+            final Map<BuildNode, BuildNode> register = new HashMap<>();
+            final List<BuildNode> unchecked = new ArrayList<>();
+            String previousWord = "";
+            int wordCount = 0;
+
+            for (String word : words) {
+                if (word.equals(previousWord)) {
+                    continue;
+                }
+                int commonPrefix = 0;
+                final int maxPrefix = Math.min(word.length(), previousWord.length());
+                while (commonPrefix < maxPrefix && word.charAt(commonPrefix) == previousWord.charAt(commonPrefix)) {
+                    commonPrefix++;
+                }
+                minimize(root, unchecked, register, commonPrefix);
+
+                BuildNode node = unchecked.isEmpty() ? root : unchecked.get(unchecked.size() - 1);
+                for (int idx = commonPrefix; idx < word.length(); idx++) {
+                    final BuildNode next = new BuildNode();
+                    node.addEdge(word.charAt(idx), next);
+                    unchecked.add(next);
+                    node = next;
+                }
+                node.terminal = true;
+                previousWord = word;
+                wordCount++;
+            }
+            minimize(root, unchecked, register, 0);
+            words.clear();
+
+            return freeze(root, wordCount);
+        }
+
+        /**
+         * Replaces every unchecked node deeper than {@code downTo} with an equivalent registered node, or registers
+         * it when no equivalent exists. The unchecked list holds the nodes of the previous word's path, so the node
+         * at position {@code idx} is always the last child of the node before it, or of the root for the first one.
+         */
+        private static void minimize(BuildNode root, List<BuildNode> unchecked, Map<BuildNode, BuildNode> register, int downTo) {
+            for (int idx = unchecked.size() - 1; idx >= downTo; idx--) {
+                final BuildNode child = unchecked.remove(idx);
+                final BuildNode existing = register.putIfAbsent(child, child);
+                if (existing != null) {
+                    final BuildNode parent = idx == 0 ? root : unchecked.get(idx - 1);
+                    parent.replaceLastChild(existing);
+                }
+            }
+        }
+
+        private static DictionaryGraph freeze(BuildNode root, int wordCount) {
+            final Map<BuildNode, Integer> ids = new IdentityHashMap<>();
+            final List<BuildNode> order = new ArrayList<>();
+            ids.put(root, 0);
+            order.add(root);
+            int edgeCount = 0;
+            for (int idx = 0; idx < order.size(); idx++) {
+                final BuildNode node = order.get(idx);
+                edgeCount += node.edgeCount;
+                for (int edge = 0; edge < node.edgeCount; edge++) {
+                    final BuildNode child = node.children[edge];
+                    if (!ids.containsKey(child)) {
+                        ids.put(child, order.size());
+                        order.add(child);
+                    }
+                }
+            }
+
+            final int nodeCount = order.size();
+            final int imageSize = HEADER_SIZE + (nodeCount + 1) * Integer.BYTES + edgeCount * (Integer.BYTES + Character.BYTES);
+            final ByteBuffer image = ByteBuffer.allocate(imageSize).order(ByteOrder.nativeOrder());
+            image.putInt(wordCount).putInt(nodeCount).putInt(edgeCount);
+
+            int edgeIdx = 0;
+            for (BuildNode node : order) {
+                image.putInt(node.terminal ? edgeIdx | TERMINAL_FLAG : edgeIdx);
+                edgeIdx += node.edgeCount;
+            }
+            image.putInt(edgeIdx);
+            for (BuildNode node : order) {
+                for (int edge = 0; edge < node.edgeCount; edge++) {
+                    image.putInt(ids.get(node.children[edge]));
+                }
+            }
+            for (BuildNode node : order) {
+                for (int edge = 0; edge < node.edgeCount; edge++) {
+                    image.putChar(node.chars[edge]);
+                }
+            }
+            image.flip();
+
+            return new DictionaryGraph(image);
+        }
+    }
+
+    private static final class BuildNode {
+        private char[] chars = new char[2];
+        private BuildNode[] children = new BuildNode[2];
+        private int edgeCount;
+        private boolean terminal;
+
+        private void addEdge(char c, BuildNode child) {
+            if (edgeCount == chars.length) {
+                chars = Arrays.copyOf(chars, edgeCount * 2);
+                children = Arrays.copyOf(children, edgeCount * 2);
+            }
+            chars[edgeCount] = c;
+            children[edgeCount] = child;
+            edgeCount++;
+        }
+
+        private void replaceLastChild(BuildNode child) {
+            children[edgeCount - 1] = child;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BuildNode that = (BuildNode) o;
+            if (terminal != that.terminal || edgeCount != that.edgeCount) {
+                return false;
+            }
+            for (int idx = 0; idx < edgeCount; idx++) {
+                if (chars[idx] != that.chars[idx] || children[idx] != that.children[idx]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = terminal ? 1 : 0;
+            for (int idx = 0; idx < edgeCount; idx++) {
+                hash = 31 * hash + chars[idx];
+                hash = 31 * hash + System.identityHashCode(children[idx]);
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package game.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads and writes {@link CompiledDictionary} images so the word lists only need to be parsed when the image is
+ * missing or older than its source files.
+ * <p>
+ * An image file is a small header (magic, format version, a fingerprint of the source files and the section lengths)
+ * followed by the graph image and the filter image. Images are mapped read only and served straight from the
+ * mapping, so the graph does not take heap space.
+ * New images are written to a temporary file and moved into place, which never truncates a file that another graph
+ * may still have mapped.
+ *
+ * @author Manish Shrestha
+ */
+final class DictionaryImage {
+    private static final Logger log = LoggerFactory.getLogger(DictionaryImage.class);
+
+    private static final int MAGIC = 0x44415747;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES + Long.BYTES;
+    private static final int SECTION_ALIGNMENT = Long.BYTES;
+    private static final String FILE_EXTENSION = ".dawg";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private DictionaryImage() {}
+
+    /**
+     * Returns the image file for the given source files. The name only depends on the source paths, the fingerprint
+     * stored inside the image decides whether it is still up to date.
+     */
+    static Path imagePath(Path imageDir, List<File> sourceFiles) {
+        long hash = FNV_OFFSET_BASIS;
+        for (File file : sourceFiles) {
+            hash = fnv(hash, file.getAbsolutePath());
+        }
+        return imageDir.resolve("dictionary-" + Long.toHexString(hash) + FILE_EXTENSION);
+    }
+
+    /**
+     * Fingerprint of the source files made of their paths, sizes and modification times, and of the filter false
+     * positive rate the image is compiled with.
+     */
+    static long fingerprint(List<File> sourceFiles, double falsePositiveRate) {
+        long hash = fnv(FNV_OFFSET_BASIS, FORMAT_VERSION);
+        hash = fnv(hash, Double.doubleToLongBits(falsePositiveRate));
+        for (File file : sourceFiles) {
+            hash = fnv(hash, file.getAbsolutePath());
+            hash = fnv(hash, file.length());
+            hash = fnv(hash, file.lastModified());
+        }
+        return hash;
+    }
+
+    /**
+     * Maps the image at {@code imagePath} if it exists and was compiled from sources with the given fingerprint.
+     */
+    static Optional<CompiledDictionary> load(Path imagePath, long fingerprint) {
+        if (!Files.isRegularFile(imagePath)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(imagePath, StandardOpenOption.READ)) {
+            final MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapping.order(ByteOrder.nativeOrder());
+            if (mapping.limit() < HEADER_SIZE || mapping.getInt(0) != MAGIC || mapping.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                log.info("Ignoring dictionary image {} with unknown format", imagePath);
+                return Optional.empty();
+            }
+            if (mapping.getLong(2 * Integer.BYTES) != fingerprint) {
+                log.info("Ignoring stale dictionary image {}", imagePath);
+                return Optional.empty();
+            }
+            final int graphLength = mapping.getInt(2 * Integer.BYTES + Long.BYTES);
+            final int filterLength = mapping.getInt(3 * Integer.BYTES + Long.BYTES);
+            final int filterOffset = HEADER_SIZE + align(graphLength);
+            final ByteBuffer graphImage = section(mapping, HEADER_SIZE, graphLength);
+            final ByteBuffer filterImage = section(mapping, filterOffset, filterLength);
+            return Optional.of(new CompiledDictionary(DictionaryGraph.wrap(graphImage), DictionaryFilter.wrap(filterImage)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to read dictionary image " + imagePath, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the graph and filter images to {@code imagePath}. Returns false if the image could not be written.
+     */
+    static boolean write(Path imagePath, CompiledDictionary compiledDictionary, long fingerprint) {
+        try {
+            final Path imageDir = imagePath.toAbsolutePath().getParent();
+            Files.createDirectories(imageDir);
+            final Path tempFile = Files.createTempFile(imageDir, "dictionary-", ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    final ByteBuffer graphImage = compiledDictionary.getGraph().getImage();
+                    final ByteBuffer filterImage = compiledDictionary.getFilter().getImage();
+                    final int graphLength = graphImage.remaining();
+                    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+                    header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(fingerprint)
+                            .putInt(graphLength).putInt(filterImage.remaining()).flip();
+                    writeFully(channel, header);
+                    writeFully(channel, graphImage);
+                    writeFully(channel, ByteBuffer.allocate(align(graphLength) - graphLength));
+                    writeFully(channel, filterImage);
+                    channel.force(true);
+                }
+                Files.move(tempFile, imagePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("Unable to write dictionary image " + imagePath, e);
+            return false;
+        }
+    }
+
+    private static int align(int length) {
+        return (length + SECTION_ALIGNMENT - 1) / SECTION_ALIGNMENT * SECTION_ALIGNMENT;
+    }
+
+    private static ByteBuffer section(ByteBuffer mapping, int offset, int length) {
+        final ByteBuffer section = mapping.duplicate();
+        section.limit(offset + length);
+        section.position(offset);
+        return section.slice().order(ByteOrder.nativeOrder());
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long fnv(long hash, String value) {
+        for (int idx = 0; idx < value.length(); idx++) {
+            hash = (hash ^ value.charAt(idx)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long fnv(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
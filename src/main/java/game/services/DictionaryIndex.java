@@ -0,0 +1,288 @@
+package game.services;
+
+import game.core.Board;
+import game.core.DictionaryType;
+import game.data.DictionaryStats;
+import game.data.MoveSearchResult;
+import game.data.WordSearchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Word index of a single {@link DictionaryType}. The graph is loaded the first time a word is looked up and is then
+ * shared by every game played with that dictionary, so a dictionary no game uses never takes any memory.
+ * <p>
+ * Lookups go through the {@link DictionaryFilter} first and only reach the graph when the filter can not rule the
+ * word out. The index counts lookups, filter rejections and filter false positives so the false positive rate can
+ * be tuned.
+ * <p>
+ * A loaded dictionary is never changed. A reload compiles a new one and publishes it through a volatile reference,
+ * so a lookup always sees either the old or the new dictionary in full and never waits for the reload. The old
+ * dictionary becomes garbage once the lookups that still hold it return.
+ *
+ * @author Manish Shrestha
+ */
+final class DictionaryIndex {
+    private static final Logger log = LoggerFactory.getLogger(DictionaryIndex.class);
+
+    private final DictionaryType dictionaryType;
+    private final List<File> sourceFiles;
+    private final String imageDir;
+    private final double falsePositiveRate;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder filterRejections = new LongAdder();
+    private final LongAdder filterFalsePositives = new LongAdder();
+
+    private volatile CompiledDictionary compiledDictionary;
+
+    DictionaryIndex(DictionaryType dictionaryType, List<File> sourceFiles, String imageDir, double falsePositiveRate) {
+        this.dictionaryType = dictionaryType;
+        this.sourceFiles = sourceFiles;
+        this.imageDir = imageDir;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    DictionaryType getDictionaryType() {
+        return dictionaryType;
+    }
+
+    boolean isLoaded() {
+        return compiledDictionary != null;
+    }
+
+    boolean contains(CharSequence word) {
+        final CompiledDictionary dictionary = getCompiledDictionary();
+        lookups.increment();
+        if (!dictionary.getFilter().mightContain(word)) {
+            filterRejections.increment();
+            return false;
+        }
+        if (dictionary.getGraph().contains(word)) {
+            return true;
+        }
+        filterFalsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Looks up a batch of words and returns the position of the first word that is not in the dictionary, or -1 when
+     * all of them are. Every word goes through the filter first and the words ahead of the first one it rejects are
+     * then looked up in the graph together. Allocates nothing.
+     */
+    int indexOfMissing(WordBatch words) {
+        final CompiledDictionary dictionary = getCompiledDictionary();
+        final int size = words.size();
+        lookups.add(size);
+
+        int firstRejected = -1;
+        for (int wordIdx = 0; wordIdx < size; wordIdx++) {
+            if (!dictionary.getFilter().mightContain(words.view(wordIdx))) {
+                filterRejections.increment();
+                if (firstRejected < 0) {
+                    firstRejected = wordIdx;
+                }
+            }
+        }
+
+        final int graphCount = firstRejected < 0 ? size : firstRejected;
+        final int missingCount = dictionary.getGraph().markMissing(words, graphCount);
+        if (missingCount == 0) {
+            return firstRejected;
+        }
+        filterFalsePositives.add(missingCount);
+        for (int wordIdx = 0; wordIdx < graphCount; wordIdx++) {
+            if (words.isMissing(wordIdx)) {
+                return wordIdx;
+            }
+        }
+        return firstRejected;
+    }
+
+    /**
+     * Returns the words that can be spelled from a rack in alphabetical order, skipping the first {@code offset} and
+     * stopping the search once {@code limit} words are found.
+     */
+    List<String> findAnagrams(int[] letterCounts, int blankCount, int offset, int limit) {
+        final List<String> words = new ArrayList<>(Math.min(limit, 64));
+        if (limit == 0) {
+            return words;
+        }
+        final int[] skipCount = {offset};
+        getCompiledDictionary().getGraph().forEachAnagram(letterCounts, blankCount, word -> {
+            if (skipCount[0] > 0) {
+                skipCount[0]--;
+                return true;
+            }
+            words.add(word);
+            return words.size() < limit;
+        });
+        return words;
+    }
+
+    /**
+     * Returns the words matching a pattern in alphabetical order, skipping the first {@code offset} and stopping the
+     * search once {@code limit} words are found or the time budget is used up.
+     */
+    WordSearchResult findWords(WordPattern pattern, int offset, int limit, long timeBudgetMillis) {
+        final List<String> words = new ArrayList<>(Math.min(limit, 64));
+        if (limit == 0) {
+            return new WordSearchResult(words, false);
+        }
+        final DictionaryGraph graph = getCompiledDictionary().getGraph();
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        final int[] skipCount = {offset};
+        final boolean timedOut = graph.forEachMatch(pattern, deadlineNanos, word -> {
+            if (skipCount[0] > 0) {
+                skipCount[0]--;
+                return true;
+            }
+            words.add(word);
+            return words.size() < limit;
+        });
+        return new WordSearchResult(words, timedOut);
+    }
+
+    /**
+     * Returns the highest scoring plays of a rack on a board, at most {@code limit} of them, searched on the pool
+     * until the time budget is used up.
+     */
+    MoveSearchResult generateMoves(Board board, Rack rack, int limit, ForkJoinPool pool, long timeBudgetMillis) {
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        final CompiledDictionary dictionary = getCompiledDictionary();
+        return MoveGenerator.generate(dictionary.getGraph(), dictionary::getGaddag, board, rack, pool, deadlineNanos, limit);
+    }
+
+    /**
+     * Returns {@code previous} when it still matches the loaded graph and the board, otherwise computes the masks of
+     * every square.
+     */
+    CrossChecks getCrossChecks(Board board, CrossChecks previous) {
+        final DictionaryGraph graph = getGraph();
+        if (previous != null && previous.isFor(graph, board)) {
+            return previous;
+        }
+        return CrossChecks.compute(graph, board);
+    }
+
+    /**
+     * Compiles the dictionary again from its source files and publishes it when complete. Does nothing when the
+     * dictionary was never loaded, the next lookup loads the current files anyway.
+     */
+    void reload() {
+        synchronized (this) {
+            if (compiledDictionary == null) {
+                return;
+            }
+            compiledDictionary = load();
+        }
+    }
+
+    List<File> getSourceFiles() {
+        return sourceFiles;
+    }
+
+    DictionaryGraph getGraph() {
+        return getCompiledDictionary().getGraph();
+    }
+
+    /**
+     * Returns the statistics of the index without loading it.
+     */
+    DictionaryStats getStats() {
+        final DictionaryStats.Builder builder = DictionaryStats.builder(dictionaryType)
+                .setFilterFalsePositiveRate(falsePositiveRate)
+                .setLookups(lookups.sum())
+                .setFilterRejections(filterRejections.sum())
+                .setFilterFalsePositives(filterFalsePositives.sum());
+        final CompiledDictionary dictionary = compiledDictionary;
+        if (dictionary != null) {
+            final DictionaryGraph graph = dictionary.getGraph();
+            final DictionaryFilter filter = dictionary.getFilter();
+            builder.setLoaded(true)
+                    .setWordCount(graph.getWordCount())
+                    .setNodeCount(graph.getNodeCount())
+                    .setEdgeCount(graph.getEdgeCount())
+                    .setFilterSizeInBytes(filter.getSizeInBytes())
+                    .setFilterHashCount(filter.getHashCount());
+        }
+        return builder.build();
+    }
+
+    private CompiledDictionary getCompiledDictionary() {
+        CompiledDictionary dictionary = compiledDictionary;
+        if (dictionary == null) {
+            synchronized (this) {
+                dictionary = compiledDictionary;
+                if (dictionary == null) {
+                    dictionary = load();
+                    compiledDictionary = dictionary;
+                }
+            }
+        }
+        return dictionary;
+    }
+
+    private CompiledDictionary load() {
+        log.info("Loading Dictionary: " + dictionaryType + " from " + sourceFiles);
+        final CompiledDictionary dictionary;
+        try {
+            if (imageDir == null || imageDir.trim().isEmpty()) {
+                dictionary = loadDictionaryFiles(sourceFiles, falsePositiveRate);
+            } else {
+                dictionary = loadDictionaryImage(Paths.get(imageDir), sourceFiles, falsePositiveRate);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load dictionary " + dictionaryType, e);
+        }
+        final DictionaryGraph graph = dictionary.getGraph();
+        final DictionaryFilter filter = dictionary.getFilter();
+        log.info("Loaded {} words of dictionary {} into graph with {} nodes and {} edges, filter of {} bytes with {} hashes",
+                graph.getWordCount(), dictionaryType, graph.getNodeCount(), graph.getEdgeCount(),
+                filter.getSizeInBytes(), filter.getHashCount());
+        return dictionary;
+    }
+
+    /**
+     * Maps the compiled image of the source files, compiling and writing it first when it is missing or stale.
+     * Falls back to the graph compiled on heap when the image can not be written.
+     */
+    private static CompiledDictionary loadDictionaryImage(Path imageDir, List<File> sourceFiles,
+                                                          double falsePositiveRate) throws IOException {
+        final Path imagePath = DictionaryImage.imagePath(imageDir, sourceFiles);
+        final long fingerprint = DictionaryImage.fingerprint(sourceFiles, falsePositiveRate);
+        final Optional<CompiledDictionary> mappedDictionary = DictionaryImage.load(imagePath, fingerprint);
+        if (mappedDictionary.isPresent()) {
+            log.info("Mapped dictionary image {}", imagePath);
+            return mappedDictionary.get();
+        }
+
+        final CompiledDictionary compiledDictionary = loadDictionaryFiles(sourceFiles, falsePositiveRate);
+        if (DictionaryImage.write(imagePath, compiledDictionary, fingerprint)) {
+            log.info("Wrote dictionary image {}", imagePath);
+            return DictionaryImage.load(imagePath, fingerprint).orElse(compiledDictionary);
+        }
+        return compiledDictionary;
+    }
+
+    private static CompiledDictionary loadDictionaryFiles(List<File> files, double falsePositiveRate) throws IOException {
+        final String[] words = DictionaryFileLoader.loadSortedWords(files);
+        final DictionaryGraph.Builder builder = DictionaryGraph.builder();
+        for (String word: words) {
+            builder.addWord(word);
+        }
+        return new CompiledDictionary(builder.build(), DictionaryFilter.build(words, falsePositiveRate));
+    }
+}
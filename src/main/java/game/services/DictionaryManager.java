@@ -1,9 +1,68 @@
 package game.services;
 
+import game.core.Board;
+import game.core.DictionaryType;
+import game.data.DictionaryStats;
+import game.data.MoveSearchResult;
+import game.data.WordQuery;
+import game.data.WordSearchResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author Manish Shrestha
  */
 public interface DictionaryManager {
 
-    boolean checkWord(String word);
+    boolean checkWord(DictionaryType dictionaryType, String word);
+
+    /**
+     * Checks a batch of words in one call. Returns the position of the first word that is not in the dictionary, or
+     * -1 when all of them are.
+     */
+    int checkWords(DictionaryType dictionaryType, WordBatch words);
+
+    default int checkWords(DictionaryType dictionaryType, List<? extends CharSequence> words) {
+        return checkWords(dictionaryType, WordBatch.of(words));
+    }
+
+    /**
+     * Words that can be spelled from some or all of the letters, in alphabetical order. A {@code ?} in the letters is
+     * a blank tile and stands for any letter.
+     */
+    List<String> findAnagrams(DictionaryType dictionaryType, String letters, int offset, int limit);
+
+    /**
+     * Words matching the query in alphabetical order. The search gives up when it runs out of time and returns the
+     * words found until then.
+     */
+    WordSearchResult findWords(DictionaryType dictionaryType, WordQuery query);
+
+    /**
+     * Legal plays of the rack on the board, highest score first and at most {@code limit} of them. A {@code ?} in the
+     * rack is a blank tile. The search gives up when the time budget is used up and returns the best plays found
+     * until then. A budget of 0 uses the configured one.
+     */
+    MoveSearchResult generateMoves(DictionaryType dictionaryType, Board board, String rack, int limit, long timeBudgetMillis);
+
+    /**
+     * Letters each empty square of the board allows in both play directions. Returns {@code previous} when it was
+     * computed against the loaded dictionary and a board holding the same tiles, so masks kept up to date with
+     * {@link CrossChecks#place} are reused.
+     */
+    CrossChecks getCrossChecks(DictionaryType dictionaryType, Board board, CrossChecks previous);
+
+    /**
+     * Dictionary types games can be played with. The first one is used when a game does not specify a dictionary.
+     */
+    List<DictionaryType> getDictionaryTypes();
+
+    DictionaryStats getDictionaryStats(DictionaryType dictionaryType);
+
+    /**
+     * Rebuilds the dictionary from its source files in the background. Lookups keep using the loaded dictionary
+     * until the new one is complete. The returned future completes once the new dictionary is in use.
+     */
+    CompletableFuture<Void> reloadDictionary(DictionaryType dictionaryType);
 }
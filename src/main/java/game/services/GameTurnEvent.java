@@ -0,0 +1,38 @@
+package game.services;
+
+import game.core.Game;
+import game.core.Player;
+
+/**
+ * Published by {@link StandardMatchManager} whenever the player whose turn it is may have changed, that is after a
+ * game is started, a move is made or a game is updated.
+ *
+ * @author Manish Shrestha
+ */
+final class GameTurnEvent {
+    private final Game game;
+
+    GameTurnEvent(Game game) {
+        this.game = game;
+    }
+
+    Game getGame() {
+        return game;
+    }
+
+    boolean hasBot() {
+        for (Player player: game.getPlayers()) {
+            if (player.getPerson().isBot()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "GameTurnEvent{" +
+                "gameId=" + game.getId() +
+                '}';
+    }
+}
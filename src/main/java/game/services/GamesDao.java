@@ -1,5 +1,6 @@
 package game.services;
 
+import game.core.DictionaryType;
 import game.core.Game;
 import game.core.Move;
 import game.core.Player;
@@ -8,6 +9,7 @@ import game.data.dao.UpdateGameOptions;
 import game.viewer.GameView;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,7 +20,7 @@ public interface GamesDao {
 
     int getGamesCount(GameView gameView);
 
-    Game createGame(List<Player> players, int boardSize, int numberOfTilesPerPlayer);
+    Game createGame(List<Player> players, int boardSize, int numberOfTilesPerPlayer, DictionaryType dictionaryType);
 
     void updateGame(UpdateGameOptions updateGameOptions);
 
@@ -32,7 +34,17 @@ public interface GamesDao {
 
     int getGameHistoryCount(int gameId);
 
-    Game makeMove(int gameId, PlayerMove playerMove);
+    /**
+     * Records the move worth {@code points} and adds them to the score of the player who made it. The move is applied
+     * to the game as it was loaded and the game after the move is returned without being read back, so the move is
+     * rejected when the stored game has moved on to another version.
+     */
+    Game makeMove(Game game, PlayerMove playerMove, int points);
 
     Player getNextTurnPlayer(int gameId);
+
+    /**
+     * Players whose turn it is in each of the games, by game id, looked up for all of the games at once.
+     */
+    Map<Integer, Player> getNextTurnPlayers(List<Game> games);
 }
@@ -0,0 +1,93 @@
+package game.services;
+
+import game.core.Board;
+import game.core.DictionaryType;
+import game.core.Game;
+import game.data.MoveSearchResult;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hints of recently asked board states, evicting the least recently used entry once it holds {@code maxSize}
+ * entries. An entry is keyed by the game, its dictionary, the letters on its board and the sorted letters of the
+ * rack, so a hint is never served for a board that changed. The entries of a game are dropped as soon as its board
+ * changes, since they can never be asked for again.
+ *
+ * @author Manish Shrestha
+ */
+final class HintCache {
+    private final Map<Key, MoveSearchResult> hints;
+
+    HintCache(int maxSize) {
+        this.hints = new LinkedHashMap<Key, MoveSearchResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, MoveSearchResult> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    static Key key(Game game, String rack) {
+        final Board board = game.getBoard();
+        final int size = board.getSize();
+        final StringBuilder boardState = new StringBuilder(size * size);
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                boardState.append(board.getLetter(row, col));
+            }
+        }
+        final char[] rackLetters = rack == null ? new char[0] : rack.toUpperCase(Locale.ROOT).toCharArray();
+        Arrays.sort(rackLetters);
+        return new Key(game.getId(), game.getDictionaryType(), boardState.toString(), new String(rackLetters));
+    }
+
+    synchronized MoveSearchResult get(Key key) {
+        return hints.get(key);
+    }
+
+    synchronized void put(Key key, MoveSearchResult result) {
+        hints.put(key, result);
+    }
+
+    synchronized void invalidate(int gameId) {
+        hints.keySet().removeIf(key -> key.gameId == gameId);
+    }
+
+    synchronized int size() {
+        return hints.size();
+    }
+
+    static final class Key {
+        private final int gameId;
+        private final DictionaryType dictionaryType;
+        private final String boardState;
+        private final String rack;
+
+        private Key(int gameId, DictionaryType dictionaryType, String boardState, String rack) {
+            this.gameId = gameId;
+            this.dictionaryType = dictionaryType;
+            this.boardState = boardState;
+            this.rack = rack;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return gameId == key.gameId &&
+                    dictionaryType == key.dictionaryType &&
+                    Objects.equals(boardState, key.boardState) &&
+                    Objects.equals(rack, key.rack);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(gameId, dictionaryType, boardState, rack);
+        }
+    }
+}
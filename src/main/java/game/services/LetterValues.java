@@ -0,0 +1,19 @@
+package game.services;
+
+/**
+ * Points of each letter from A to Z in the standard English tile set. A blank is worth nothing.
+ *
+ * @author Manish Shrestha
+ */
+final class LetterValues {
+    private static final int[] VALUES = {
+            1, 3, 3, 2, 1, 4, 2, 4, 1, 8, 5, 1, 3, 1, 1, 3, 10, 1, 1, 1, 1, 4, 4, 8, 4, 10
+    };
+
+    private LetterValues() {}
+
+    static int valueOf(char c) {
+        final char upperCase = Character.toUpperCase(c);
+        return upperCase >= 'A' && upperCase <= 'Z' ? VALUES[upperCase - 'A'] : 0;
+    }
+}
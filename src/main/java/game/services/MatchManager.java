@@ -1,24 +1,44 @@
 package game.services;
 
+import game.core.DictionaryType;
 import game.core.Game;
 import game.core.Player;
+import game.data.MoveSearchResult;
 import game.data.PlayerMove;
+import game.data.ValidationStats;
 import game.data.dao.UpdateGameOptions;
+import game.data.validation.FailReason;
 import game.viewer.GameView;
 import game.viewer.GamesViewer;
 import game.viewer.MovesViewer;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * @author Manish Shrestha
  */
 public interface MatchManager {
-    Game startNewGame(List<Player> players, int boardSize, int totalNumOfTilesPerPlayer);
+    /**
+     * Starts a new game validated against the given dictionary, or against the default dictionary when
+     * {@code dictionaryType} is null.
+     */
+    Game startNewGame(List<Player> players, int boardSize, int totalNumOfTilesPerPlayer, DictionaryType dictionaryType);
 
     Game makeMove(Game game, PlayerMove playerMove);
 
+    /**
+     * Validates candidate moves against the current board of the game without making them, returning the outcome
+     * of each move in the order given.
+     */
+    List<Optional<FailReason>> validateMoves(int gameId, List<PlayerMove> moves);
+
+    /**
+     * Hits and misses of the cache answering repeated validations of a move against the same version of a board.
+     */
+    ValidationStats getValidationStats();
+
     GamesViewer getGamesViewer(GameView gameView);
 
     void updateGame(UpdateGameOptions updateGameOptions);
@@ -33,4 +53,15 @@ public interface MatchManager {
 
     Player getNextTurnPlayer(int gameId);
 
+    /**
+     * Players whose turn it is in each of the games, by game id, such as for a page of games.
+     */
+    Map<Integer, Player> getNextTurnPlayers(List<Game> games);
+
+    /**
+     * Highest scoring plays of the rack for the player whose turn it is, at most {@code limit} of them. Hints of a
+     * board state are generated once and served from a cache until the board changes.
+     */
+    MoveSearchResult getHints(int gameId, int playerId, String rack, int limit);
+
 }
@@ -0,0 +1,44 @@
+package game.services;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the timers and summaries of the services. Their percentiles and histograms are configured under
+ * {@code management.metrics.distribution} and read through the actuator metrics endpoint.
+ *
+ * @author Manish Shrestha
+ */
+final class Meters {
+
+    private Meters() {
+    }
+
+    static Timer timer(MeterRegistry meterRegistry, String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Summary of a small count per operation, such as the words of a move.
+     */
+    static DistributionSummary summary(MeterRegistry meterRegistry, String name, String description, String baseUnit) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(baseUnit)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the time since {@code start} and returns the current time, to be the start of the next phase.
+     */
+    static long record(Timer timer, long start) {
+        final long end = System.nanoTime();
+        timer.record(end - start, TimeUnit.NANOSECONDS);
+        return end;
+    }
+}
@@ -0,0 +1,465 @@
+package game.services;
+
+import game.core.Board;
+import game.core.MoveDirection;
+import game.data.MoveCandidate;
+import game.data.MoveSearchResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Finds every legal play of a rack on a board and ranks the plays by score.
+ * <p>
+ * Plays are generated the way Gordon's GADDAG move generator does. The GADDAG holds, for every word and every split
+ * of it, the reversed prefix, a {@link #SEPARATOR} and the rest of the word, so a play can be grown from any anchor
+ * square to the left first and then to the right. An anchor is an empty square next to a tile, or the centre square
+ * of an empty board, and each play is only grown from the leftmost anchor it covers. Before a line is searched every
+ * empty square gets a cross check: the set of letters that form a word with the tiles above and below it, looked up
+ * in the word graph. Letters outside that set are never tried there, so only legal plays are reached. The down plays
+ * are found by running the same search over the transposed board.
+ * <p>
+ * A play scores its letters with the letter boosts of the squares it covers, times the word boosts of those squares,
+ * plus the score of every cross word it forms and a bonus when it uses a full rack. Boosts only count for newly
+ * placed tiles. Tiles already on the board are scored at their letter value.
+ * <p>
+ * The lines of both directions are searched as a fork join task tree, a few lines per task, and every task keeps its
+ * own rack and line state. The caller waits for the tree until the deadline and then returns the best plays found
+ * so far, the tasks stop at the next anchor once the deadline has passed. The GADDAG is fetched inside the tasks, so
+ * a caller that arrives while it is still being built does not wait past the deadline either.
+ *
+ * @author Manish Shrestha
+ */
+final class MoveGenerator {
+    static final char SEPARATOR = '>';
+    static final int RACK_SIZE = 7;
+    static final int BINGO_BONUS = 50;
+    private static final char EMPTY = '.';
+    private static final int ALL_LETTERS = (1 << 26) - 1;
+    private static final int LINES_PER_TASK = 2;
+    private static final Comparator<MoveCandidate> BY_SCORE = Comparator.comparingInt(MoveCandidate::getScore).reversed()
+            .thenComparing(MoveCandidate::getWord)
+            .thenComparingInt(MoveCandidate::getRow)
+            .thenComparingInt(MoveCandidate::getColumn)
+            .thenComparing(MoveCandidate::getMoveDirection);
+
+    private final Search search;
+    private final DictionaryGraph graph;
+    private final DictionaryGraph gaddag;
+    private final int size;
+    private final int[] letterCounts;
+    private int blankCount;
+    private int tilesLeft;
+
+    private Lines lines;
+    private int row;
+    private int anchor;
+    private int placedCount;
+    private final boolean[] anchors;
+    private final int[] crossMasks;
+    private final int[] crossScores;
+    private final char[] placed;
+    private final boolean[] placedBlank;
+
+    private MoveGenerator(Search search, DictionaryGraph gaddag) {
+        this.search = search;
+        this.graph = search.graph;
+        this.gaddag = gaddag;
+        this.size = search.size;
+        this.letterCounts = search.rack.getLetterCounts();
+        this.blankCount = search.rack.getBlankCount();
+        for (int count: letterCounts) {
+            tilesLeft += count;
+        }
+        tilesLeft += blankCount;
+        this.anchors = new boolean[size];
+        this.crossMasks = new int[size];
+        this.crossScores = new int[size];
+        this.placed = new char[size];
+        this.placedBlank = new boolean[size];
+    }
+
+    /**
+     * Builds the GADDAG of the words of a graph.
+     */
+    static DictionaryGraph buildGaddag(DictionaryGraph graph) {
+        final DictionaryGraph.Builder builder = DictionaryGraph.builder();
+        final StringBuilder path = new StringBuilder();
+        graph.forEachWord(word -> {
+            for (int split = 1; split <= word.length(); split++) {
+                path.setLength(0);
+                for (int idx = split - 1; idx >= 0; idx--) {
+                    path.append(word.charAt(idx));
+                }
+                path.append(SEPARATOR).append(word, split, word.length());
+                builder.addWord(path.toString());
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Searches every legal play of the rack on the board on the pool and returns the {@code limit} highest scoring
+     * ones found before the deadline from {@link System#nanoTime()}.
+     */
+    static MoveSearchResult generate(DictionaryGraph graph, Supplier<DictionaryGraph> gaddag, Board board, Rack rack,
+                                     ForkJoinPool pool, long deadlineNanos, int limit) {
+        final int size = board.getSize();
+        final char[][] boardMatrix = new char[size][size];
+        final char[][] letters = new char[size][size];
+        final int[][] boosts = new int[size][size];
+        final int[][] charBoosts = new int[size][size];
+        boolean emptyBoard = true;
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                final char value = board.getLetter(r, c);
+                boardMatrix[r][c] = value;
+                if (value != EMPTY && value != 0) {
+                    letters[r][c] = Character.toUpperCase(value);
+                    emptyBoard = false;
+                }
+                boosts[r][c] = board.getBoost(r, c);
+                charBoosts[r][c] = board.getCharBoost(r, c);
+            }
+        }
+
+        final Search search = new Search(graph, gaddag, size, rack, emptyBoard, deadlineNanos,
+                new Lines(MoveDirection.LEFT_RIGHT, letters, boardMatrix, boosts, charBoosts),
+                new Lines(MoveDirection.TOP_BOTTOM, transpose(letters), transpose(boardMatrix), transpose(boosts),
+                        transpose(charBoosts)));
+        final ForkJoinTask<Void> task = pool.submit(new LineTask(search, 0, 2 * size));
+        try {
+            task.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            search.timedOut = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            search.timedOut = true;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Unable to generate moves", e.getCause());
+        }
+
+        final List<MoveCandidate> moves = new ArrayList<>(search.moves);
+        moves.sort(BY_SCORE);
+        return new MoveSearchResult(moves.size() > limit ? new ArrayList<>(moves.subList(0, limit)) : moves,
+                search.timedOut);
+    }
+
+    /**
+     * Searches the lines from {@code from} up to but not including {@code to}, the across lines first and then the
+     * down lines, until the deadline passes.
+     */
+    private void generate(int from, int to) {
+        for (int line = from; line < to; line++) {
+            lines = line < size ? search.across : search.down;
+            row = line % size;
+            computeCrossChecks();
+            for (int col = 0; col < size; col++) {
+                if (anchors[col]) {
+                    if (System.nanoTime() - search.deadlineNanos > 0) {
+                        search.timedOut = true;
+                        return;
+                    }
+                    anchor = col;
+                    extendLeft(col, gaddag.getRoot());
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the anchors of the current line and the letters each empty square allows, together with the score of
+     * the tiles above and below it or -1 when there are none.
+     */
+    private void computeCrossChecks() {
+        final char[][] letters = lines.letters;
+        final int center = size / 2;
+        for (int col = 0; col < size; col++) {
+            if (letters[row][col] != 0) {
+                anchors[col] = false;
+                continue;
+            }
+            int up = row;
+            while (up > 0 && letters[up - 1][col] != 0) {
+                up--;
+            }
+            int down = row;
+            while (down < size - 1 && letters[down + 1][col] != 0) {
+                down++;
+            }
+            anchors[col] = search.emptyBoard
+                    ? row == center && col == center
+                    : up < row || down > row || (col > 0 && letters[row][col - 1] != 0) ||
+                      (col < size - 1 && letters[row][col + 1] != 0);
+            if (up == row && down == row) {
+                crossMasks[col] = ALL_LETTERS;
+                crossScores[col] = -1;
+                continue;
+            }
+
+            int crossScore = 0;
+            int node = graph.getRoot();
+            for (int r = up; r < row; r++) {
+                crossScore += LetterValues.valueOf(letters[r][col]);
+                if (node >= 0) {
+                    node = graph.child(node, letters[r][col]);
+                }
+            }
+            for (int r = row + 1; r <= down; r++) {
+                crossScore += LetterValues.valueOf(letters[r][col]);
+            }
+
+            int crossMask = 0;
+            if (node >= 0) {
+                for (int edge = graph.firstEdge(node); edge < graph.endEdge(node); edge++) {
+                    final char c = graph.edgeChar(edge);
+                    int next = graph.edgeTarget(edge);
+                    for (int r = row + 1; r <= down && next >= 0; r++) {
+                        next = graph.child(next, letters[r][col]);
+                    }
+                    if (next >= 0 && graph.isTerminal(next) && c >= 'A' && c <= 'Z') {
+                        crossMask |= 1 << (c - 'A');
+                    }
+                }
+            }
+            crossMasks[col] = crossMask;
+            crossScores[col] = crossScore;
+        }
+    }
+
+    /**
+     * Fills the square {@code col} while growing the play to the left of the anchor.
+     */
+    private void extendLeft(int col, int node) {
+        final char boardLetter = lines.letters[row][col];
+        if (boardLetter != 0) {
+            final int next = gaddag.child(node, boardLetter);
+            if (next >= 0) {
+                afterLeft(col, next);
+            }
+        } else if (tilesLeft > 0) {
+            placeTile(col, node, true, col);
+        }
+    }
+
+    /**
+     * Continues a play covering the squares from {@code col} to the anchor. The play may grow further left over
+     * tiles and empty squares that are not anchors, and may turn right when the square to its left is empty.
+     */
+    private void afterLeft(int col, int node) {
+        final boolean leftEmpty = col == 0 || lines.letters[row][col - 1] == 0;
+        if (col > 0 && (!leftEmpty || !anchors[col - 1])) {
+            extendLeft(col - 1, node);
+        }
+        if (leftEmpty) {
+            final int separated = gaddag.child(node, SEPARATOR);
+            if (separated >= 0) {
+                afterRight(anchor, separated, col);
+            }
+        }
+    }
+
+    /**
+     * Fills the square {@code col} while growing the play starting at {@code start} to the right of the anchor.
+     */
+    private void extendRight(int col, int node, int start) {
+        final char boardLetter = lines.letters[row][col];
+        if (boardLetter != 0) {
+            final int next = gaddag.child(node, boardLetter);
+            if (next >= 0) {
+                afterRight(col, next, start);
+            }
+        } else if (tilesLeft > 0) {
+            placeTile(col, node, false, start);
+        }
+    }
+
+    /**
+     * Records the play covering the squares from {@code start} to {@code col} when it is a word that ends at an
+     * empty square, and keeps growing it to the right.
+     */
+    private void afterRight(int col, int node, int start) {
+        final boolean rightEmpty = col == size - 1 || lines.letters[row][col + 1] == 0;
+        if (rightEmpty && col > start && gaddag.isTerminal(node)) {
+            record(start, col);
+        }
+        if (col < size - 1) {
+            extendRight(col + 1, node, start);
+        }
+    }
+
+    /**
+     * Tries every rack letter the GADDAG and the cross check allow on an empty square. A blank is only used for a
+     * letter the rack does not have.
+     */
+    private void placeTile(int col, int node, boolean left, int start) {
+        final int crossMask = crossMasks[col];
+        for (int edge = gaddag.firstEdge(node); edge < gaddag.endEdge(node); edge++) {
+            final char c = gaddag.edgeChar(edge);
+            if (c < 'A' || c > 'Z' || (crossMask & (1 << (c - 'A'))) == 0) {
+                continue;
+            }
+            final int letter = c - 'A';
+            final boolean useBlank = letterCounts[letter] == 0;
+            if (useBlank && blankCount == 0) {
+                continue;
+            }
+
+            if (useBlank) {
+                blankCount--;
+            } else {
+                letterCounts[letter]--;
+            }
+            tilesLeft--;
+            placedCount++;
+            placed[col] = c;
+            placedBlank[col] = useBlank;
+
+            if (left) {
+                afterLeft(col, gaddag.edgeTarget(edge));
+            } else {
+                afterRight(col, gaddag.edgeTarget(edge), start);
+            }
+
+            placedCount--;
+            tilesLeft++;
+            if (useBlank) {
+                blankCount++;
+            } else {
+                letterCounts[letter]++;
+            }
+        }
+    }
+
+    private void record(int start, int end) {
+        if (lines.moveDirection == MoveDirection.TOP_BOTTOM && placedCount == 1 && crossScores[anchor] >= 0) {
+            // a single tile forming words both ways is already found as an across play
+            return;
+        }
+
+        final char[] word = new char[end - start + 1];
+        final StringBuilder tilesUsed = new StringBuilder(placedCount);
+        int wordScore = 0;
+        int wordMultiplier = 1;
+        int crossWordsScore = 0;
+        for (int col = start; col <= end; col++) {
+            if (lines.letters[row][col] != 0) {
+                word[col - start] = lines.original[row][col];
+                wordScore += LetterValues.valueOf(lines.letters[row][col]);
+            } else {
+                final char c = placed[col];
+                final int letterScore = placedBlank[col] ? 0 : LetterValues.valueOf(c) * lines.charBoosts[row][col];
+                word[col - start] = c;
+                wordScore += letterScore;
+                wordMultiplier *= lines.boosts[row][col];
+                if (crossScores[col] >= 0) {
+                    crossWordsScore += (crossScores[col] + letterScore) * lines.boosts[row][col];
+                }
+                tilesUsed.append(placedBlank[col] ? Rack.BLANK : c);
+            }
+        }
+        final int score = wordScore * wordMultiplier + crossWordsScore + (placedCount == RACK_SIZE ? BINGO_BONUS : 0);
+
+        if (lines.moveDirection == MoveDirection.LEFT_RIGHT) {
+            search.moves.add(new MoveCandidate(new String(word), row, start, lines.moveDirection, score, tilesUsed.toString()));
+        } else {
+            search.moves.add(new MoveCandidate(new String(word), start, row, lines.moveDirection, score, tilesUsed.toString()));
+        }
+    }
+
+    private static char[][] transpose(char[][] matrix) {
+        final char[][] transposed = new char[matrix.length][matrix.length];
+        for (int r = 0; r < matrix.length; r++) {
+            for (int c = 0; c < matrix.length; c++) {
+                transposed[c][r] = matrix[r][c];
+            }
+        }
+        return transposed;
+    }
+
+    private static int[][] transpose(int[][] matrix) {
+        final int[][] transposed = new int[matrix.length][matrix.length];
+        for (int r = 0; r < matrix.length; r++) {
+            for (int c = 0; c < matrix.length; c++) {
+                transposed[c][r] = matrix[r][c];
+            }
+        }
+        return transposed;
+    }
+
+    /**
+     * State shared by the tasks of one search.
+     */
+    private static final class Search {
+        private final DictionaryGraph graph;
+        private final Supplier<DictionaryGraph> gaddag;
+        private final int size;
+        private final Rack rack;
+        private final boolean emptyBoard;
+        private final long deadlineNanos;
+        private final Lines across;
+        private final Lines down;
+        private final Queue<MoveCandidate> moves = new ConcurrentLinkedQueue<>();
+        private volatile boolean timedOut;
+
+        private Search(DictionaryGraph graph, Supplier<DictionaryGraph> gaddag, int size, Rack rack, boolean emptyBoard,
+                       long deadlineNanos, Lines across, Lines down) {
+            this.graph = graph;
+            this.gaddag = gaddag;
+            this.size = size;
+            this.rack = rack;
+            this.emptyBoard = emptyBoard;
+            this.deadlineNanos = deadlineNanos;
+            this.across = across;
+            this.down = down;
+        }
+    }
+
+    /**
+     * The board seen in one direction, transposed for the down plays so both directions are searched along rows.
+     */
+    private static final class Lines {
+        private final MoveDirection moveDirection;
+        private final char[][] letters;
+        private final char[][] original;
+        private final int[][] boosts;
+        private final int[][] charBoosts;
+
+        private Lines(MoveDirection moveDirection, char[][] letters, char[][] original, int[][] boosts, int[][] charBoosts) {
+            this.moveDirection = moveDirection;
+            this.letters = letters;
+            this.original = original;
+            this.boosts = boosts;
+            this.charBoosts = charBoosts;
+        }
+    }
+
+    private static final class LineTask extends RecursiveAction {
+        private final Search search;
+        private final int from;
+        private final int to;
+
+        private LineTask(Search search, int from, int to) {
+            this.search = search;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LINES_PER_TASK) {
+                new MoveGenerator(search, search.gaddag.get()).generate(from, to);
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new LineTask(search, from, middle), new LineTask(search, middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package game.services;
+
+import game.core.Board;
+import game.core.MoveDirection;
+
+/**
+ * Scores a move against the board it is played on, the same way {@link MoveGenerator} ranks the plays it finds.
+ * Newly placed tiles score their letter value times the letter boost of their square and apply the word boost of
+ * their square to every word they are part of. Tiles already on the board score their letter value. Every cross
+ * word a newly placed tile forms is scored too, and a move placing a full rack earns a bonus.
+ * <p>
+ * Moves do not say which tiles were blanks, so every letter scores its value.
+ *
+ * @author Manish Shrestha
+ */
+final class MoveScorer {
+    private static final char EMPTY = '.';
+
+    private MoveScorer() {}
+
+    /**
+     * Points of the move on a board that does not hold it yet.
+     */
+    static int score(Board board, PremiumLayout layout, String word, int row, int col, MoveDirection direction) {
+        final int size = board.getSize();
+        final int rowStep = direction == MoveDirection.LEFT_RIGHT ? 0 : 1;
+        final int colStep = direction == MoveDirection.LEFT_RIGHT ? 1 : 0;
+
+        int wordScore = 0;
+        int wordMultiplier = 1;
+        int crossWordsScore = 0;
+        int placedCount = 0;
+        for (int idx = 0; idx < word.length(); idx++) {
+            final int r = row + idx * rowStep;
+            final int c = col + idx * colStep;
+            final char letter = word.charAt(idx);
+            if (board.getLetter(r, c) != EMPTY) {
+                wordScore += LetterValues.valueOf(board.getLetter(r, c));
+                continue;
+            }
+            placedCount++;
+            final int letterScore = LetterValues.valueOf(letter) * layout.getLetterBoost(r, c);
+            final int wordBoost = layout.getWordBoost(r, c);
+            wordScore += letterScore;
+            wordMultiplier *= wordBoost;
+
+            // the cross word runs along the other direction, through the tiles next to the placed one
+            int crossScore = 0;
+            boolean crossWord = false;
+            for (int k = 1; inside(size, r - k * colStep, c - k * rowStep) && board.getLetter(r - k * colStep, c - k * rowStep) != EMPTY; k++) {
+                crossScore += LetterValues.valueOf(board.getLetter(r - k * colStep, c - k * rowStep));
+                crossWord = true;
+            }
+            for (int k = 1; inside(size, r + k * colStep, c + k * rowStep) && board.getLetter(r + k * colStep, c + k * rowStep) != EMPTY; k++) {
+                crossScore += LetterValues.valueOf(board.getLetter(r + k * colStep, c + k * rowStep));
+                crossWord = true;
+            }
+            if (crossWord) {
+                crossWordsScore += (crossScore + letterScore) * wordBoost;
+            }
+        }
+        return wordScore * wordMultiplier + crossWordsScore + (placedCount == MoveGenerator.RACK_SIZE ? MoveGenerator.BINGO_BONUS : 0);
+    }
+
+    private static boolean inside(int size, int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+}
@@ -0,0 +1,113 @@
+package game.services;
+
+import game.core.StandardBoard;
+import game.core.StandardTile;
+import game.core.Tile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Premium squares of a board by its size. A 15 by 15 board has the standard layout, any other size has the standard
+ * layout stretched or shrunk to fit, so its corners are triple word squares and its center is a double word square.
+ * Layouts are computed once per size, along with an empty board of the layout that loaded boards take their
+ * premium squares from.
+ *
+ * @author Manish Shrestha
+ */
+final class PremiumLayout {
+    private static final String[] STANDARD = {
+            "T..d...T...d..T",
+            ".D...t...t...D.",
+            "..D...d.d...D..",
+            "d..D...d...D..d",
+            "....D.....D....",
+            ".t...t...t...t.",
+            "..d...d.d...d..",
+            "T..d...D...d..T",
+            "..d...d.d...d..",
+            ".t...t...t...t.",
+            "....D.....D....",
+            "d..D...d...D..d",
+            "..D...d.d...D..",
+            ".D...t...t...D.",
+            "T..d...T...d..T"
+    };
+    private static final Map<Integer, PremiumLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final byte[] wordBoosts;
+    private final byte[] letterBoosts;
+    private final StandardBoard emptyBoard;
+
+    private PremiumLayout(int size) {
+        this.size = size;
+        this.wordBoosts = new byte[size * size];
+        this.letterBoosts = new byte[size * size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                final char square = STANDARD[toStandard(row)].charAt(toStandard(col));
+                wordBoosts[row * size + col] = (byte) (square == 'T' ? 3 : square == 'D' ? 2 : 1);
+                letterBoosts[row * size + col] = (byte) (square == 't' ? 3 : square == 'd' ? 2 : 1);
+            }
+        }
+        final List<Tile> tiles = new ArrayList<>(size * size);
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                tiles.add(new StandardTile(row, col, '.', getWordBoost(row, col), getLetterBoost(row, col)));
+            }
+        }
+        this.emptyBoard = new StandardBoard(size, tiles);
+    }
+
+    static PremiumLayout forSize(int size) {
+        return LAYOUTS.computeIfAbsent(size, PremiumLayout::new);
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    StandardBoard getEmptyBoard() {
+        return emptyBoard;
+    }
+
+    /**
+     * Board of the layout with the letters stored for a game, see {@link StandardBoard#getLetters()}.
+     */
+    StandardBoard toBoard(byte[] letters) {
+        return emptyBoard.withLetters(letters);
+    }
+
+    /**
+     * Multiplier of the word a tile newly placed on the square is part of.
+     */
+    int getWordBoost(int row, int col) {
+        return wordBoosts[row * size + col];
+    }
+
+    /**
+     * Multiplier of the letter of a tile newly placed on the square.
+     */
+    int getLetterBoost(int row, int col) {
+        return letterBoosts[row * size + col];
+    }
+
+    /**
+     * Square of the standard layout a row or column maps to, mirrored around the center so that the layout keeps
+     * its symmetry.
+     */
+    private int toStandard(int idx) {
+        final int standardLast = STANDARD.length - 1;
+        final int last = size - 1;
+        if (last == 0) {
+            return standardLast / 2;
+        }
+        if (idx > last - idx) {
+            return standardLast - toStandard(last - idx);
+        }
+        return Math.round((float) idx * standardLast / last);
+    }
+}
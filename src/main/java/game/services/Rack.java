@@ -0,0 +1,47 @@
+package game.services;
+
+import game.exceptions.IncorrectLettersException;
+
+/**
+ * Letters of a rack counted per letter from A to Z, with {@code ?} standing for a blank tile.
+ *
+ * @author Manish Shrestha
+ */
+final class Rack {
+    static final char BLANK = '?';
+
+    private final int[] letterCounts;
+    private final int blankCount;
+
+    private Rack(int[] letterCounts, int blankCount) {
+        this.letterCounts = letterCounts;
+        this.blankCount = blankCount;
+    }
+
+    static Rack parse(String letters, int maxLetters) {
+        if (letters == null || letters.isEmpty() || letters.length() > maxLetters) {
+            throw new IncorrectLettersException("Between 1 and " + maxLetters + " letters must be specified");
+        }
+        final int[] letterCounts = new int[26];
+        int blankCount = 0;
+        for (int idx = 0; idx < letters.length(); idx++) {
+            final char c = Character.toUpperCase(letters.charAt(idx));
+            if (c == BLANK) {
+                blankCount++;
+            } else if (c >= 'A' && c <= 'Z') {
+                letterCounts[c - 'A']++;
+            } else {
+                throw new IncorrectLettersException("Letters may only contain A to Z and " + BLANK + " for a blank. Letters: " + letters);
+            }
+        }
+        return new Rack(letterCounts, blankCount);
+    }
+
+    int[] getLetterCounts() {
+        return letterCounts.clone();
+    }
+
+    int getBlankCount() {
+        return blankCount;
+    }
+}
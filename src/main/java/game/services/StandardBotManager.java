@@ -0,0 +1,141 @@
+package game.services;
+
+import game.configuration.AppConfiguration;
+import game.core.Game;
+import game.core.GameState;
+import game.core.Player;
+import game.data.BotStats;
+import game.data.MoveCandidate;
+import game.data.MoveSearchResult;
+import game.data.PlayerMove;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Computes bot moves on a fixed number of threads fed by a bounded queue. The request thread that made a move only
+ * enqueues the bot turn; when the queue is full the turn is counted and queued again after a delay, since no other
+ * player can move until the bot has. For the same reason a bot draws another rack when its rack has no move, and
+ * tries again later when none of {@link #RACK_DRAWS} racks has one.
+ *
+ * @author Manish Shrestha
+ */
+@Service
+class StandardBotManager implements BotManager {
+    private static final Logger log = LoggerFactory.getLogger(StandardBotManager.class);
+    static final int RACK_DRAWS = 5;
+
+    private final MatchManager matchManager;
+    private final DictionaryManager dictionaryManager;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService retryExecutor;
+    private final int queueCapacity;
+    private final long retryDelayMillis;
+    private final Set<Integer> pendingGames = ConcurrentHashMap.newKeySet();
+    private final AtomicLong rejectedMoves = new AtomicLong();
+    private final Random random = new Random();
+
+    @Autowired
+    StandardBotManager(MatchManager matchManager, DictionaryManager dictionaryManager, AppConfiguration appConfiguration) {
+        this.matchManager = matchManager;
+        this.dictionaryManager = dictionaryManager;
+        this.queueCapacity = appConfiguration.getBotQueueCapacity();
+        this.retryDelayMillis = appConfiguration.getBotRetryDelayMillis();
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(appConfiguration.getBotThreads(), appConfiguration.getBotThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            final Thread thread = new Thread(runnable, "bot-move-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "bot-move-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener
+    void onGameTurn(GameTurnEvent event) {
+        if (event.hasBot() && event.getGame().getState() != GameState.FINISHED) {
+            scheduleTurn(event.getGame().getId());
+        }
+    }
+
+    /**
+     * Queues the turn of a game unless one is already queued, the returned future completes once it has been played.
+     */
+    Future<?> scheduleTurn(int gameId) {
+        if (!pendingGames.add(gameId)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return executor.submit(() -> playTurn(gameId));
+        } catch (RejectedExecutionException e) {
+            pendingGames.remove(gameId);
+            rejectedMoves.incrementAndGet();
+            log.warn("Bot move queue is full, retrying turn of game {} in {} ms", gameId, retryDelayMillis);
+            retryTurn(gameId);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void retryTurn(int gameId) {
+        try {
+            retryExecutor.schedule(() -> scheduleTurn(gameId), retryDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Bot manager is closed, dropped turn of game {}", gameId);
+        }
+    }
+
+    @Override
+    public BotStats getBotStats() {
+        return new BotStats(executor.getQueue().size(), queueCapacity, executor.getActiveCount(),
+                executor.getCompletedTaskCount(), rejectedMoves.get());
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+        retryExecutor.shutdownNow();
+    }
+
+    private void playTurn(int gameId) {
+        // removed before moving so that the event of this move can queue the next bot turn
+        pendingGames.remove(gameId);
+        try {
+            final Game game = matchManager.getGame(gameId);
+            if (game.getState() == GameState.FINISHED) {
+                return;
+            }
+            final Player player = matchManager.getNextTurnPlayer(gameId);
+            if (!player.getPerson().isBot()) {
+                return;
+            }
+            for (int draw = 0; draw < RACK_DRAWS; draw++) {
+                final String rack = TileBag.drawRack(random);
+                final MoveSearchResult result = dictionaryManager.generateMoves(game.getDictionaryType(), game.getBoard(), rack, 1, 0);
+                if (!result.getMoves().isEmpty()) {
+                    final MoveCandidate move = result.getMoves().get(0);
+                    matchManager.makeMove(game, new PlayerMove(move.getWord(), move.getRow(), move.getColumn(),
+                            move.getMoveDirection(), player));
+                    return;
+                }
+            }
+            log.warn("Bot {} found no move in game {} with {} racks, retrying in {} ms", player.getPerson().getId(),
+                    gameId, RACK_DRAWS, retryDelayMillis);
+            retryTurn(gameId);
+        } catch (RuntimeException e) {
+            log.warn("Unable to play bot turn of game " + gameId, e);
+        }
+    }
+}
@@ -1,75 +1,207 @@
 package game.services;
 
 import game.configuration.AppConfiguration;
+import game.core.Board;
 import game.core.DictionaryType;
+import game.data.DictionaryStats;
+import game.data.MoveSearchResult;
+import game.data.WordQuery;
+import game.data.WordSearchResult;
+import game.exceptions.IncorrectDictionaryTypeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
+import javax.annotation.PreDestroy;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 /**
+ * Keeps one lazily loaded {@link DictionaryIndex} per configured dictionary type. When external files are configured
+ * every dictionary type is served from those files.
+ * <p>
+ * Reloads run one at a time on a background thread and requests for a dictionary that is already waiting to reload
+ * share the pending reload. With watching enabled a change to a source file schedules a reload after a short delay
+ * so the writes of one save are picked up together.
+ * <p>
+ * Moves are generated on a dedicated fork join pool, so a burst of move searches neither waits behind nor slows down
+ * other users of the common pool, and a caller never waits longer than the time budget of its search.
+ *
  * @author Manish Shrestha
  */
 @Service
 class StandardDictionaryManager implements DictionaryManager {
     private static final Logger log = LoggerFactory.getLogger(StandardDictionaryManager.class);
+    private static final long WATCH_RELOAD_DELAY_MILLIS = 500;
+    private static final int MAX_ANAGRAM_LETTERS = 20;
 
-    private final Map<Integer,Map<Character, List<String>>> dictionaryMap = new HashMap<>();
+    private final Map<DictionaryType, DictionaryIndex> dictionaryIndexes = new EnumMap<>(DictionaryType.class);
+    private final List<DictionaryType> dictionaryTypes;
+    private final Map<DictionaryType, CompletableFuture<Void>> pendingReloads = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "dictionary-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ForkJoinPool moveGenerationPool;
+    private final DictionaryFileWatcher dictionaryFileWatcher;
+    private final long wordSearchTimeBudgetMillis;
+    private final long moveGenerationTimeBudgetMillis;
 
     @Autowired
-    public StandardDictionaryManager(AppConfiguration appConfiguration) throws IOException {
+    public StandardDictionaryManager(AppConfiguration appConfiguration) {
         final List<File> extFiles = appConfiguration.getFiles().stream()
                 .map(file -> new File(file))
                 .collect(Collectors.toList());
 
-        if (extFiles.isEmpty()) {
-            final List<File> dictionaries = appConfiguration.getDictionaries().stream()
-                    .map(dictionary -> {
-                        log.info("Loading Dictionary: " + dictionary);
-                        final DictionaryType dictionaryType = DictionaryType.fromName(dictionary);
-                        final File file = new File(StandardDictionaryManager.class.getClassLoader()
-                                .getResource(dictionaryType.getFilePath())
-                                .getFile());
-                        return file;
-                    })
-                    .collect(Collectors.toList());
-            loadDictionaryFiles(dictionaries);
-        } else {
-            loadDictionaryFiles(extFiles);
+        final List<DictionaryType> configuredTypes = appConfiguration.getDictionaries().stream()
+                .map(DictionaryType::fromName)
+                .distinct()
+                .collect(Collectors.toList());
+        dictionaryTypes = Collections.unmodifiableList(configuredTypes.isEmpty()
+                ? Arrays.asList(DictionaryType.values())
+                : configuredTypes);
+
+        final double falsePositiveRate = appConfiguration.getDictionaryFilterFalsePositiveRate();
+        if (falsePositiveRate < 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Dictionary filter false positive rate must be at least 0 and less than 1. Rate: "
+                    + falsePositiveRate);
+        }
+
+        for (DictionaryType dictionaryType: dictionaryTypes) {
+            final List<File> sourceFiles;
+            if (extFiles.isEmpty()) {
+                sourceFiles = Collections.singletonList(new File(StandardDictionaryManager.class.getClassLoader()
+                        .getResource(dictionaryType.getFilePath())
+                        .getFile()));
+            } else {
+                sourceFiles = extFiles;
+            }
+            dictionaryIndexes.put(dictionaryType,
+                    new DictionaryIndex(dictionaryType, sourceFiles, appConfiguration.getDictionaryImageDir(), falsePositiveRate));
         }
+
+        wordSearchTimeBudgetMillis = appConfiguration.getWordSearchTimeBudgetMillis();
+        moveGenerationTimeBudgetMillis = appConfiguration.getMoveGenerationTimeBudgetMillis();
+        final int parallelism = appConfiguration.getMoveGenerationParallelism() > 0
+                ? appConfiguration.getMoveGenerationParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        moveGenerationPool = new ForkJoinPool(parallelism, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("move-generator-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        dictionaryFileWatcher = appConfiguration.isDictionaryWatchEnabled() ? watchDictionaryFiles() : null;
+    }
+
+    @Override
+    public boolean checkWord(DictionaryType dictionaryType, String word) {
+        return getDictionaryIndex(dictionaryType).contains(word);
+    }
+
+    @Override
+    public int checkWords(DictionaryType dictionaryType, WordBatch words) {
+        return getDictionaryIndex(dictionaryType).indexOfMissing(words);
+    }
+
+    @Override
+    public List<String> findAnagrams(DictionaryType dictionaryType, String letters, int offset, int limit) {
+        final Rack rack = Rack.parse(letters, MAX_ANAGRAM_LETTERS);
+        return getDictionaryIndex(dictionaryType).findAnagrams(rack.getLetterCounts(), rack.getBlankCount(), offset, limit);
+    }
+
+    @Override
+    public WordSearchResult findWords(DictionaryType dictionaryType, WordQuery query) {
+        final WordPattern pattern = WordPattern.compile(query);
+        final long timeBudgetMillis = query.getTimeBudgetMillis() > 0 ? query.getTimeBudgetMillis() : wordSearchTimeBudgetMillis;
+        return getDictionaryIndex(dictionaryType).findWords(pattern, query.getOffset(), query.getLimit(), timeBudgetMillis);
+    }
+
+    @Override
+    public MoveSearchResult generateMoves(DictionaryType dictionaryType, Board board, String rack, int limit, long timeBudgetMillis) {
+        return getDictionaryIndex(dictionaryType).generateMoves(board, Rack.parse(rack, MoveGenerator.RACK_SIZE), limit,
+                moveGenerationPool, timeBudgetMillis > 0 ? timeBudgetMillis : moveGenerationTimeBudgetMillis);
     }
 
     @Override
-    public boolean checkWord(String word) {
-        return dictionaryMap.getOrDefault(word.length(), Collections.emptyMap())
-                .getOrDefault(Character.toLowerCase(word.charAt(0)), Collections.emptyList())
-                .stream()
-                .anyMatch(checkWord -> checkWord.equalsIgnoreCase(word));
+    public CrossChecks getCrossChecks(DictionaryType dictionaryType, Board board, CrossChecks previous) {
+        return getDictionaryIndex(dictionaryType).getCrossChecks(board, previous);
     }
 
-    private void loadDictionaryFiles(List<File> files) throws IOException {
-        for (File file: files) {
-            final FileReader fileReader = new FileReader(file);
-            try (final BufferedReader bufferedReader = new BufferedReader(fileReader)) {
-                String line;
-                while ((line = bufferedReader.readLine()) != null) {
-                    line = line.trim();
-                    final char startingChar = Character.toLowerCase(line.charAt(0));
-                    final int length = line.length();
-                    final Map<Character, List<String>> charToWordListMap = dictionaryMap.getOrDefault(length, new HashMap<>());
-                    final List<String> wordList = charToWordListMap.getOrDefault(startingChar, new ArrayList<>());
-                    wordList.add(line);
-                    charToWordListMap.put(startingChar, wordList);
-                    dictionaryMap.put(length, charToWordListMap);
-                }
+    @Override
+    public List<DictionaryType> getDictionaryTypes() {
+        return dictionaryTypes;
+    }
+
+    @Override
+    public DictionaryStats getDictionaryStats(DictionaryType dictionaryType) {
+        return getDictionaryIndex(dictionaryType).getStats();
+    }
+
+    @Override
+    public CompletableFuture<Void> reloadDictionary(DictionaryType dictionaryType) {
+        return scheduleReload(dictionaryType, 0);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (dictionaryFileWatcher != null) {
+            dictionaryFileWatcher.close();
+        }
+        reloadExecutor.shutdownNow();
+        moveGenerationPool.shutdownNow();
+    }
+
+    private CompletableFuture<Void> scheduleReload(DictionaryType dictionaryType, long delayMillis) {
+        final DictionaryIndex dictionaryIndex = getDictionaryIndex(dictionaryType);
+        final CompletableFuture<Void> pendingReload = new CompletableFuture<>();
+        final CompletableFuture<Void> existingReload = pendingReloads.putIfAbsent(dictionaryType, pendingReload);
+        if (existingReload != null) {
+            return existingReload;
+        }
+
+        reloadExecutor.schedule(() -> {
+            pendingReloads.remove(dictionaryType, pendingReload);
+            try {
+                dictionaryIndex.reload();
+                log.info("Reloaded dictionary {}", dictionaryType);
+                pendingReload.complete(null);
+            } catch (RuntimeException e) {
+                log.warn("Unable to reload dictionary " + dictionaryType + ", keeping the loaded one", e);
+                pendingReload.completeExceptionally(e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+        return pendingReload;
+    }
+
+    private DictionaryFileWatcher watchDictionaryFiles() {
+        final Map<Path, List<DictionaryType>> dictionariesByFile = new HashMap<>();
+        dictionaryIndexes.forEach((dictionaryType, dictionaryIndex) -> {
+            for (File sourceFile: dictionaryIndex.getSourceFiles()) {
+                dictionariesByFile.computeIfAbsent(sourceFile.toPath().toAbsolutePath().normalize(),
+                        file -> new ArrayList<>()).add(dictionaryType);
             }
+        });
+
+        try {
+            return new DictionaryFileWatcher(dictionariesByFile,
+                    dictionaryType -> scheduleReload(dictionaryType, WATCH_RELOAD_DELAY_MILLIS));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    DictionaryIndex getDictionaryIndex(DictionaryType dictionaryType) {
+        final DictionaryIndex dictionaryIndex = dictionaryIndexes.get(dictionaryType);
+        if (dictionaryIndex == null) {
+            throw new IncorrectDictionaryTypeException("Dictionary " + dictionaryType + " is not enabled");
         }
+        return dictionaryIndex;
     }
 }
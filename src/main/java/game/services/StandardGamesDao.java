@@ -3,10 +3,12 @@ package game.services;
 import game.core.*;
 import game.data.PlayerMove;
 import game.data.dao.UpdateGameOptions;
+import game.exceptions.InvalidMoveException;
 import game.viewer.GameView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -23,33 +25,34 @@ import static game.utils.SQLUtils.inClause;
  */
 @Service
 class StandardGamesDao implements GamesDao {
-    private static final String INSERT_GAME_SQL = "INSERT INTO games(state) VALUES (?)";
+    private static final String INSERT_GAME_SQL = "INSERT INTO games(state, dictionary, board_size, board) VALUES (?, ?, ?, ?)";
     
-    private static final String GET_GAME_PLAYERS = "SELECT p.id, p.user_name, p.first_name, p.last_name, gp.player_order " +
+    private static final String GET_GAME_PLAYERS = "SELECT p.id, p.user_name, p.first_name, p.last_name, p.bot, gp.player_order, gp.score " +
             "FROM persons AS p " +
             "JOIN game_players AS gp ON p.id = gp.player_id AND gp.game_id = ?";
+
+    private static final String GET_PLAYERS_OF_GAMES = "SELECT gp.game_id, p.id, p.user_name, p.first_name, p.last_name, p.bot, gp.player_order, gp.score " +
+            "FROM persons AS p " +
+            "JOIN game_players AS gp ON p.id = gp.player_id AND gp.game_id IN (%s)";
     
-    private static final String INSERT_PLAYERS = "INSERT INTO game_players VALUES (?, ?, ?)";
-    
-    private static final String INSERT_TILES = "INSERT INTO tiles(game_id, row, col, val) VALUES (?, ?, ?, ?)";
-    
-    private static final String GET_GAME_TILES = "SELECT t.row, t.col, t.val, t.boost, t.char_boost " +
-            "FROM tiles AS t " +
-            "JOIN games AS g ON g.id = t.game_id WHERE g.id = ?";
+    private static final String INSERT_PLAYERS = "INSERT INTO game_players(game_id, player_id, player_order) VALUES (?, ?, ?)";
     
     private static final String GET_GAME_STATE_BY_ID = "SELECT state FROM games WHERE id = ?";
 
+    private static final String GET_GAME_BY_ID = "SELECT id, state, dictionary, version, board_size, board FROM games WHERE id = ?";
+
     private static final String DELETE_PLAYERS_FOR_GAME = "DELETE gp FROM game_players AS gp " +
             "JOIN games AS g ON gp.game_id = g.id WHERE g.id = ?";
 
-    private static final String DELETE_TILES_FOR_GAME = "DELETE t FROM tiles AS t " +
-            "JOIN games as g ON t.game_id = g.id WHERE g.id = ?";
+    private static final String UPDATE_GAME_BOARD = "UPDATE games SET board_size = ?, board = ? WHERE id = ?";
 
     private static final String UPDATE_GAME_STATE = "UPDATE games SET state = ? WHERE id = ?";
 
+    private static final String INCREMENT_GAME_VERSION = "UPDATE games SET version = version + 1 WHERE id = ?";
+
     private static final String DELETE_GAME = "DELETE FROM games WHERE id = ?";
 
-    private static final String GET_MOVES_FOR_GAME = "SELECT m.player_id, gp.player_order, m.word, m.row, m.col, m.direction, m.move_time " +
+    private static final String GET_MOVES_FOR_GAME = "SELECT m.player_id, gp.player_order, m.word, m.row, m.col, m.direction, m.points, m.move_time " +
             "FROM game_moves AS m " +
             "JOIN games AS g ON m.game_id = g.id " +
             "JOIN game_players AS gp ON m.player_id = gp.player_id AND m.game_id = gp.game_id " +
@@ -57,18 +60,30 @@ class StandardGamesDao implements GamesDao {
 
     private static final String GET_GAME_MOVES_COUNT = "SELECT count(*) FROM game_moves as m JOIN games AS g ON m.game_id = g.id WHERE m.game_id = ?";
 
-    private static final String GET_PERSON_BY_ID = "SELECT user_name, first_name, last_name FROM persons WHERE id = ?";
+    private static final String GET_PERSON_BY_ID = "SELECT user_name, first_name, last_name, bot FROM persons WHERE id = ?";
 
-    private static final String GET_NEXT_TURN_PLAYER = "SELECT p.id, p.user_name, p.first_name, p.last_name, gp.player_order " +
-            "FROM persons AS p " +
-            "JOIN game_players as gp ON p.id = gp.player_id " +
-            "WHERE gp.game_id = ? AND gp.player_order = (SELECT gp.player_order " +
-                "FROM game_players AS gp " +
-                "JOIN game_moves AS gm ON gp.player_id = gm.player_id AND gp.game_id = gm.game_id " +
-                "WHERE gp.game_id = ? ORDER BY gm.move_time DESC LIMIT 1) MOD (Select count(*) FROM game_players WHERE game_id = ?) + 1";
+    private static final String GET_LAST_MOVE_PLAYER_ORDERS = "SELECT gm.game_id, gp.player_order " +
+            "FROM game_moves AS gm " +
+            "JOIN (SELECT game_id, MAX(move_time) AS move_time FROM game_moves WHERE game_id IN (%s) GROUP BY game_id) AS last " +
+                "ON gm.game_id = last.game_id AND gm.move_time = last.move_time " +
+            "JOIN game_players AS gp ON gm.player_id = gp.player_id AND gm.game_id = gp.game_id";
+
+    private static final String MAKE_MOVE = "INSERT INTO game_moves (game_id, player_id, word, row, col, direction, points) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String APPLY_MOVE = "UPDATE games SET board = CONCAT(board, ?), state = ?, version = version + 1 " +
+            "WHERE id = ? AND version = ?";
+    private static final String ADD_PLAYER_SCORE = "UPDATE game_players SET score = score + ? WHERE game_id = ? AND player_id = ?";
+
+    private static final byte[] NO_LETTERS = new byte[0];
 
-    private static final String MAKE_MOVE = "INSERT INTO game_moves (game_id, player_id, word, row, col, direction) VALUES (?, ?, ?, ?, ?, ?)";
-    private static final String UPDATE_TILES = "UPDATE tiles SET val = ? WHERE game_id = ? AND row = ? AND col = ?";
+    private static final RowMapper<GameRow> GAME_ROW_MAPPER = (resultSet, i) -> new GameRow(resultSet.getInt("id"),
+            GameState.fromId(resultSet.getInt("state")), DictionaryType.fromName(resultSet.getString("dictionary")),
+            resultSet.getInt("version"), toBoard(resultSet.getInt("board_size"), resultSet.getBytes("board")));
+
+    private static final RowMapper<Player> PLAYER_ROW_MAPPER = (resultSet, i) -> {
+        final Person person = new StandardPerson(resultSet.getInt("p.id"), resultSet.getString("p.user_name"),
+                resultSet.getString("p.first_name"), resultSet.getString("p.last_name"), resultSet.getBoolean("p.bot"));
+        return new StandardPlayer(person, resultSet.getInt("gp.player_order"), resultSet.getInt("gp.score"));
+    };
 
     private final JdbcTemplate jdbcTemplate;
     private final TransactionTemplate transactionTemplate;
@@ -110,7 +125,7 @@ class StandardGamesDao implements GamesDao {
         args[idx] = limit;
         args[idx + 1] = offset;
 
-        final StringBuilder sql = new StringBuilder("SELECT g.id, g.state FROM games AS g ");
+        final StringBuilder sql = new StringBuilder("SELECT g.id, g.state, g.dictionary, g.version, g.board_size, g.board FROM games AS g ");
         if (playersSize > 0 && boardSizesSize > 0) {
             sql.append("JOIN game_players AS gp ON g.id = gp.game_id AND gp.player_id IN (" + inClause(playersSize) + ") " +
                     "AND g.board_size IN (" + inClause(boardSizesSize) + ") GROUP BY g.id ");
@@ -122,23 +137,23 @@ class StandardGamesDao implements GamesDao {
 
         sql.append("LIMIT ? OFFSET ?");
 
-        return jdbcTemplate.query(sql.toString(), args, (resultSet, i) -> {
-            final int gameId = resultSet.getInt("g.id");
-            final int state = resultSet.getInt("g.state");
-            final List<Player> gamePlayers = jdbcTemplate.query(GET_GAME_PLAYERS, new Object[]{gameId}, (rs, i1) -> {
-                final int playerId = rs.getInt("p.id");
-                final String userName = rs.getString("p.user_name");
-                final String firstName = rs.getString("p.first_name");
-                final String lastName = rs.getString("p.last_name");
-                final int playerOrder = rs.getInt("gp.player_order");
-                final Person person = new StandardPerson(playerId, userName, firstName, lastName);
-                return new StandardPlayer(person, playerOrder);
-            });
-
-            final List<Tile> tiles = getTiles(gameId);
-
-            return new StandardGame(gameId, gamePlayers, new StandardBoard(tiles), GameState.fromId(state));
-        });
+        final List<GameRow> gameRows = jdbcTemplate.query(sql.toString(), args, GAME_ROW_MAPPER);
+        if (gameRows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final Object[] gameIds = gameRows.stream().map(gameRow -> gameRow.id).toArray();
+        final Map<Integer, List<Player>> gamePlayers = new HashMap<>();
+        jdbcTemplate.query(String.format(GET_PLAYERS_OF_GAMES, inClause(gameIds.length)), gameIds, (RowCallbackHandler) resultSet ->
+                gamePlayers.computeIfAbsent(resultSet.getInt("gp.game_id"), gameId -> new ArrayList<>())
+                        .add(PLAYER_ROW_MAPPER.mapRow(resultSet, 0)));
+
+        final List<Game> games = new ArrayList<>(gameRows.size());
+        for (GameRow gameRow: gameRows) {
+            games.add(new StandardGame(gameRow.id, gamePlayers.getOrDefault(gameRow.id, Collections.emptyList()),
+                    gameRow.board, gameRow.state, gameRow.dictionaryType, gameRow.version));
+        }
+        return games;
     }
 
     @Override
@@ -183,23 +198,26 @@ class StandardGamesDao implements GamesDao {
     }
 
     @Override
-    public Game createGame(List<Player> players, int boardSize, int numberOfTilesPerPlayer) {
+    public Game createGame(List<Player> players, int boardSize, int numberOfTilesPerPlayer, DictionaryType dictionaryType) {
+        checkBoardSize(boardSize);
 
         return transactionTemplate.execute(transactionStatus -> {
             final KeyHolder gameIdHolder = new GeneratedKeyHolder();
             jdbcTemplate.update(connection -> {
                 final PreparedStatement ps = connection.prepareStatement(INSERT_GAME_SQL, Statement.RETURN_GENERATED_KEYS);
                 ps.setInt(1, 0);
+                ps.setString(2, dictionaryType.getName());
+                ps.setInt(3, boardSize);
+                ps.setBytes(4, NO_LETTERS);
                 return ps;
             }, gameIdHolder);
 
             final int gameId = gameIdHolder.getKey().intValue();
 
-            final List<Tile> tiles = initializeTiles(boardSize);
-            insertTiles(tiles, gameId);
             insertGamePlayers(players, gameId);
 
-            return new StandardGame(gameId, players, new StandardBoard(tiles), GameState.INITIALIZED);
+            return new StandardGame(gameId, players, PremiumLayout.forSize(boardSize).getEmptyBoard(), GameState.INITIALIZED,
+                    dictionaryType);
         });
     }
 
@@ -220,43 +238,46 @@ class StandardGamesDao implements GamesDao {
             }
 
             if (updateGameOptions.isUpdateSize()) {
-                jdbcTemplate.update(DELETE_TILES_FOR_GAME, new Object[] {gameId});
-                List<Tile> newTiles = initializeTiles(updateGameOptions.getBoardSize());
-                insertTiles(newTiles, gameId);
+                checkBoardSize(updateGameOptions.getBoardSize());
+                jdbcTemplate.update(UPDATE_GAME_BOARD, updateGameOptions.getBoardSize(), NO_LETTERS, gameId);
             }
 
             if (updateGameOptions.isUpdateState()) {
                 jdbcTemplate.update(UPDATE_GAME_STATE, new Object[] { updateGameOptions.getState().getStateId(), gameId});
             }
+
+            if (updateGameOptions.isUpdateSize() || updateGameOptions.isUpdateState()) {
+                jdbcTemplate.update(INCREMENT_GAME_VERSION, gameId);
+            }
             return null;
         });
     }
 
     @Override
     public final Game getGame(int gameId) {
-        return jdbcTemplate.queryForObject(GET_GAME_STATE_BY_ID, new Object[] {gameId}, (resultSet, i) -> {
-            final int state = resultSet.getInt("state");
-            final List<Tile> tiles = getTiles(gameId);
-            final List<Player> players = getPlayers(gameId);
-
-            return new StandardGame(gameId, players, new StandardBoard(tiles), GameState.fromId(state));
-        });
+        final GameRow gameRow = jdbcTemplate.queryForObject(GET_GAME_BY_ID, new Object[] {gameId}, GAME_ROW_MAPPER);
+        return toGame(gameId, gameRow);
     }
 
     @Override
     public final Optional<Game> lookupGame(int gameId) {
-        final List<Game> games = jdbcTemplate.query(GET_GAME_STATE_BY_ID, new Object[]{gameId}, (resultSet, i) -> {
-            final int state = resultSet.getInt("state");
-            final List<Tile> tiles = getTiles(gameId);
-            final List<Player> players = getPlayers(gameId);
-
-            return new StandardGame(gameId, players, new StandardBoard(tiles), GameState.fromId(state));
-        });
+        final List<GameRow> games = jdbcTemplate.query(GET_GAME_BY_ID, new Object[]{gameId}, GAME_ROW_MAPPER);
 
         if (games.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.of(games.get(0));
+        return Optional.of(toGame(gameId, games.get(0)));
+    }
+
+    /**
+     * Players are read once the game row, board included, has been read, so that outside a transaction a game is
+     * loaded with one pooled connection at a time.
+     */
+    private Game toGame(int gameId, GameRow gameRow) {
+        final List<Player> players = jdbcTemplate.query(GET_GAME_PLAYERS, new Object[]{gameId}, PLAYER_ROW_MAPPER);
+
+        return new StandardGame(gameId, players, gameRow.board, gameRow.state, gameRow.dictionaryType,
+                gameRow.version);
     }
 
     @Override
@@ -279,6 +300,7 @@ class StandardGamesDao implements GamesDao {
                 final int col = resultSet.getInt("m.col");
                 final int direction = resultSet.getInt("m.direction");
                 final MoveDirection moveDirection = MoveDirection.fromId(direction);
+                final int points = resultSet.getInt("m.points");
                 final Timestamp moveTime = resultSet.getTimestamp("m.move_time");
 
                 final Person cachedPerson = idToPersonMap.get(playerId);
@@ -287,12 +309,13 @@ class StandardGamesDao implements GamesDao {
                         final String userName = resultSet1.getString("user_name");
                         final String firstName = resultSet1.getString("first_name");
                         final String lastName = resultSet1.getString("last_name");
-                        return new StandardPerson(playerId, userName, firstName, lastName);
+                        final boolean bot = resultSet1.getBoolean("bot");
+                        return new StandardPerson(playerId, userName, firstName, lastName, bot);
                     });
                     idToPersonMap.put(playerId, person);
-                    return new StandardMove(word, row, col, moveDirection, new StandardPlayer(person, playerOrder), moveTime.getTime());
+                    return new StandardMove(word, row, col, moveDirection, new StandardPlayer(person, playerOrder), moveTime.getTime(), points);
                 } else {
-                    return new StandardMove(word, row, col, moveDirection, new StandardPlayer(cachedPerson, playerOrder), moveTime.getTime());
+                    return new StandardMove(word, row, col, moveDirection, new StandardPlayer(cachedPerson, playerOrder), moveTime.getTime(), points);
                 }
             }
         });
@@ -303,147 +326,124 @@ class StandardGamesDao implements GamesDao {
         return jdbcTemplate.queryForObject(GET_GAME_MOVES_COUNT, new Object[] {gameId}, Integer.class);
     }
 
+    /**
+     * Writes the move in one transaction of three statements and no reads: the letters placed on empty squares, the
+     * state and the version go into the games row, guarded by the version the move was validated against, then the
+     * move and the score of the player are recorded.
+     */
     @Override
-    public final Game makeMove(int gameId, PlayerMove playerMove) {
-        final Player player = playerMove.getPlayer();
+    public final Game makeMove(Game game, PlayerMove playerMove, int points) {
+        final int gameId = game.getId();
+        final int personId = playerMove.getPlayer().getPerson().getId();
         final int row = playerMove.getRow();
         final int col = playerMove.getColumn();
         final String word = playerMove.getWord();
         final MoveDirection direction = playerMove.getMoveDirection();
+        final Board board = game.getBoard();
+        final GameState state = game.getState() == GameState.INITIALIZED ? GameState.IN_PROGRESS : game.getState();
 
-        List<Tile> tiles = new ArrayList<>();
-        int charIdx = 0;
-        switch (direction) {
-            case LEFT_RIGHT:
-                for (int c = col; c < col + word.length(); c++) {
-                    final Tile tile = new StandardTile(row, c, word.charAt(charIdx));
-                    tiles.add(tile);
-                    charIdx++;
-                }
-                break;
-            case TOP_BOTTOM:
-                for (int r = row; r < row + word.length(); r++) {
-                    final Tile tile = new StandardTile(r, col, word.charAt(charIdx));
-                    tiles.add(tile);
-                    charIdx++;
-                }
-        }
-
-        return transactionTemplate.execute(transactionStatus -> {
-            jdbcTemplate.update(MAKE_MOVE, new Object[] {gameId, player.getPerson().getId(), word, row, col, direction.getDirectionId()});
-            updateTiles(tiles, gameId);
-            final Game game = getGame(gameId);
-            if (game.getState() == GameState.INITIALIZED) {
-                UpdateGameOptions updateGameOptions = new UpdateGameOptions(gameId);
-                updateGameOptions.setState(GameState.IN_PROGRESS);
-                updateGame(updateGameOptions);
+        transactionTemplate.execute(transactionStatus -> {
+            final int updated = jdbcTemplate.update(APPLY_MOVE, new Object[] {toPlacedLetters(board, word, row, col, direction),
+                    state.getStateId(), gameId, game.getVersion()});
+            if (updated == 0) {
+                throw new InvalidMoveException("Game with id " + gameId + " changed since version " + game.getVersion() +
+                        " the move was made on");
             }
-
-            return getGame(gameId);
+            jdbcTemplate.update(MAKE_MOVE, new Object[] {gameId, personId, word, row, col, direction.getDirectionId(), points});
+            jdbcTemplate.update(ADD_PLAYER_SCORE, new Object[] {points, gameId, personId});
+            return null;
         });
+
+        final List<Player> players = new ArrayList<>();
+        for (Player player: game.getPlayers()) {
+            players.add(player.getPerson().getId() == personId
+                    ? new StandardPlayer(player.getPerson(), player.getOrder(), player.getScore() + points)
+                    : player);
+        }
+        return new StandardGame(gameId, players, withMove(board, word, row, col, direction), state,
+                game.getDictionaryType(), game.getVersion() + 1);
     }
 
     @Override
     public Player getNextTurnPlayer(int gameId) {
-        final Game game = getGame(gameId);
-        final GameState state = game.getState();
-        if (state == GameState.INITIALIZED || state == GameState.FINISHED) {
-            for (Player player: game.getPlayers()) {
-                if (player.getOrder() == 1) {
-                    return player;
-                }
-            }
-            throw new RuntimeException("player 1 not found for a new game with id : " + gameId);
-        } else {
-            List<Player> playerList = jdbcTemplate.query(GET_NEXT_TURN_PLAYER, new Object[]{gameId, gameId, gameId}, (resultSet, i) -> {
-                final int id = resultSet.getInt("p.id");
-                final String userName = resultSet.getString("p.user_name");
-                final String firstName = resultSet.getString("p.first_name");
-                final String lastName = resultSet.getString("p.last_name");
-                final int playerOrder = resultSet.getInt("gp.player_order");
-                final Person person = new StandardPerson(id, userName, firstName, lastName);
-                return new StandardPlayer(person, playerOrder);
-            });
-
-            if (playerList.isEmpty()) {
-                for (Player player: game.getPlayers()) {
-                    if (player.getOrder() == 1) {
-                        return player;
-                    }
-                }
-            }
-            return playerList.get(0);
-        }
+        return getNextTurnPlayers(Collections.singletonList(getGame(gameId))).get(gameId);
     }
 
-    private List<Tile> getTiles(int gameId) {
-        return jdbcTemplate.query(GET_GAME_TILES, new Object[]{gameId}, (resultSet, i) -> {
-            final int row = resultSet.getInt("t.row");
-            final int col = resultSet.getInt("t.col");
-            final char value = resultSet.getString("t.val").charAt(0);
-            final int boost = resultSet.getInt("t.boost");
-            final int charBoost = resultSet.getInt("t.char_boost");
+    @Override
+    public Map<Integer, Player> getNextTurnPlayers(List<Game> games) {
+        final Object[] inProgressIds = games.stream()
+                .filter(game -> game.getState() == GameState.IN_PROGRESS)
+                .map(Game::getId)
+                .toArray();
+        final Map<Integer, Integer> lastMovePlayerOrders = new HashMap<>();
+        if (inProgressIds.length > 0) {
+            jdbcTemplate.query(String.format(GET_LAST_MOVE_PLAYER_ORDERS, inClause(inProgressIds.length)), inProgressIds,
+                    (RowCallbackHandler) resultSet -> lastMovePlayerOrders.put(resultSet.getInt("gm.game_id"),
+                            resultSet.getInt("gp.player_order")));
+        }
 
-            return new StandardTile(row, col, value, boost, charBoost);
-        });
+        final Map<Integer, Player> nextTurnPlayers = new HashMap<>();
+        for (Game game: games) {
+            nextTurnPlayers.put(game.getId(), game.getPlayerAfter(lastMovePlayerOrders.getOrDefault(game.getId(), 0)));
+        }
+        return nextTurnPlayers;
     }
 
-    private List<Player> getPlayers(int gameId) {
-        return jdbcTemplate.query(GET_GAME_PLAYERS, new Object[]{gameId}, (resultSet, i) -> {
-            final int id = resultSet.getInt("p.id");
-            final String userName = resultSet.getString("p.user_name");
-            final String firstName = resultSet.getString("p.first_name");
-            final String lastName = resultSet.getString("p.last_name");
-            final int playerOrder = resultSet.getInt("gp.player_order");
-            Person person = new StandardPerson(id, userName, firstName, lastName);
-            return new StandardPlayer(person, playerOrder);
-        });
+    private static void checkBoardSize(int boardSize) {
+        if (boardSize > Board.MAX_SIZE) {
+            throw new IllegalArgumentException("Board size " + boardSize + " is larger than " + Board.MAX_SIZE);
+        }
     }
 
-    private List<Tile> initializeTiles(int boardSize) {
-        final List<Tile> tiles = new ArrayList<>();
-        for (int row = 0; row < boardSize; row++) {
-            for (int col = 0; col < boardSize; col++) {
-                tiles.add(new StandardTile(row, col, '.', 1, 1));
-            }
+    /**
+     * Board of the letters placed on it, with the premium squares of its size. Only placed letters are stored, three
+     * bytes each for the row, the column and the letter, in the order they were placed, every other square is empty.
+     */
+    private static Board toBoard(int boardSize, byte[] placedLetters) {
+        final PremiumLayout layout = PremiumLayout.forSize(boardSize);
+        if (placedLetters.length == 0) {
+            return layout.getEmptyBoard();
+        }
+        final byte[] letters = layout.getEmptyBoard().getLetters();
+        for (int idx = 0; idx < placedLetters.length; idx += 3) {
+            letters[(placedLetters[idx] & 0xFF) * boardSize + (placedLetters[idx + 1] & 0xFF)] = placedLetters[idx + 2];
         }
-        return tiles;
+        return layout.toBoard(letters);
     }
 
-    private void insertTiles(List<Tile> tiles, int gameId) {
-        jdbcTemplate.batchUpdate(INSERT_TILES, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                final Tile tile = tiles.get(i);
-                ps.setInt(1, gameId);
-                ps.setInt(2, tile.getRow());
-                ps.setInt(3, tile.getColumn());
-                ps.setString(4, String.valueOf(tile.getValue()));
-            }
-
-            @Override
-            public int getBatchSize() {
-                return tiles.size();
+    /**
+     * Letters of the move on squares of the board that are still empty, in the stored form read by
+     * {@link #toBoard(int, byte[])}.
+     */
+    private static byte[] toPlacedLetters(Board board, String word, int row, int col, MoveDirection direction) {
+        final byte[] placedLetters = new byte[3 * word.length()];
+        int length = 0;
+        for (int idx = 0; idx < word.length(); idx++) {
+            final int letterRow = direction == MoveDirection.TOP_BOTTOM ? row + idx : row;
+            final int letterCol = direction == MoveDirection.LEFT_RIGHT ? col + idx : col;
+            if (board.getLetter(letterRow, letterCol) == '.') {
+                placedLetters[length++] = (byte) letterRow;
+                placedLetters[length++] = (byte) letterCol;
+                placedLetters[length++] = (byte) word.charAt(idx);
             }
-        });
+        }
+        return Arrays.copyOf(placedLetters, length);
     }
 
-    private void updateTiles(List<Tile> tiles, int gameId) {
-        jdbcTemplate.batchUpdate(UPDATE_TILES, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                final Tile tile = tiles.get(i);
-                ps.setString(1, String.valueOf(tile.getValue()));
-                ps.setInt(2, gameId);
-                ps.setInt(3, tile.getRow());
-                ps.setInt(4, tile.getColumn());
+    private static Board withMove(Board board, String word, int row, int col, MoveDirection direction) {
+        final int size = board.getSize();
+        final byte[] letters = new byte[size * size];
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                letters[r * size + c] = (byte) board.getLetter(r, c);
             }
-
-            @Override
-            public int getBatchSize() {
-                return tiles.size();
-            }
-        });
+        }
+        for (int idx = 0; idx < word.length(); idx++) {
+            final int letterRow = direction == MoveDirection.TOP_BOTTOM ? row + idx : row;
+            final int letterCol = direction == MoveDirection.LEFT_RIGHT ? col + idx : col;
+            letters[letterRow * size + letterCol] = (byte) word.charAt(idx);
+        }
+        return PremiumLayout.forSize(size).toBoard(letters);
     }
 
     private void insertGamePlayers(List<Player> players, int gameId) {
@@ -463,4 +463,20 @@ class StandardGamesDao implements GamesDao {
             }
         });
     }
+
+    private static final class GameRow {
+        private final int id;
+        private final GameState state;
+        private final DictionaryType dictionaryType;
+        private final int version;
+        private final Board board;
+
+        private GameRow(int id, GameState state, DictionaryType dictionaryType, int version, Board board) {
+            this.id = id;
+            this.state = state;
+            this.dictionaryType = dictionaryType;
+            this.version = version;
+            this.board = board;
+        }
+    }
 }
@@ -1,22 +1,40 @@
 package game.services;
 
+import game.configuration.AppConfiguration;
+import game.core.Board;
+import game.core.DictionaryType;
 import game.core.Game;
+import game.core.GameState;
 import game.core.Player;
+import game.data.MoveSearchResult;
 import game.data.PlayerMove;
+import game.data.ValidationStats;
 import game.data.dao.UpdateGameOptions;
+import game.data.validation.FailReason;
 import game.exceptions.EntityNotFoundException;
+import game.exceptions.IncorrectDictionaryTypeException;
+import game.exceptions.IncorrectStateException;
 import game.exceptions.InvalidMoveException;
 import game.viewer.GameView;
 import game.viewer.GamesViewer;
 import game.viewer.MovesViewer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
+ * Making a move is timed as a whole and by phase: validation, the lookup of the player whose turn it is, scoring and
+ * writing the move.
+ *
  * @author Manish Shrestha
  */
 @Service
@@ -24,34 +42,124 @@ class StandardMatchManager implements MatchManager {
 
     private static final int DEFAULT_BOARD_SIZE = 15;
     private static final int DEFAULT_NUM_OF_TILES_PER_PLAYER = DEFAULT_BOARD_SIZE * DEFAULT_BOARD_SIZE;
+    static final int MAX_HINTS = 50;
 
     private final GamesDao gamesDao;
     private final ValidationManager validationManager;
+    private final DictionaryManager dictionaryManager;
+    private final HintCache hintCache;
+    private final ValidationCache validationCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer moveTimer;
+    private final Timer validationTimer;
+    private final Timer turnLookupTimer;
+    private final Timer scoringTimer;
+    private final Timer writeTimer;
 
     @Autowired
-    StandardMatchManager(GamesDao gamesDao, ValidationManager validationManager) {
+    StandardMatchManager(GamesDao gamesDao, ValidationManager validationManager, DictionaryManager dictionaryManager,
+                         AppConfiguration appConfiguration, ApplicationEventPublisher eventPublisher,
+                         MeterRegistry meterRegistry) {
         this.gamesDao = gamesDao;
         this.validationManager = validationManager;
+        this.dictionaryManager = dictionaryManager;
+        this.hintCache = new HintCache(appConfiguration.getHintCacheSize());
+        this.validationCache = new ValidationCache(appConfiguration.getValidationCacheSize());
+        this.eventPublisher = eventPublisher;
+        this.moveTimer = Meters.timer(meterRegistry, "move.make", "Making a move, from validation to the event of the next turn");
+        this.validationTimer = Meters.timer(meterRegistry, "move.validation", "Validation of a move being made, cached outcomes included");
+        this.turnLookupTimer = Meters.timer(meterRegistry, "move.turn.lookup", "Lookup of the player whose turn it is");
+        this.scoringTimer = Meters.timer(meterRegistry, "move.scoring", "Scoring of a move");
+        this.writeTimer = Meters.timer(meterRegistry, "move.write", "Writing a move and the new board and score to the database");
     }
 
     @Override
-    public Game startNewGame(List<Player> players, int boardSize, int totalNumOfTilesPerPlayer) {
+    public Game startNewGame(List<Player> players, int boardSize, int totalNumOfTilesPerPlayer, DictionaryType dictionaryType) {
         final int size = boardSize == 0 ? DEFAULT_BOARD_SIZE : boardSize;
         final int numOfTilesPerPlayer = totalNumOfTilesPerPlayer == 0 ? DEFAULT_NUM_OF_TILES_PER_PLAYER : totalNumOfTilesPerPlayer;
-        return gamesDao.createGame(players, size, numOfTilesPerPlayer);
+        final List<DictionaryType> dictionaryTypes = dictionaryManager.getDictionaryTypes();
+        final DictionaryType dictionary = dictionaryType == null ? dictionaryTypes.get(0) : dictionaryType;
+        if (!dictionaryTypes.contains(dictionary)) {
+            throw new IncorrectDictionaryTypeException("Dictionary " + dictionary.getName() + " is not enabled");
+        }
+        final Game game = gamesDao.createGame(players, size, numOfTilesPerPlayer, dictionary);
+        eventPublisher.publishEvent(new GameTurnEvent(game));
+        return game;
     }
 
     @Override
     public Game makeMove(Game game, PlayerMove playerMove) {
-        validationManager.validateMove(game, playerMove).ifPresent(failReason -> {
+        final long start = System.nanoTime();
+        try {
+            return makeMove(game, playerMove, start);
+        } finally {
+            Meters.record(moveTimer, start);
+        }
+    }
+
+    /**
+     * The turn is looked up and the move written against the game as it was loaded, without reading it again.
+     */
+    private Game makeMove(Game game, PlayerMove playerMove, long start) {
+        final Optional<FailReason> validation = validateMove(game, playerMove);
+        final long validationEnd = Meters.record(validationTimer, start);
+        validation.ifPresent(failReason -> {
             throw new InvalidMoveException(failReason.getReason());
         });
-        Player nextTurnPlayer = getNextTurnPlayer(game.getId());
+        final Player nextTurnPlayer = gamesDao.getNextTurnPlayers(Collections.singletonList(game)).get(game.getId());
+        final long turnLookupEnd = Meters.record(turnLookupTimer, validationEnd);
 
         if (!nextTurnPlayer.equals(playerMove.getPlayer())) {
             throw new InvalidMoveException("Move made by incorrect player. It is player with id " + nextTurnPlayer.getPerson().getId() + " turn to make the move");
         }
-        return gamesDao.makeMove(game.getId(), playerMove);
+        final Board board = game.getBoard();
+        final int points = MoveScorer.score(board, PremiumLayout.forSize(board.getSize()), playerMove.getWord(),
+                playerMove.getRow(), playerMove.getColumn(), playerMove.getMoveDirection());
+        final long scoringEnd = Meters.record(scoringTimer, turnLookupEnd);
+        final Game updatedGame = gamesDao.makeMove(game, playerMove, points);
+        Meters.record(writeTimer, scoringEnd);
+        validationManager.moveMade(game.getId(), playerMove);
+        hintCache.invalidate(game.getId());
+        validationCache.invalidate(game.getId());
+        eventPublisher.publishEvent(new GameTurnEvent(updatedGame));
+        return updatedGame;
+    }
+
+    /**
+     * Only the moves not validated against this version of the board before are passed on to the validation
+     * manager, together as one batch.
+     */
+    @Override
+    public List<Optional<FailReason>> validateMoves(int gameId, List<PlayerMove> moves) {
+        final Game game = getGame(gameId);
+        final List<Optional<FailReason>> outcomes = new ArrayList<>(moves.size());
+        final List<ValidationCache.Key> missedKeys = new ArrayList<>();
+        final List<PlayerMove> missedMoves = new ArrayList<>();
+        final List<Integer> missedIndexes = new ArrayList<>();
+        for (PlayerMove move: moves) {
+            final ValidationCache.Key key = ValidationCache.key(game, move);
+            final Optional<FailReason> outcome = validationCache.get(key);
+            if (outcome == null) {
+                missedKeys.add(key);
+                missedMoves.add(move);
+                missedIndexes.add(outcomes.size());
+            }
+            outcomes.add(outcome);
+        }
+        if (!missedMoves.isEmpty()) {
+            final List<Optional<FailReason>> missedOutcomes = validationManager.validateMoves(game, missedMoves);
+            for (int idx = 0; idx < missedOutcomes.size(); idx++) {
+                outcomes.set(missedIndexes.get(idx), missedOutcomes.get(idx));
+                validationCache.put(missedKeys.get(idx), missedOutcomes.get(idx));
+            }
+        }
+        return outcomes;
+    }
+
+    @Override
+    public ValidationStats getValidationStats() {
+        return new ValidationStats(validationCache.getHits(), validationCache.getMisses(), validationCache.size(),
+                validationCache.getMaxSize());
     }
 
     @Override
@@ -62,11 +170,16 @@ class StandardMatchManager implements MatchManager {
     @Override
     public void updateGame(UpdateGameOptions updateGameOptions) {
         gamesDao.updateGame(updateGameOptions);
+        hintCache.invalidate(updateGameOptions.getGameId());
+        validationCache.invalidate(updateGameOptions.getGameId());
+        gamesDao.lookupGame(updateGameOptions.getGameId()).ifPresent(game -> eventPublisher.publishEvent(new GameTurnEvent(game)));
     }
 
     @Override
     public void deleteGame(int gameId) {
         gamesDao.deleteGame(gameId);
+        hintCache.invalidate(gameId);
+        validationCache.invalidate(gameId);
     }
 
     @Override
@@ -92,4 +205,43 @@ class StandardMatchManager implements MatchManager {
     public Player getNextTurnPlayer(int gameId) {
         return gamesDao.getNextTurnPlayer(gameId);
     }
+
+    @Override
+    public Map<Integer, Player> getNextTurnPlayers(List<Game> games) {
+        return gamesDao.getNextTurnPlayers(games);
+    }
+
+    @Override
+    public MoveSearchResult getHints(int gameId, int playerId, String rack, int limit) {
+        final Game game = getGame(gameId);
+        if (game.getState() == GameState.FINISHED) {
+            throw new IncorrectStateException("Game with id " + gameId + " is finished");
+        }
+        final Player nextTurnPlayer = gamesDao.getNextTurnPlayers(Collections.singletonList(game)).get(gameId);
+        if (nextTurnPlayer.getPerson().getId() != playerId) {
+            throw new InvalidMoveException("Hints requested for incorrect player. It is player with id " + nextTurnPlayer.getPerson().getId() + " turn to make the move");
+        }
+
+        final HintCache.Key key = HintCache.key(game, rack);
+        MoveSearchResult hints = hintCache.get(key);
+        if (hints == null) {
+            hints = dictionaryManager.generateMoves(game.getDictionaryType(), game.getBoard(), rack, MAX_HINTS, 0);
+            if (!hints.isTimedOut()) {
+                hintCache.put(key, hints);
+            }
+        }
+        return hints.getMoves().size() > limit
+                ? new MoveSearchResult(new ArrayList<>(hints.getMoves().subList(0, limit)), hints.isTimedOut())
+                : hints;
+    }
+
+    private Optional<FailReason> validateMove(Game game, PlayerMove playerMove) {
+        final ValidationCache.Key key = ValidationCache.key(game, playerMove);
+        Optional<FailReason> outcome = validationCache.get(key);
+        if (outcome == null) {
+            outcome = validationManager.validateMove(game, playerMove);
+            validationCache.put(key, outcome);
+        }
+        return outcome;
+    }
 }
@@ -25,14 +25,15 @@ class StandardPersonsDao implements PersonsDao {
 
     @Override
     public List<Person> getPersons(Set<Integer> ids) {
-        final String GET_PERSONS = "SELECT id, user_name, first_name, last_name FROM persons WHERE id IN (" + SQLUtils.inClause(ids.size()) + ")";
+        final String GET_PERSONS = "SELECT id, user_name, first_name, last_name, bot FROM persons WHERE id IN (" + SQLUtils.inClause(ids.size()) + ")";
         return jdbcTemplate.query(GET_PERSONS, ids.toArray(), (resultSet, i) -> {
             final int id = resultSet.getInt("id");
             final String userName = resultSet.getString("user_name");
             final String firstName = resultSet.getString("first_name");
             final String lastName = resultSet.getString("last_name");
+            final boolean bot = resultSet.getBoolean("bot");
 
-            return new StandardPerson(id, userName, firstName, lastName);
+            return new StandardPerson(id, userName, firstName, lastName, bot);
         });
     }
 }
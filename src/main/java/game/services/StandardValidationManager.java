@@ -1,63 +1,211 @@
 package game.services;
 
+import game.configuration.AppConfiguration;
 import game.core.Board;
+import game.core.DictionaryType;
 import game.core.Game;
 import game.core.GameState;
 import game.core.MoveDirection;
 import game.data.PlayerMove;
 import game.data.validation.FailReason;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
+ * Validates moves against the board of their game. The letters each empty square allows are kept per game for the
+ * most recently validated games, so checking the words a move forms across existing tiles is a mask test per placed
+ * tile. The masks follow the moves made through {@link #moveMade} and are computed again only when the board of a
+ * game no longer matches them.
+ * <p>
+ * The time of each phase of a validation and the words each move looks up and forms are recorded in the meter
+ * registry.
+ *
  * @author Manish Shrestha
  */
 @Service
 class StandardValidationManager implements ValidationManager {
     private static final Logger log = LoggerFactory.getLogger(StandardValidationManager.class);
+    private static final ThreadLocal<WordBatch> FORMED_WORDS = ThreadLocal.withInitial(WordBatch::new);
 
     private final DictionaryManager dictionaryManager;
+    private final Map<Integer, CrossChecks> crossChecksByGame;
+    private final Timer moveTimer;
+    private final Timer boundaryTimer;
+    private final Timer spaceShareTimer;
+    private final Timer crossChecksTimer;
+    private final Timer dictionaryTimer;
+    private final DistributionSummary dictionaryLookups;
+    private final DistributionSummary wordsFormed;
 
     @Autowired
-    StandardValidationManager(DictionaryManager dictionaryManager) {
+    StandardValidationManager(DictionaryManager dictionaryManager, AppConfiguration appConfiguration, MeterRegistry meterRegistry) {
         this.dictionaryManager = dictionaryManager;
+        this.moveTimer = Meters.timer(meterRegistry, "validation.move", "Validation of a move");
+        this.boundaryTimer = Meters.timer(meterRegistry, "validation.boundary", "Check that a move fits on the board");
+        this.spaceShareTimer = Meters.timer(meterRegistry, "validation.space.share", "Check that a move shares a square with the tiles on the board");
+        this.crossChecksTimer = Meters.timer(meterRegistry, "validation.cross.checks", "Lookup or computation of the cross-check masks of a board");
+        this.dictionaryTimer = Meters.timer(meterRegistry, "validation.dictionary", "Dictionary lookups and cross-check tests of a move");
+        this.dictionaryLookups = Meters.summary(meterRegistry, "validation.dictionary.lookups", "Words of a move looked up in the dictionary", "words");
+        this.wordsFormed = Meters.summary(meterRegistry, "validation.words.formed", "Words a move forms, the played word included", "words");
+        final int maxSize = appConfiguration.getCrossCheckCacheSize();
+        this.crossChecksByGame = new LinkedHashMap<Integer, CrossChecks>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CrossChecks> eldest) {
+                return size() > maxSize;
+            }
+        };
     }
 
     @Override
     public Optional<FailReason> validateMove(Game game, PlayerMove move) {
+        return Optional.ofNullable(validate(game, game.getBoard(), null, move));
+    }
+
+    /**
+     * Reads the board and its cross-check masks once and shares them between the moves, which are validated in
+     * parallel.
+     */
+    @Override
+    public List<Optional<FailReason>> validateMoves(Game game, List<PlayerMove> moves) {
         final Board board = game.getBoard();
+        CrossChecks crossChecks = null;
+        if (game.getState() != GameState.INITIALIZED && !moves.isEmpty()) {
+            final long start = System.nanoTime();
+            crossChecks = getCrossChecks(game.getId(), game.getDictionaryType(), board);
+            Meters.record(crossChecksTimer, start);
+        }
+        final CrossChecks sharedCrossChecks = crossChecks;
+        return moves.parallelStream()
+                .map(move -> Optional.ofNullable(validate(game, board, sharedCrossChecks, move)))
+                .collect(Collectors.toList());
+    }
+
+    private FailReason validate(Game game, Board board, CrossChecks crossChecks, PlayerMove move) {
+        final long start = System.nanoTime();
+        final FailReason failReason = validatePhases(game, board, crossChecks, move, start);
+        Meters.record(moveTimer, start);
+        return failReason;
+    }
+
+    private FailReason validatePhases(Game game, Board board, CrossChecks crossChecks, PlayerMove move, long start) {
         final int boardSize = board.getSize();
         final int row = move.getRow();
         final int col = move.getColumn();
         final MoveDirection moveDirection = move.getMoveDirection();
         final String word = move.getWord();
-        final char [][] boardMatrix = board.getBoardMatrix();
+        final DictionaryType dictionaryType = game.getDictionaryType();
 
         FailReason failReason = validateBoundary(boardSize, moveDirection, word, row, col);
+        final long boundaryEnd = Meters.record(boundaryTimer, start);
 
         if (game.getState() == GameState.INITIALIZED) { //Indicates first move
-            if (failReason != null) {
-                return Optional.of(failReason);
-            } else if (!dictionaryManager.checkWord(word)) {
-                failReason = new FailReason("word " + word + " specified is not in the dictionary");
+            if (failReason == null) {
+                if (!dictionaryManager.checkWord(dictionaryType, word)) {
+                    failReason = new FailReason("word " + word + " specified is not in the dictionary");
+                }
+                Meters.record(dictionaryTimer, boundaryEnd);
+                dictionaryLookups.record(1);
+                wordsFormed.record(1);
             }
-            return Optional.ofNullable(failReason);
+            return failReason;
         }
 
         if (failReason == null) {
-            failReason = validateSpaceShare(boardSize, boardMatrix, moveDirection, word, row, col);
+            failReason = validateSpaceShare(boardSize, board, moveDirection, word, row, col);
+            final long spaceShareEnd = Meters.record(spaceShareTimer, boundaryEnd);
+            if (failReason == null) {
+                failReason = validateCrossChecks(game, dictionaryType, board, crossChecks, moveDirection, word, row, col, spaceShareEnd);
+            }
         }
 
-        if (failReason == null) {
-            failReason = validateWordsFormed(boardSize, boardMatrix, moveDirection, word, row, col);
+        return failReason;
+    }
+
+    @Override
+    public void moveMade(int gameId, PlayerMove move) {
+        final CrossChecks crossChecks;
+        synchronized (crossChecksByGame) {
+            crossChecks = crossChecksByGame.get(gameId);
         }
+        if (crossChecks != null) {
+            // validations holding the old masks keep reading them, later ones get the masks of the new board
+            final CrossChecks placed = crossChecks.placed(move.getWord(), move.getRow(), move.getColumn(), move.getMoveDirection());
+            synchronized (crossChecksByGame) {
+                crossChecksByGame.replace(gameId, crossChecks, placed);
+            }
+        }
+    }
 
+    /**
+     * Checks the played word and then each tile it puts on an empty square against the letters the square allows.
+     * The words formed are only collected when a tile fails, to tell which of them is not in the dictionary. Getting
+     * the masks is timed on its own, the rest is timed as the dictionary phase.
+     */
+    private FailReason validateCrossChecks(Game game, DictionaryType dictionaryType, Board board, CrossChecks sharedCrossChecks, MoveDirection moveDirection, String word, int row, int col, long start) {
+        if (!dictionaryManager.checkWord(dictionaryType, word)) {
+            Meters.record(dictionaryTimer, start);
+            dictionaryLookups.record(1);
+            wordsFormed.record(1);
+            return new FailReason("word " + word + " specified is not in the dictionary");
+        }
+        final long wordEnd = System.nanoTime();
 
-        return Optional.ofNullable(failReason);
+        final CrossChecks crossChecks;
+        final long crossChecksEnd;
+        if (sharedCrossChecks != null) {
+            crossChecks = sharedCrossChecks;
+            crossChecksEnd = wordEnd;
+        } else {
+            crossChecks = getCrossChecks(game.getId(), dictionaryType, board);
+            crossChecksEnd = Meters.record(crossChecksTimer, wordEnd);
+        }
+
+        FailReason failReason = null;
+        int crossWords = 0;
+        for (int idx = 0; idx < word.length(); idx++) {
+            final int r = moveDirection == MoveDirection.LEFT_RIGHT ? row : row + idx;
+            final int c = moveDirection == MoveDirection.LEFT_RIGHT ? col + idx : col;
+            if (board.getLetter(r, c) == '.') {
+                if (!crossChecks.allows(r, c, moveDirection, word.charAt(idx))) {
+                    failReason = validateWordsFormed(dictionaryType, board.getSize(), board, moveDirection, word, row, col);
+                    crossWords = FORMED_WORDS.get().size() - 1;
+                    break;
+                }
+                if (crossChecks.mask(r, c, moveDirection) != CrossChecks.NO_CROSS_WORD) {
+                    crossWords++;
+                }
+            }
+        }
+        dictionaryTimer.record(wordEnd - start + System.nanoTime() - crossChecksEnd, TimeUnit.NANOSECONDS);
+        dictionaryLookups.record(failReason == null ? 1 : crossWords + 1);
+        wordsFormed.record(crossWords + 1);
+        return failReason;
+    }
+
+    private CrossChecks getCrossChecks(int gameId, DictionaryType dictionaryType, Board board) {
+        final CrossChecks previous;
+        synchronized (crossChecksByGame) {
+            previous = crossChecksByGame.get(gameId);
+        }
+        final CrossChecks crossChecks = dictionaryManager.getCrossChecks(dictionaryType, board, previous);
+        if (crossChecks != previous) {
+            synchronized (crossChecksByGame) {
+                crossChecksByGame.put(gameId, crossChecks);
+            }
+        }
+        return crossChecks;
     }
 
     private FailReason validateBoundary(int boardSize, MoveDirection moveDirection, String word, int row, int col) {
@@ -76,7 +224,7 @@ class StandardValidationManager implements ValidationManager {
         return failReason;
     }
 
-    private FailReason validateSpaceShare(int boardSize, char [][] boardMatrix, MoveDirection moveDirection, String word, int row, int col) {
+    private FailReason validateSpaceShare(int boardSize, Board board, MoveDirection moveDirection, String word, int row, int col) {
         FailReason failReason = null;
         final int wordLength = word.length();
         final int rowAbove = row - 1;
@@ -93,7 +241,7 @@ class StandardValidationManager implements ValidationManager {
             case LEFT_RIGHT:
                 //boolean hasAboveBelowAdjacentChar = false;
                 for (int c = col; c < col + wordLength; c++) {
-                    char boardVal = boardMatrix[row][c];
+                    char boardVal = board.getLetter(row, c);
                     char currentWordChar = word.charAt(wordCharIdx);
                     if (boardVal != '.' && boardVal != currentWordChar) {
                         failReason = new FailReason("word " + word + " overlaps with existing character " + boardVal +
@@ -107,8 +255,8 @@ class StandardValidationManager implements ValidationManager {
                                     row + " col " + col + " moving direction " + moveDirection);
                         }
                     } else {
-                        if ((rowAbove >= 0 && boardMatrix[rowAbove][c] != '.') ||
-                            (rowBelow < boardSize && boardMatrix[rowBelow][c] != '.')) {
+                        if ((rowAbove >= 0 && board.getLetter(rowAbove, c) != '.') ||
+                            (rowBelow < boardSize && board.getLetter(rowBelow, c) != '.')) {
                             //hasAboveBelowAdjacentChar = true;
                             break;
                         } else {
@@ -125,8 +273,8 @@ class StandardValidationManager implements ValidationManager {
                 if (!hasAboveBelowAdjacentChar && overLapCount == 0 && failReason == null) {
                     final int colLeftOfWordStart = col - 1;
                     final int colRightOfWordEnd = col + wordLength + 1;
-                    if ((colLeftOfWordStart < 0 || boardMatrix[row][colLeftOfWordStart] == '.') &&
-                        (colRightOfWordEnd >= boardSize || boardMatrix[row][colRightOfWordEnd] == '.')) {
+                    if ((colLeftOfWordStart < 0 || board.getLetter(row, colLeftOfWordStart) == '.') &&
+                        (colRightOfWordEnd >= boardSize || board.getLetter(row, colRightOfWordEnd) == '.')) {
                         failReason = new FailReason("word " + word + " must share at least one space with an existing word at row " +
                                 row + " col " + col + "moving direction " + moveDirection);
                     }
@@ -135,7 +283,7 @@ class StandardValidationManager implements ValidationManager {
             case TOP_BOTTOM:
                // boolean hasLeftRightAdjacentChar = false;
                 for (int r = row; r < row + wordLength; r++) {
-                    char boardVal = boardMatrix[r][col];
+                    char boardVal = board.getLetter(r, col);
                     char currentWordChar = word.charAt(wordCharIdx);
                     if (boardVal != '.' && boardVal != currentWordChar) {
                         failReason = new FailReason("word " + word + " overlaps with existing character " + boardVal +
@@ -150,8 +298,8 @@ class StandardValidationManager implements ValidationManager {
                             break;
                         }
                     } else {
-                        if ((colLeft >= 0 && boardMatrix[r][colLeft] != '.') ||
-                            (colRight < boardSize && boardMatrix[r][colRight] != '.')) {
+                        if ((colLeft >= 0 && board.getLetter(r, colLeft) != '.') ||
+                            (colRight < boardSize && board.getLetter(r, colRight) != '.')) {
                             //hasLeftRightAdjacentChar = true;
                             break;
                         } else {
@@ -168,8 +316,8 @@ class StandardValidationManager implements ValidationManager {
                 if (!hasLeftRightAdjacentChar && overLapCount == 0 && failReason == null) {
                     final int rowAboveWordStart = row - 1;
                     final int rowBelowWordEnd = row + wordLength + 1;
-                    if ((rowAboveWordStart < 0 || boardMatrix[rowAboveWordStart][col] == '.') &&
-                            (rowBelowWordEnd >= boardSize || boardMatrix[rowBelowWordEnd][col] == '.')) {
+                    if ((rowAboveWordStart < 0 || board.getLetter(rowAboveWordStart, col) == '.') &&
+                            (rowBelowWordEnd >= boardSize || board.getLetter(rowBelowWordEnd, col) == '.')) {
                         failReason = new FailReason("word " + word + " must share at least one space with an existing word at row " +
                                 row + " col " + col + "moving direction " + moveDirection);
                     }
@@ -179,38 +327,39 @@ class StandardValidationManager implements ValidationManager {
         return failReason;
     }
 
-    private FailReason validateWordsFormed(int boardSize, char [][] boardMatrix, MoveDirection moveDirection, String word, int row, int col) {
-
-        if (!dictionaryManager.checkWord(word)) {
-            return new FailReason("word " + word + " specified is not in the dictionary");
+    /**
+     * Collects the played word and every word it forms across existing tiles and checks all of them with a single
+     * dictionary call. The words are read straight from the board into a per thread batch, so a valid move allocates
+     * nothing here. Messages are only built for an invalid move.
+     */
+    private FailReason validateWordsFormed(DictionaryType dictionaryType, int boardSize, Board board, MoveDirection moveDirection, String word, int row, int col) {
+        final WordBatch words = FORMED_WORDS.get().clear();
+        for (int idx = 0; idx < word.length(); idx++) {
+            words.append(word.charAt(idx));
         }
+        words.endWord(row * boardSize + col);
 
         final int wordLength = word.length();
         int wordCharIdx = 0;
         switch (moveDirection) {
             case LEFT_RIGHT:
                 for (int c = col; c < col + wordLength; c++) {
-                    int up = row - 1;
-                    final StringBuilder wordBuilder = new StringBuilder();
-                    while(up >= 0 && boardMatrix[up][c] != '.') {
-                        wordBuilder.append(boardMatrix[up][c]);
+                    int up = row;
+                    while (up > 0 && board.getLetter(up - 1, c) != '.') {
                         up--;
                     }
-                    wordBuilder.reverse();
-                    wordBuilder.append(word.charAt(wordCharIdx));
-
-                    int down = row + 1;
-                    while(down < boardSize && boardMatrix[down][c] != '.') {
-                        wordBuilder.append(boardMatrix[down][c]);
+                    int down = row;
+                    while (down < boardSize - 1 && board.getLetter(down + 1, c) != '.') {
                         down++;
                     }
 
-                    if (wordBuilder.length() > 1) {
-                        final String formedWord = wordBuilder.toString();
-                        log.debug("Formed word from row :{} col: {} direction: {} word: {}", up + 1, col, moveDirection, formedWord);
-                        if (!dictionaryManager.checkWord(formedWord)) {
-                            return new FailReason("formed word" + formedWord + " from row " + up + " col " + col +
-                                    " in direction " + moveDirection + " is not in the dictionary");
+                    if (down > up) {
+                        for (int r = up; r <= down; r++) {
+                            words.append(r == row ? word.charAt(wordCharIdx) : board.getLetter(r, c));
+                        }
+                        words.endWord(up * boardSize + c);
+                        if (log.isDebugEnabled()) {
+                            log.debug("Formed word from row :{} col: {} direction: {} word: {}", up, c, moveDirection, words.getWord(words.size() - 1));
                         }
                     }
                     wordCharIdx++;
@@ -218,35 +367,36 @@ class StandardValidationManager implements ValidationManager {
                 break;
             case TOP_BOTTOM:
                 for (int r = row; r < row + wordLength; r++) {
-                    int left = col - 1;
-                    final StringBuilder wordBuilder = new StringBuilder();
-                    while(left >= 0 && boardMatrix[r][left] != '.') {
-                        wordBuilder.append(boardMatrix[r][left]);
+                    int left = col;
+                    while (left > 0 && board.getLetter(r, left - 1) != '.') {
                         left--;
                     }
-                    wordBuilder.reverse();
-                    wordBuilder.append(word.charAt(wordCharIdx));
-
-                    int right = col + 1;
-                    while(right < boardSize && boardMatrix[r][right] != '.') {
-                        wordBuilder.append(boardMatrix[r][right]);
+                    int right = col;
+                    while (right < boardSize - 1 && board.getLetter(r, right + 1) != '.') {
                         right++;
                     }
 
-                    if (wordBuilder.length() > 1) {
-                        final String formedWord = wordBuilder.toString();
-
-                        log.debug("Formed word from row :{} col: {} direction: {} word: {}", row, left + 1, moveDirection, formedWord);
-
-                        if (!dictionaryManager.checkWord(formedWord)) {
-                            return new FailReason("formed word" + formedWord + " from row " + left + " col " + col +
-                                    " in direction " + moveDirection + " is not in the dictionary");
+                    if (right > left) {
+                        for (int c = left; c <= right; c++) {
+                            words.append(c == col ? word.charAt(wordCharIdx) : board.getLetter(r, c));
+                        }
+                        words.endWord(r * boardSize + left);
+                        if (log.isDebugEnabled()) {
+                            log.debug("Formed word from row :{} col: {} direction: {} word: {}", r, left, moveDirection, words.getWord(words.size() - 1));
                         }
                     }
                     wordCharIdx++;
                 }
         }
 
+        final int missingIdx = dictionaryManager.checkWords(dictionaryType, words);
+        if (missingIdx == 0) {
+            return new FailReason("word " + word + " specified is not in the dictionary");
+        } else if (missingIdx > 0) {
+            final int position = words.getPosition(missingIdx);
+            return new FailReason("formed word " + words.getWord(missingIdx) + " from row " + position / boardSize +
+                    " col " + position % boardSize + " in direction " + moveDirection + " is not in the dictionary");
+        }
         return null;
     }
 }
@@ -0,0 +1,30 @@
+package game.services;
+
+import java.util.Random;
+
+/**
+ * Letter distribution of the English tile set, {@code ?} being a blank tile. Games do not keep racks, so players run by
+ * the server draw a full rack from a full bag on every turn.
+ *
+ * @author Manish Shrestha
+ */
+public final class TileBag {
+    static final String TILES = "AAAAAAAAABBCCDDDDEEEEEEEEEEEEFFGGGHHIIIIIIIIIJKLLLLMMNNNNNNOOOOOOOOPPQRRRRRRSSSSTTTTTTUUUUVVWWXYYZ??";
+
+    private TileBag() {
+    }
+
+    /**
+     * Draws without replacement, by shuffling only the first rack size tiles of a copy of the bag.
+     */
+    public static String drawRack(Random random) {
+        final char[] tiles = TILES.toCharArray();
+        for (int idx = 0; idx < MoveGenerator.RACK_SIZE; idx++) {
+            final int drawn = idx + random.nextInt(tiles.length - idx);
+            final char tile = tiles[drawn];
+            tiles[drawn] = tiles[idx];
+            tiles[idx] = tile;
+        }
+        return new String(tiles, 0, MoveGenerator.RACK_SIZE);
+    }
+}
@@ -0,0 +1,115 @@
+package game.services;
+
+import game.core.Game;
+import game.core.MoveDirection;
+import game.data.PlayerMove;
+import game.data.validation.FailReason;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcomes of recently validated moves, evicting the least recently used entry once it holds {@code maxSize}
+ * entries. An entry is keyed by the game, the version of its board and the move, so a repeated submission of a move
+ * is answered without validating it again while a move made in between changes the version and misses. The entries
+ * of a game are dropped as soon as its version changes, since they can never be asked for again.
+ *
+ * @author Manish Shrestha
+ */
+final class ValidationCache {
+    private final Map<Key, Optional<FailReason>> outcomes;
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ValidationCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.outcomes = new LinkedHashMap<Key, Optional<FailReason>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Optional<FailReason>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    static Key key(Game game, PlayerMove move) {
+        return new Key(game.getId(), game.getVersion(), move.getWord(), move.getRow(), move.getColumn(),
+                move.getMoveDirection());
+    }
+
+    /**
+     * Returns the cached outcome of the move, or null when it was not validated against this version of the board.
+     */
+    synchronized Optional<FailReason> get(Key key) {
+        final Optional<FailReason> outcome = outcomes.get(key);
+        if (outcome == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return outcome;
+    }
+
+    synchronized void put(Key key, Optional<FailReason> outcome) {
+        outcomes.put(key, outcome);
+    }
+
+    synchronized void invalidate(int gameId) {
+        outcomes.keySet().removeIf(key -> key.gameId == gameId);
+    }
+
+    synchronized int size() {
+        return outcomes.size();
+    }
+
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    static final class Key {
+        private final int gameId;
+        private final int version;
+        private final String word;
+        private final int row;
+        private final int column;
+        private final MoveDirection moveDirection;
+
+        private Key(int gameId, int version, String word, int row, int column, MoveDirection moveDirection) {
+            this.gameId = gameId;
+            this.version = version;
+            this.word = word;
+            this.row = row;
+            this.column = column;
+            this.moveDirection = moveDirection;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return gameId == key.gameId &&
+                    version == key.version &&
+                    row == key.row &&
+                    column == key.column &&
+                    Objects.equals(word, key.word) &&
+                    moveDirection == key.moveDirection;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(gameId, version, word, row, column, moveDirection);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import game.core.Game;
 import game.data.PlayerMove;
 import game.data.validation.FailReason;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,4 +13,14 @@ import java.util.Optional;
 public interface ValidationManager {
 
     Optional<FailReason> validateMove(Game game, PlayerMove move);
+
+    /**
+     * Validates candidate moves against the same board, returning the outcome of each move in the order given.
+     */
+    List<Optional<FailReason>> validateMoves(Game game, List<PlayerMove> moves);
+
+    /**
+     * Tells that a validated move was made in the game, so state kept about its board can follow the move.
+     */
+    void moveMade(int gameId, PlayerMove move);
 }
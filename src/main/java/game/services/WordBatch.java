@@ -0,0 +1,152 @@
+package game.services;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable buffer of words checked together with {@link DictionaryManager#checkWords(game.core.DictionaryType, WordBatch)}.
+ * The characters of all words are appended to one array and each word can carry a caller defined position, for
+ * example the board cell it starts at. Once the buffer has grown to the size of the largest batch, clearing and
+ * filling it again allocates nothing, so a caller that keeps one batch per thread can check words without creating
+ * strings. A batch is not thread safe.
+ *
+ * @author Manish Shrestha
+ */
+public final class WordBatch {
+    private char[] chars = new char[64];
+    private int[] ends = new int[16];
+    private int[] positions = new int[16];
+    private int length;
+    private int size;
+
+    private final WordView wordView = new WordView();
+    private boolean[] missing = new boolean[16];
+    private int[] order = new int[16];
+    private int[] path = new int[16];
+
+    public static WordBatch of(List<? extends CharSequence> words) {
+        final WordBatch wordBatch = new WordBatch();
+        for (CharSequence word: words) {
+            for (int idx = 0; idx < word.length(); idx++) {
+                wordBatch.append(word.charAt(idx));
+            }
+            wordBatch.endWord(-1);
+        }
+        return wordBatch;
+    }
+
+    public WordBatch clear() {
+        length = 0;
+        size = 0;
+        return this;
+    }
+
+    /**
+     * Appends a character to the word being built.
+     */
+    public WordBatch append(char c) {
+        if (length == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+        chars[length++] = c;
+        return this;
+    }
+
+    /**
+     * Ends the word being built and returns its index in the batch.
+     */
+    public int endWord(int position) {
+        if (size == ends.length) {
+            ends = Arrays.copyOf(ends, size * 2);
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        ends[size] = length;
+        positions[size] = position;
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getPosition(int wordIdx) {
+        return positions[wordIdx];
+    }
+
+    public String getWord(int wordIdx) {
+        final int start = start(wordIdx);
+        return new String(chars, start, ends[wordIdx] - start);
+    }
+
+    int length(int wordIdx) {
+        return ends[wordIdx] - start(wordIdx);
+    }
+
+    char charAt(int wordIdx, int charIdx) {
+        return chars[start(wordIdx) + charIdx];
+    }
+
+    /**
+     * View of a word in the batch. The same view is returned on every call and is only valid until the next one.
+     */
+    CharSequence view(int wordIdx) {
+        wordView.start = start(wordIdx);
+        wordView.end = ends[wordIdx];
+        return wordView;
+    }
+
+    boolean isMissing(int wordIdx) {
+        return missing[wordIdx];
+    }
+
+    void setMissing(int wordIdx, boolean wordMissing) {
+        missing[wordIdx] = wordMissing;
+    }
+
+    /**
+     * Scratch arrays used while looking up the batch, grown together with the batch.
+     */
+    int[] order() {
+        if (order.length < size) {
+            order = new int[ends.length];
+            missing = new boolean[ends.length];
+        }
+        return order;
+    }
+
+    int[] path(int pathLength) {
+        if (path.length < pathLength) {
+            path = new int[Math.max(pathLength, path.length * 2)];
+        }
+        return path;
+    }
+
+    private int start(int wordIdx) {
+        return wordIdx == 0 ? 0 : ends[wordIdx - 1];
+    }
+
+    private final class WordView implements CharSequence {
+        private int start;
+        private int end;
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, this.start + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, start, end - start);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package game.services;
+
+import game.data.WordQuery;
+import game.exceptions.IncorrectLettersException;
+
+/**
+ * {@link WordQuery} compiled for a walk of the {@link DictionaryGraph}. The pattern is matched as a small
+ * nondeterministic automaton whose states are the pattern positions, kept as the bits of a long, so a walk can tell
+ * after every letter whether any word below the current node can still match and prune the branch if not.
+ *
+ * @author Manish Shrestha
+ */
+final class WordPattern {
+    static final int MAX_PATTERN_LENGTH = 32;
+    private static final char ANY_LETTER = '?';
+    private static final char ANY_LETTERS = '*';
+
+    private final char[] pattern;
+    private final long startStates;
+    private final int minLength;
+    private final int maxLength;
+    private final int[] requiredCounts = new int[26];
+    private final int requiredCount;
+    private final boolean[] excluded = new boolean[26];
+
+    private WordPattern(char[] pattern, int minLength, int maxLength, String containing, String excluding) {
+        this.pattern = pattern;
+        this.startStates = closure(1L);
+
+        int fixedLength = 0;
+        boolean hasAnyLetters = false;
+        for (char c: pattern) {
+            if (c == ANY_LETTERS) {
+                hasAnyLetters = true;
+            } else {
+                fixedLength++;
+            }
+        }
+        this.minLength = Math.max(Math.max(minLength, fixedLength), 1);
+        this.maxLength = hasAnyLetters ? maxLength : Math.min(maxLength, fixedLength);
+
+        int count = 0;
+        for (int idx = 0; idx < containing.length(); idx++) {
+            requiredCounts[letter(containing.charAt(idx), containing)]++;
+            count++;
+        }
+        this.requiredCount = count;
+        for (int idx = 0; idx < excluding.length(); idx++) {
+            excluded[letter(excluding.charAt(idx), excluding)] = true;
+        }
+    }
+
+    static WordPattern compile(WordQuery query) {
+        final String pattern = query.getPattern() == null || query.getPattern().isEmpty() ? "*" : query.getPattern();
+        if (pattern.length() > MAX_PATTERN_LENGTH) {
+            throw new IncorrectLettersException("Pattern may have at most " + MAX_PATTERN_LENGTH + " characters. Pattern: " + pattern);
+        }
+        final char[] chars = new char[pattern.length()];
+        for (int idx = 0; idx < chars.length; idx++) {
+            final char c = Character.toUpperCase(pattern.charAt(idx));
+            if (c != ANY_LETTER && c != ANY_LETTERS && (c < 'A' || c > 'Z')) {
+                throw new IncorrectLettersException("Pattern may only contain A to Z, " + ANY_LETTER + " and " + ANY_LETTERS +
+                        ". Pattern: " + pattern);
+            }
+            chars[idx] = c;
+        }
+        return new WordPattern(chars, query.getMinLength(), query.getMaxLength(),
+                query.getContaining() == null ? "" : query.getContaining(),
+                query.getExcluding() == null ? "" : query.getExcluding());
+    }
+
+    /**
+     * Pattern positions the automaton is in before the first letter.
+     */
+    long getStartStates() {
+        return startStates;
+    }
+
+    /**
+     * Pattern positions the automaton is in after reading a letter, 0 if no word with this prefix can match.
+     */
+    long step(long states, char c) {
+        long nextStates = 0;
+        for (long remaining = states; remaining != 0; remaining &= remaining - 1) {
+            final int position = Long.numberOfTrailingZeros(remaining);
+            if (position == pattern.length) {
+                continue;
+            }
+            final char patternChar = pattern[position];
+            if (patternChar == ANY_LETTERS) {
+                nextStates |= 1L << position;
+            } else if (patternChar == ANY_LETTER || patternChar == c) {
+                nextStates |= 1L << (position + 1);
+            }
+        }
+        return closure(nextStates);
+    }
+
+    boolean isAccepting(long states) {
+        return (states & (1L << pattern.length)) != 0;
+    }
+
+    boolean isExcluded(char c) {
+        return excluded[c - 'A'];
+    }
+
+    int getRequiredCount(char c) {
+        return requiredCounts[c - 'A'];
+    }
+
+    int getRequiredCount() {
+        return requiredCount;
+    }
+
+    int getMinLength() {
+        return minLength;
+    }
+
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Adds the positions reached by letting a {@code *} match nothing.
+     */
+    private long closure(long states) {
+        for (int position = 0; position < pattern.length; position++) {
+            if ((states & (1L << position)) != 0 && pattern[position] == ANY_LETTERS) {
+                states |= 1L << (position + 1);
+            }
+        }
+        return states;
+    }
+
+    private static int letter(char c, String letters) {
+        final char upperCase = Character.toUpperCase(c);
+        if (upperCase < 'A' || upperCase > 'Z') {
+            throw new IncorrectLettersException("Letters may only contain A to Z. Letters: " + letters);
+        }
+        return upperCase - 'A';
+    }
+}
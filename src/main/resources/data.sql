@@ -1,4 +1,5 @@
 INSERT INTO persons (id, user_name, first_name, last_name) VALUES(1, "scrabbleUser", "scrabbler", "champion");
 INSERT INTO persons (id, user_name, first_name, last_name) VALUES(2, "scrabbleUser2", "scrabbler2", "champion2");
 INSERT INTO persons (id, user_name, first_name, last_name) VALUES(3, "scrabbleUser3", "scrabbler3", "champion3");
-INSERT INTO persons (id, user_name, first_name, last_name) VALUES(4, "scrabbleUser4", "scrabbler4", "champion4");
\ No newline at end of file
+INSERT INTO persons (id, user_name, first_name, last_name) VALUES(4, "scrabbleUser4", "scrabbler4", "champion4");
+INSERT INTO persons (id, user_name, first_name, last_name, bot) VALUES(100, "scrabbleBot", "scrabble", "bot", TRUE);
\ No newline at end of file
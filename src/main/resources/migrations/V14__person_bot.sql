@@ -0,0 +1,3 @@
+-- Flags the persons that are computer opponents and adds the one created by data.sql.
+ALTER TABLE persons ADD COLUMN bot BOOLEAN NOT NULL DEFAULT FALSE AFTER last_name;
+INSERT IGNORE INTO persons (id, user_name, first_name, last_name, bot) VALUES (100, 'scrabbleBot', 'scrabble', 'bot', TRUE);
@@ -0,0 +1,3 @@
+-- Counts the changes to the board or state of each game, moves are only written against the version they were
+-- validated on.
+ALTER TABLE games ADD COLUMN version INT NOT NULL DEFAULT 0 AFTER dictionary;
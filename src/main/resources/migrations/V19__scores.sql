@@ -0,0 +1,3 @@
+-- Keeps the points of each move and the total of each player, moves made before scoring count 0 points.
+ALTER TABLE game_players ADD COLUMN score INT NOT NULL DEFAULT 0 AFTER player_order;
+ALTER TABLE game_moves ADD COLUMN points INT NOT NULL DEFAULT 0 AFTER direction;
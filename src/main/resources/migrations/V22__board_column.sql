@@ -0,0 +1,13 @@
+-- Moves the board of each game from its rows in tiles to the board_size and board columns of games, one letter per
+-- square row by row with '.' for an empty square. Premium squares are not kept, they follow from the board size.
+-- Runs after V18__game_version.sql, the columns follow games.version.
+ALTER TABLE games ADD COLUMN board_size INT NOT NULL DEFAULT 0 AFTER version,
+    ADD COLUMN board VARBINARY(4096) NOT NULL DEFAULT '' AFTER board_size;
+SET SESSION group_concat_max_len = 4096;
+UPDATE games AS g JOIN (
+    SELECT game_id, MAX(row) + 1 AS board_size,
+        CAST(GROUP_CONCAT(val ORDER BY row, col SEPARATOR '') AS BINARY) AS board
+    FROM tiles GROUP BY game_id) AS t ON t.game_id = g.id
+SET g.board_size = t.board_size, g.board = t.board;
+ALTER TABLE games ALTER COLUMN board_size DROP DEFAULT, ALTER COLUMN board DROP DEFAULT;
+DROP TABLE tiles;
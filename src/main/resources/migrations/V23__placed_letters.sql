@@ -0,0 +1,19 @@
+-- Keeps only the letters placed on each board, three bytes each for the row, the column and the letter, instead of
+-- one letter per square. Runs after V22__board_column.sql, whose boards have at most 4096 squares.
+CREATE TEMPORARY TABLE squares (n INT NOT NULL PRIMARY KEY);
+INSERT INTO squares (n)
+    SELECT a.d + 8 * b.d + 64 * c.d + 512 * e.d FROM
+        (SELECT 0 AS d UNION SELECT 1 UNION SELECT 2 UNION SELECT 3 UNION SELECT 4 UNION SELECT 5 UNION SELECT 6 UNION SELECT 7) AS a,
+        (SELECT 0 AS d UNION SELECT 1 UNION SELECT 2 UNION SELECT 3 UNION SELECT 4 UNION SELECT 5 UNION SELECT 6 UNION SELECT 7) AS b,
+        (SELECT 0 AS d UNION SELECT 1 UNION SELECT 2 UNION SELECT 3 UNION SELECT 4 UNION SELECT 5 UNION SELECT 6 UNION SELECT 7) AS c,
+        (SELECT 0 AS d UNION SELECT 1 UNION SELECT 2 UNION SELECT 3 UNION SELECT 4 UNION SELECT 5 UNION SELECT 6 UNION SELECT 7) AS e;
+ALTER TABLE games MODIFY COLUMN board BLOB NOT NULL;
+SET SESSION group_concat_max_len = 65535;
+UPDATE games AS g LEFT JOIN (
+    SELECT g.id, GROUP_CONCAT(CONCAT(CHAR(s.n DIV g.board_size), CHAR(s.n MOD g.board_size), SUBSTRING(g.board, s.n + 1, 1))
+            ORDER BY s.n SEPARATOR '') AS board
+    FROM games AS g JOIN squares AS s ON s.n < LENGTH(g.board)
+    WHERE SUBSTRING(g.board, s.n + 1, 1) <> '.'
+    GROUP BY g.id) AS p ON p.id = g.id
+SET g.board = IFNULL(p.board, '');
+DROP TEMPORARY TABLE squares;
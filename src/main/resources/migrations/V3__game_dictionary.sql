@@ -0,0 +1,2 @@
+-- Adds the dictionary each game is played with, games created before it was chosen per game use SOWPODS.
+ALTER TABLE games ADD COLUMN dictionary VARCHAR(20) NOT NULL DEFAULT 'sowpods' AFTER state;
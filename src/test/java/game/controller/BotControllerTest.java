@@ -0,0 +1,47 @@
+package game.controller;
+
+import game.data.BotStats;
+import game.services.BotManager;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author Manish Shrestha
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"spring.datasource.initialization-mode=never"})
+@AutoConfigureMockMvc
+public class BotControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private BotManager botManager;
+
+    @Test
+    public void testGetBotStats() throws Exception {
+        given(botManager.getBotStats()).willReturn(new BotStats(3, 100, 1, 42, 2));
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/1.0/bots/stats").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queueDepth", equalTo(3)))
+                .andExpect(jsonPath("$.queueCapacity", equalTo(100)))
+                .andExpect(jsonPath("$.activeMoves", equalTo(1)))
+                .andExpect(jsonPath("$.completedMoves", equalTo(42)))
+                .andExpect(jsonPath("$.rejectedMoves", equalTo(2)));
+    }
+}
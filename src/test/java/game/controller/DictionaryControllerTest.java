@@ -0,0 +1,130 @@
+package game.controller;
+
+import game.core.DictionaryType;
+import game.data.DictionaryStats;
+import game.data.WordQuery;
+import game.data.WordSearchResult;
+import game.exceptions.IncorrectLettersException;
+import game.services.DictionaryManager;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author Manish Shrestha
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"spring.datasource.initialization-mode=never"})
+@AutoConfigureMockMvc
+public class DictionaryControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private DictionaryManager dictionaryManager;
+
+    @Test
+    public void testGetDictionaryStats() throws Exception {
+        final DictionaryStats stats = DictionaryStats.builder(DictionaryType.TWL06)
+                .setLoaded(true)
+                .setWordCount(178691)
+                .setFilterSizeInBytes(214160)
+                .setFilterHashCount(7)
+                .setFilterFalsePositiveRate(0.01)
+                .setLookups(200)
+                .setFilterRejections(99)
+                .setFilterFalsePositives(1)
+                .build();
+        given(dictionaryManager.getDictionaryStats(DictionaryType.TWL06)).willReturn(stats);
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/1.0/dictionaries/twl06/stats").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dictionary", equalTo("twl06")))
+                .andExpect(jsonPath("$.loaded", equalTo(true)))
+                .andExpect(jsonPath("$.wordCount", equalTo(178691)))
+                .andExpect(jsonPath("$.filterSizeInBytes", equalTo(214160)))
+                .andExpect(jsonPath("$.filterHashCount", equalTo(7)))
+                .andExpect(jsonPath("$.lookups", equalTo(200)))
+                .andExpect(jsonPath("$.filterHitRate", equalTo(0.495)))
+                .andExpect(jsonPath("$.observedFalsePositiveRate", equalTo(0.01)));
+    }
+
+    @Test
+    public void testGetAnagrams() throws Exception {
+        given(dictionaryManager.findAnagrams(DictionaryType.SOWPODS, "tac", 0, 2)).willReturn(Arrays.asList("ACT", "AT"));
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/1.0/dictionaries/sowpods/anagrams?letters=tac&limit=2").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dictionary", equalTo("sowpods")))
+                .andExpect(jsonPath("$.words", contains("ACT", "AT")))
+                .andExpect(jsonPath("$.limit", equalTo(2)))
+                .andExpect(jsonPath("$.offset", equalTo(0)));
+    }
+
+    @Test
+    public void testGetAnagramsWithIncorrectLetters() throws Exception {
+        given(dictionaryManager.findAnagrams(DictionaryType.SOWPODS, "t1", 0, 50)).willThrow(new IncorrectLettersException("incorrect letters"));
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/1.0/dictionaries/sowpods/anagrams?letters=t1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetWords() throws Exception {
+        given(dictionaryManager.findWords(eq(DictionaryType.TWL06), any(WordQuery.class)))
+                .willReturn(new WordSearchResult(Arrays.asList("QABALAH", "QINDARS"), true));
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/1.0/dictionaries/twl06/words?pattern=???????&containing=q&excluding=u&limit=2")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dictionary", equalTo("twl06")))
+                .andExpect(jsonPath("$.words", contains("QABALAH", "QINDARS")))
+                .andExpect(jsonPath("$.timedOut", equalTo(true)));
+
+        final ArgumentCaptor<WordQuery> queryCaptor = ArgumentCaptor.forClass(WordQuery.class);
+        verify(dictionaryManager).findWords(eq(DictionaryType.TWL06), queryCaptor.capture());
+        Assert.assertEquals("???????", queryCaptor.getValue().getPattern());
+        Assert.assertEquals("q", queryCaptor.getValue().getContaining());
+        Assert.assertEquals("u", queryCaptor.getValue().getExcluding());
+        Assert.assertEquals(2, queryCaptor.getValue().getLimit());
+        Assert.assertEquals(Integer.MAX_VALUE, queryCaptor.getValue().getMaxLength());
+    }
+
+    @Test
+    public void testReloadDictionary() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.post("/api/1.0/dictionaries/sowpods/reload"))
+                .andExpect(status().isAccepted());
+
+        verify(dictionaryManager).reloadDictionary(DictionaryType.SOWPODS);
+    }
+
+    @Test
+    public void testGetStatsOfUnknownDictionary() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/api/1.0/dictionaries/unknown/stats").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyZeroInteractions(dictionaryManager);
+    }
+}
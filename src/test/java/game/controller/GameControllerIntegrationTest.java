@@ -3,29 +3,38 @@ package game.controller;
 import game.core.*;
 import game.data.PlayerMove;
 import game.data.dao.UpdateGameOptions;
+import game.exceptions.InvalidMoveException;
 import game.request.parameters.CreateGameParams;
+import game.request.parameters.LimitOffsetParam;
 import game.request.parameters.PlayerMoveParams;
 import game.request.parameters.PlayerParams;
 import game.request.parameters.UpdateGameParams;
 import game.resource.*;
 import game.services.MatchManager;
 import game.services.PersonManager;
+import game.selfplay.SelfPlayConfiguration;
+import game.selfplay.StatementCountingDataSource;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.internal.util.collections.Sets;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import javax.sql.DataSource;
 import java.net.URL;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -52,6 +61,12 @@ public class GameControllerIntegrationTest {
     @Autowired
     private PersonManager personManager;
 
+    @Autowired
+    private GameController gameController;
+
+    @Autowired
+    private DataSource dataSource;
+
     @Before
     public void setUp() throws Exception {
         this.base = new URL("http://localhost:" + port + "/api/1.0/");
@@ -173,6 +188,38 @@ public class GameControllerIntegrationTest {
                         .collect(Collectors.toList())));
     }
 
+    @Test
+    @Sql("GameControllerIntegrationTest.getGames.sql")
+    public void getGamesStatementCount() throws Exception {
+        final StatementCountingDataSource statementCountingDataSource = (StatementCountingDataSource) dataSource;
+        final List<Game> inProgressGames = new ArrayList<>();
+        for (int cnt = 0; cnt < 4; cnt++) {
+            createGame(5, GameState.INITIALIZED, null);
+            inProgressGames.add(createGame(5, GameState.IN_PROGRESS, null));
+        }
+
+        long statementCount = statementCountingDataSource.getThreadStatementCount();
+        final GameResources smallPage = gameController.getGames(null, new LimitOffsetParam(2, 0));
+        final long smallPageStatements = statementCountingDataSource.getThreadStatementCount() - statementCount;
+
+        statementCount = statementCountingDataSource.getThreadStatementCount();
+        final GameResources allPage = gameController.getGames(null, new LimitOffsetParam(50, 0));
+        final long allPageStatements = statementCountingDataSource.getThreadStatementCount() - statementCount;
+
+        Assert.assertEquals(2, smallPage.getGames().size());
+        Assert.assertEquals(8, allPage.getGames().size());
+        // games, their players, the last moves of the games in progress and the count
+        Assert.assertEquals(4, allPageStatements);
+        Assert.assertEquals(allPageStatements, smallPageStatements);
+
+        for (GameResource gameResource: allPage.getGames()) {
+            final Player nextTurnPlayer = matchManager.getNextTurnPlayer(gameResource.getId());
+            Assert.assertEquals(nextTurnPlayer.getPerson().getId(), gameResource.getNextTurnPlayer().getPerson().getId());
+            Assert.assertEquals(inProgressGames.stream().anyMatch(game -> game.getId() == gameResource.getId()) ? 2 : 1,
+                    nextTurnPlayer.getOrder());
+        }
+    }
+
     @Test
     public void createGame() throws Exception {
         URL gamesPath = new URL(base, "games");
@@ -227,6 +274,46 @@ public class GameControllerIntegrationTest {
         });
     }
 
+    @Test
+    public void createGameBoardSizeTooLarge() throws Exception {
+        URL gamesPath = new URL(base, "games");
+        List<PlayerParams> playerParams = new ArrayList<>();
+        for (int i = 1; i < 3; i++) {
+            playerParams.add(new PlayerParams(i, i));
+        }
+        CreateGameParams createGameParams = new CreateGameParams(Board.MAX_SIZE + 1, playerParams, 0);
+        HttpEntity<CreateGameParams> requestParams = new HttpEntity<>(createGameParams);
+        ResponseEntity<GameResource> response = template.postForEntity(gamesPath.toString(), requestParams, GameResource.class);
+
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void createGameWithDictionary() throws Exception {
+        URL gamesPath = new URL(base, "games");
+        List<PlayerParams> playerParams = new ArrayList<>();
+        for (int i = 1; i < 3; i++) {
+            playerParams.add(new PlayerParams(i, i));
+        }
+        CreateGameParams createGameParams = new CreateGameParams(10, playerParams, 50, "twl06");
+        HttpEntity<CreateGameParams> requestParams = new HttpEntity<>(createGameParams);
+        ResponseEntity<GameResource> response = template.postForEntity(gamesPath.toString(), requestParams, GameResource.class);
+
+        Assert.assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        Assert.assertEquals(DictionaryType.TWL06.getName(), response.getBody().getDictionary());
+
+        final Game game = matchManager.getGame(response.getBody().getId());
+        Assert.assertEquals(DictionaryType.TWL06, game.getDictionaryType());
+
+        final Player nextTurnPlayer = matchManager.getNextTurnPlayer(game.getId());
+        try {
+            matchManager.makeMove(game, new PlayerMove("abb", 0, 0, MoveDirection.LEFT_RIGHT, nextTurnPlayer));
+            Assert.fail("word only in SOWPODS accepted by a TWL06 game");
+        } catch (InvalidMoveException e) {
+            Assert.assertTrue(e.getMessage().contains("abb"));
+        }
+    }
+
     @Test
     public void getGameById() throws Exception {
         Game game = createGame(10, GameState.INITIALIZED, null);
@@ -366,6 +453,21 @@ public class GameControllerIntegrationTest {
         Assert.assertEquals(game.getBoard(), updatedGame.getBoard());
     }
 
+    @Test
+    public void updateBoardSizeTooLarge() throws Exception {
+        Game game = createGame(10, GameState.INITIALIZED, null);
+        URL gamesPath = new URL(base, "games/{id}");
+
+        UpdateGameParams updateGameParams = new UpdateGameParams(Board.MAX_SIZE + 1, null, null, null);
+        HttpEntity<UpdateGameParams> requestParams = new HttpEntity<>(updateGameParams);
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", game.getId());
+        ResponseEntity<Void> response = template.exchange(gamesPath.toString(), HttpMethod.PUT, requestParams, Void.class, params);
+
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        Assert.assertEquals(10, matchManager.getGame(game.getId()).getBoard().getSize());
+    }
+
     @Test
     public void deleteGame() throws Exception {
         Game game = createGame(10, GameState.INITIALIZED, null);
@@ -387,6 +489,47 @@ public class GameControllerIntegrationTest {
         template.delete(gamesPath.toString(), params);
     }
 
+    @Test
+    public void makeMoveStoresLetters() throws Exception {
+        Game game = createGame(10, GameState.INITIALIZED, null);
+
+        Player nextTurnPlayer = matchManager.getNextTurnPlayer(game.getId());
+        final Game firstMoveGame = matchManager.makeMove(game, new PlayerMove("cat", 0, 0, MoveDirection.LEFT_RIGHT, nextTurnPlayer));
+        nextTurnPlayer = matchManager.getNextTurnPlayer(game.getId());
+        final StatementCountingDataSource statementCountingDataSource = (StatementCountingDataSource) dataSource;
+        final long statementCount = statementCountingDataSource.getThreadStatementCount();
+        final Game secondMoveGame = matchManager.makeMove(firstMoveGame, new PlayerMove("toy", 0, 2, MoveDirection.TOP_BOTTOM, nextTurnPlayer));
+        // the last move lookup, then the games row, the move and the score, with no read back
+        Assert.assertEquals(4, statementCountingDataSource.getThreadStatementCount() - statementCount);
+
+        final Game storedGame = matchManager.getGame(game.getId());
+        Assert.assertEquals(storedGame.getBoard(), secondMoveGame.getBoard());
+        Assert.assertEquals(storedGame.getVersion(), secondMoveGame.getVersion());
+        Assert.assertEquals(GameState.IN_PROGRESS, secondMoveGame.getState());
+        final Map<Integer, Integer> storedScores = new HashMap<>();
+        storedGame.getPlayers().forEach(player -> storedScores.put(player.getPerson().getId(), player.getScore()));
+        secondMoveGame.getPlayers().forEach(player ->
+                Assert.assertEquals(storedScores.get(player.getPerson().getId()).intValue(), player.getScore()));
+
+        // the same move again, by the player whose turn it now is, on the board it was validated against before
+        try {
+            matchManager.makeMove(firstMoveGame, new PlayerMove("toy", 0, 2, MoveDirection.TOP_BOTTOM,
+                    matchManager.getNextTurnPlayer(game.getId())));
+            Assert.fail();
+        } catch (InvalidMoveException e) {
+            Assert.assertTrue(e.getMessage().contains("changed since version"));
+            Assert.assertEquals(storedGame.getVersion(), matchManager.getGame(game.getId()).getVersion());
+        }
+
+        final Board board = storedGame.getBoard();
+        Assert.assertEquals(10, board.getSize());
+        Assert.assertEquals("cat.......", new String(board.getBoardMatrix()[0]));
+        Assert.assertEquals('o', board.getLetter(1, 2));
+        Assert.assertEquals('y', board.getLetter(2, 2));
+        Assert.assertEquals('.', board.getLetter(3, 2));
+        Assert.assertEquals(3, board.getBoost(0, 0));
+    }
+
     @Test
     public void getGameHistory() throws Exception {
         Game game = createGame(10, GameState.INITIALIZED, null);
@@ -618,6 +761,15 @@ public class GameControllerIntegrationTest {
         }
     }
 
+    @TestConfiguration
+    static class StatementCountingConfiguration {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return SelfPlayConfiguration.statementCountingDataSourcePostProcessor();
+        }
+    }
+
     private Game createGame(int boardSize, GameState state, Set<Integer> playerIds) {
         Set<Integer> playerSet = Sets.newSet(1, 2, 3, 4);
         if (playerIds != null) {
@@ -630,7 +782,7 @@ public class GameControllerIntegrationTest {
             players.add(new StandardPlayer(persons.get(i), i + 1));
         }
 
-        final Game game = matchManager.startNewGame(players, boardSize, 100);
+        final Game game = matchManager.startNewGame(players, boardSize, 100, null);
 
         if (state == GameState.IN_PROGRESS) {
             Player nextPlayer = matchManager.getNextTurnPlayer(game.getId());
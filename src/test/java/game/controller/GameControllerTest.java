@@ -2,13 +2,19 @@ package game.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import game.core.*;
+import game.data.MoveCandidate;
+import game.data.MoveSearchResult;
+import game.data.PlayerMove;
 import game.data.dao.UpdateGameOptions;
+import game.data.validation.FailReason;
 import game.exceptions.EntityNotFoundException;
 import game.exceptions.InvalidMoveException;
+import game.request.parameters.CandidateMoveParams;
 import game.request.parameters.CreateGameParams;
 import game.request.parameters.PlayerMoveParams;
 import game.request.parameters.PlayerParams;
 import game.request.parameters.UpdateGameParams;
+import game.request.parameters.ValidateMovesParams;
 import game.services.MatchManager;
 import game.services.PersonManager;
 import game.viewer.GameView;
@@ -38,6 +44,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -80,7 +87,7 @@ public class GameControllerTest {
         ArgumentCaptor<List<Player>> argumentCaptor = ArgumentCaptor.forClass(List.class);
 
         given(personManager.getPersons(playerIds)).willReturn(persons);
-        given(matchManager.startNewGame(argumentCaptor.capture(), eq(boardSize), eq(tilesPerPlayer))).willReturn(mockGame);
+        given(matchManager.startNewGame(argumentCaptor.capture(), eq(boardSize), eq(tilesPerPlayer), isNull())).willReturn(mockGame);
         given(matchManager.getNextTurnPlayer(mockGame.getId())).willReturn(nextTurnPlayer);
 
         final String verificationContent = readFile(getClass().getSimpleName() + "_testCreateGame.json");
@@ -110,7 +117,7 @@ public class GameControllerTest {
         Player nextTurnPlayer = new MockPlayer();
 
         given(personManager.getPersons(isA(Set.class))).willReturn(Collections.emptyList());
-        given(matchManager.startNewGame(isA(List.class), eq(0), eq(0))).willReturn(mockGame);
+        given(matchManager.startNewGame(isA(List.class), eq(0), eq(0), isNull())).willReturn(mockGame);
         given(matchManager.getNextTurnPlayer(mockGame.getId())).willReturn(nextTurnPlayer);
 
         final String verificationContent = readFile(getClass().getSimpleName() + "_testCreateGame.json");
@@ -131,6 +138,42 @@ public class GameControllerTest {
                 .andExpect(content().string(equalTo(verificationContent)));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCreateGameWithDictionary() throws Exception {
+        MockGame.MockGameOptions mockGameOptions = new MockGame.MockGameOptions();
+        mockGameOptions.setId(1);
+        mockGameOptions.setBoard(new MockBoard(15));
+        mockGameOptions.setPlayers(Lists.newArrayList(new MockPlayer(1, 1)));
+        mockGameOptions.setState(GameState.INITIALIZED);
+        mockGameOptions.setDictionaryType(DictionaryType.TWL06);
+        Game mockGame = new MockGame(mockGameOptions);
+
+        given(personManager.getPersons(isA(Set.class))).willReturn(Collections.emptyList());
+        given(matchManager.startNewGame(isA(List.class), eq(15), eq(50), eq(DictionaryType.TWL06))).willReturn(mockGame);
+        given(matchManager.getNextTurnPlayer(mockGame.getId())).willReturn(new MockPlayer());
+
+        CreateGameParams createGameParams = new CreateGameParams(15, Lists.newArrayList(new PlayerParams(1, 1)), 50, "TWL06");
+        mvc.perform(MockMvcRequestBuilders.post("/api/1.0/games")
+                .content(objectMapper.writeValueAsString(createGameParams))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.dictionary", equalTo("twl06")));
+    }
+
+    @Test
+    public void testCreateGameWithUnknownDictionary() throws Exception {
+        CreateGameParams createGameParams = new CreateGameParams(15, Lists.newArrayList(new PlayerParams(1, 1)), 50, "unknown");
+        mvc.perform(MockMvcRequestBuilders.post("/api/1.0/games")
+                .content(objectMapper.writeValueAsString(createGameParams))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyZeroInteractions(matchManager);
+    }
+
     @Test
     public void testCreateGameWithoutPlayers() throws Exception {
         mvc.perform(MockMvcRequestBuilders.post("/api/1.0/games")
@@ -227,6 +270,7 @@ public class GameControllerTest {
         int totalCount = 800;
 
         List<Game> mockGames = new ArrayList<>();
+        Map<Integer, Player> nextTurnPlayers = new HashMap<>();
         for (int cnt = 0; cnt < 5; cnt++) {
             MockGame.MockGameOptions mockGameOptions = new MockGame.MockGameOptions();
             mockGameOptions.setId(cnt);
@@ -238,8 +282,9 @@ public class GameControllerTest {
             mockGameOptions.setPlayers(players);
             mockGameOptions.setState(cnt % 2 == 0 ? GameState.INITIALIZED : GameState.FINISHED);
             mockGames.add(new MockGame(mockGameOptions));
-            given(matchManager.getNextTurnPlayer(cnt)).willReturn(players.get(0));
+            nextTurnPlayers.put(cnt, players.get(0));
         }
+        given(matchManager.getNextTurnPlayers(mockGames)).willReturn(nextTurnPlayers);
 
         given(matchManager.getGamesViewer(argumentCaptor.capture())).willReturn(gamesViewer);
         given(gamesViewer.getViewItems(offset, limit)).willReturn(mockGames);
@@ -268,6 +313,7 @@ public class GameControllerTest {
         int totalCount = 800;
 
         List<Game> mockGames = new ArrayList<>();
+        Map<Integer, Player> nextTurnPlayers = new HashMap<>();
         for (int cnt = 0; cnt < 5; cnt++) {
             MockGame.MockGameOptions mockGameOptions = new MockGame.MockGameOptions();
             mockGameOptions.setId(cnt);
@@ -279,8 +325,9 @@ public class GameControllerTest {
             mockGameOptions.setPlayers(players);
             mockGameOptions.setState(cnt % 2 == 0 ? GameState.INITIALIZED : GameState.FINISHED);
             mockGames.add(new MockGame(mockGameOptions));
-            given(matchManager.getNextTurnPlayer(cnt)).willReturn(players.get(0));
+            nextTurnPlayers.put(cnt, players.get(0));
         }
+        given(matchManager.getNextTurnPlayers(mockGames)).willReturn(nextTurnPlayers);
 
         given(matchManager.getGamesViewer(argumentCaptor.capture())).willReturn(gamesViewer);
         given(gamesViewer.getViewItems(offset, limit)).willReturn(mockGames);
@@ -433,6 +480,63 @@ public class GameControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    public void testGetHints() throws Exception {
+        given(matchManager.getHints(1, 7, "cat", 2)).willReturn(new MoveSearchResult(Arrays.asList(
+                new MoveCandidate("CAT", 7, 5, MoveDirection.LEFT_RIGHT, 5, "CAT"),
+                new MoveCandidate("ACT", 5, 7, MoveDirection.TOP_BOTTOM, 5, "ACT")), false));
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/1.0/games/1/hints?player=7&rack=cat&limit=2").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hints[0].word", equalTo("CAT")))
+                .andExpect(jsonPath("$.hints[0].direction", equalTo(0)))
+                .andExpect(jsonPath("$.hints[1].row", equalTo(5)))
+                .andExpect(jsonPath("$.hints[1].points", equalTo(5)))
+                .andExpect(jsonPath("$.hints[1].tilesUsed", equalTo("ACT")))
+                .andExpect(jsonPath("$.limit", equalTo(2)))
+                .andExpect(jsonPath("$.timedOut", equalTo(false)));
+    }
+
+    @Test
+    public void testGetHintsForIncorrectPlayer() throws Exception {
+        given(matchManager.getHints(1, 8, "cat", 10)).willThrow(new InvalidMoveException("incorrect player"));
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/1.0/games/1/hints?player=8&rack=cat").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testValidateGameMoves() throws Exception {
+        final List<PlayerMove> moves = Arrays.asList(new PlayerMove("cat", 7, 5, MoveDirection.LEFT_RIGHT, null),
+                new PlayerMove("cxt", 5, 7, MoveDirection.TOP_BOTTOM, null));
+        given(matchManager.validateMoves(1, moves)).willReturn(Arrays.asList(Optional.empty(),
+                Optional.of(new FailReason("word cxt specified is not in the dictionary"))));
+
+        final ValidateMovesParams params = new ValidateMovesParams(Arrays.asList(new CandidateMoveParams("cat", 7, 5, 0),
+                new CandidateMoveParams("cxt", 5, 7, 1)));
+        mvc.perform(MockMvcRequestBuilders.post("/api/1.0/games/1/move/validations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(params))
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.validations[0].word", equalTo("cat")))
+                .andExpect(jsonPath("$.validations[0].valid", equalTo(true)))
+                .andExpect(jsonPath("$.validations[1].direction", equalTo(1)))
+                .andExpect(jsonPath("$.validations[1].valid", equalTo(false)))
+                .andExpect(jsonPath("$.validations[1].reason", equalTo("word cxt specified is not in the dictionary")));
+    }
+
+    @Test
+    public void testValidateNoGameMoves() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.post("/api/1.0/games/1/move/validations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"moves\": []}")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyZeroInteractions(matchManager);
+    }
+
     @Test
     public void testGetGameHistory() throws Exception {
         int gameId = 1;
@@ -513,7 +617,6 @@ public class GameControllerTest {
         given(matchManager.getGame(gameId)).willReturn(game);
         given(personManager.getPerson(playerId)).willReturn(player.getPerson());
         given(matchManager.makeMove(eq(game), argThat(t -> t.getPlayer().getPerson().getId() == playerId))).willReturn(returnedGame);
-        given(matchManager.getNextTurnPlayer(returnedGame.getId())).willReturn(nextMovePlayer);
 
         PlayerParams playerParams = new PlayerParams(player.getPerson().getId(), player.getOrder());
         PlayerMoveParams playerMoveParams = new PlayerMoveParams(word, row, col, moveDirection.getDirectionId(), playerParams);
@@ -526,6 +629,7 @@ public class GameControllerTest {
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().json(verificationContent));
+        verify(matchManager, never()).getNextTurnPlayer(anyInt());
     }
 
     @Test
@@ -0,0 +1,63 @@
+package game.controller;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author Manish Shrestha
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"spring.datasource.initialization-mode=never"})
+@AutoConfigureMockMvc
+public class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    public void testGetMetricNames() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/actuator/metrics").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.names", hasItems("move.make", "move.write", "validation.boundary",
+                        "validation.dictionary", "validation.dictionary.lookups", "validation.words.formed")));
+    }
+
+    @Test
+    public void testGetMetricPercentiles() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/actuator/metrics/validation.move.percentile")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[0].tag", equalTo("phi")))
+                .andExpect(jsonPath("$.availableTags[0].values",
+                        containsInAnyOrder("0.5", "0.75", "0.95", "0.99")));
+    }
+
+    @Test
+    public void testGetMetricHistogram() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/actuator/metrics/validation.words.formed.histogram")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[0].tag", equalTo("le")))
+                .andExpect(jsonPath("$.availableTags[0].values", hasItem("16")));
+    }
+
+    @Test
+    public void testGetMissingMetric() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/actuator/metrics/no.such.metric").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -15,6 +15,7 @@ public class MockGame implements Game {
     private final List<Player> players;
     private final Board board;
     private final GameState state;
+    private final DictionaryType dictionaryType;
 
     public MockGame() {
         id = 1;
@@ -33,6 +34,7 @@ public class MockGame implements Game {
         }
         board = new StandardBoard(tiles);
         state = GameState.INITIALIZED;
+        dictionaryType = DictionaryType.SOWPODS;
     }
 
     public MockGame(MockGameOptions mockGameOptions) {
@@ -40,6 +42,7 @@ public class MockGame implements Game {
         players = mockGameOptions.players;
         board = mockGameOptions.board;
         state = mockGameOptions.state;
+        dictionaryType = mockGameOptions.dictionaryType;
 
     }
     @Override
@@ -67,11 +70,17 @@ public class MockGame implements Game {
         return state;
     }
 
+    @Override
+    public DictionaryType getDictionaryType() {
+        return dictionaryType;
+    }
+
     public static class MockGameOptions {
         private int id;
         private List<Player> players;
         private Board board;
         private GameState state;
+        private DictionaryType dictionaryType = DictionaryType.SOWPODS;
 
         public void setId(int id) {
             this.id = id;
@@ -88,6 +97,10 @@ public class MockGame implements Game {
         public void setState(GameState state) {
             this.state = state;
         }
+
+        public void setDictionaryType(DictionaryType dictionaryType) {
+            this.dictionaryType = dictionaryType;
+        }
     }
 
     @Override
@@ -98,11 +111,12 @@ public class MockGame implements Game {
         return id == mockGame.id &&
                 Objects.equals(players, mockGame.players) &&
                 Objects.equals(board, mockGame.board) &&
-                state == mockGame.state;
+                state == mockGame.state &&
+                dictionaryType == mockGame.dictionaryType;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, players, board, state);
+        return Objects.hash(id, players, board, state, dictionaryType);
     }
 }
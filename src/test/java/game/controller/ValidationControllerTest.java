@@ -0,0 +1,47 @@
+package game.controller;
+
+import game.data.ValidationStats;
+import game.services.MatchManager;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author Manish Shrestha
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"spring.datasource.initialization-mode=never"})
+@AutoConfigureMockMvc
+public class ValidationControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private MatchManager matchManager;
+
+    @Test
+    public void testGetValidationStats() throws Exception {
+        given(matchManager.getValidationStats()).willReturn(new ValidationStats(30, 10, 25, 10000));
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/1.0/validations/stats").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cacheHits", equalTo(30)))
+                .andExpect(jsonPath("$.cacheMisses", equalTo(10)))
+                .andExpect(jsonPath("$.cacheSize", equalTo(25)))
+                .andExpect(jsonPath("$.cacheMaxSize", equalTo(10000)))
+                .andExpect(jsonPath("$.cacheHitRate", equalTo(0.75)));
+    }
+}
@@ -0,0 +1,59 @@
+package game.core;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Manish Shrestha
+ */
+public class StandardBoardTest {
+
+    @Test
+    public void testTilesArePackedAndReadBack() {
+        final List<Tile> tiles = new ArrayList<>();
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                final char value = row == 1 ? "Cat".charAt(col) : '.';
+                tiles.add(new StandardTile(row, col, value, row == 0 && col == 0 ? 3 : 1, row == 2 && col == 1 ? 2 : 1));
+            }
+        }
+        final Board board = new StandardBoard(tiles);
+
+        Assert.assertEquals(3, board.getSize());
+        Assert.assertEquals(tiles, board.getTiles());
+        Assert.assertEquals('C', board.getLetter(1, 0));
+        Assert.assertEquals('t', board.getLetter(1, 2));
+        Assert.assertEquals('.', board.getLetter(0, 1));
+        Assert.assertEquals(3, board.getBoost(0, 0));
+        Assert.assertEquals(1, board.getBoost(2, 1));
+        Assert.assertEquals(2, board.getCharBoost(2, 1));
+        Assert.assertArrayEquals(new char[][] {"...".toCharArray(), "Cat".toCharArray(), "...".toCharArray()},
+                board.getBoardMatrix());
+    }
+
+    @Test
+    public void testBoardsOfTheSameSquaresAreEqual() {
+        final List<Tile> tiles = new ArrayList<>();
+        // listed in any order
+        for (int row = 3; row >= 0; row--) {
+            for (int col = 0; col < 4; col++) {
+                final char value = row == col ? 'a' : '.';
+                tiles.add(new StandardTile(row, col, value));
+            }
+        }
+        final Board board = new StandardBoard(tiles);
+        final StandardBoard fromMatrix = StandardBoard.fromMatrix(board.getBoardMatrix());
+
+        Assert.assertEquals(fromMatrix, board);
+        Assert.assertEquals(fromMatrix.hashCode(), board.hashCode());
+        // squares missing from the list are empty
+        final StandardBoard sparse = new StandardBoard(4, tiles.subList(0, 4));
+        Assert.assertEquals('a', sparse.getLetter(3, 3));
+        Assert.assertEquals('.', sparse.getLetter(0, 0));
+        Assert.assertEquals(1, sparse.getBoost(0, 0));
+        Assert.assertNotEquals(board, StandardBoard.fromMatrix(new char[][] {"a.".toCharArray(), ".a".toCharArray()}));
+    }
+}
@@ -0,0 +1,30 @@
+package game.selfplay;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Manish Shrestha
+ */
+public class OperationStatsTest {
+
+    @Test
+    public void testPercentiles() {
+        final OperationStats stats = new OperationStats();
+        for (int latency = 2000; latency >= 1; latency--) {
+            stats.record(latency, 3, latency == 1);
+        }
+
+        Assert.assertEquals(2000, stats.getCalls());
+        Assert.assertEquals(6000, stats.getStatements());
+        Assert.assertEquals(1, stats.getErrors());
+        Assert.assertEquals(1000, stats.percentileNanos(0.5));
+        Assert.assertEquals(1980, stats.percentileNanos(0.99));
+        Assert.assertEquals(1, stats.percentileNanos(0));
+    }
+
+    @Test
+    public void testPercentileWithoutCalls() {
+        Assert.assertEquals(0, new OperationStats().percentileNanos(0.99));
+    }
+}
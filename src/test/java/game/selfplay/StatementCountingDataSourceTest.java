@@ -0,0 +1,58 @@
+package game.selfplay;
+
+import org.easymock.EasyMock;
+import org.easymock.IMocksControl;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+
+import static org.easymock.EasyMock.expect;
+
+/**
+ * @author Manish Shrestha
+ */
+public class StatementCountingDataSourceTest {
+
+    @Test
+    public void testStatementsAreCountedPerThread() throws Exception {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+        DataSource targetDataSource = ctrl.createMock(DataSource.class);
+        Connection connection = ctrl.createMock(Connection.class);
+        PreparedStatement preparedStatement = ctrl.createMock(PreparedStatement.class);
+        Statement statement = ctrl.createMock(Statement.class);
+        ResultSet resultSet = ctrl.createMock(ResultSet.class);
+
+        expect(targetDataSource.getConnection()).andReturn(connection).times(2);
+        expect(connection.prepareStatement("SELECT state FROM games WHERE id = ?")).andReturn(preparedStatement);
+        preparedStatement.setInt(1, 1);
+        expect(preparedStatement.executeQuery()).andReturn(resultSet);
+        expect(connection.createStatement()).andReturn(statement);
+        expect(statement.executeUpdate("DELETE FROM games")).andReturn(0);
+
+        ctrl.replay();
+
+        StatementCountingDataSource dataSource = new StatementCountingDataSource(targetDataSource);
+        PreparedStatement countedStatement = dataSource.getConnection().prepareStatement("SELECT state FROM games WHERE id = ?");
+        countedStatement.setInt(1, 1);
+        Assert.assertSame(resultSet, countedStatement.executeQuery());
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                dataSource.getConnection().createStatement().executeUpdate("DELETE FROM games");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+        ctrl.verify();
+
+        Assert.assertEquals(2, dataSource.getStatementCount());
+        Assert.assertEquals(1, dataSource.getThreadStatementCount());
+    }
+}
@@ -0,0 +1,99 @@
+package game.services;
+
+import game.core.Board;
+import game.core.MoveDirection;
+import game.core.StandardBoard;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * @author Manish Shrestha
+ */
+public class CrossChecksTest {
+    private static final DictionaryGraph GRAPH = graph("AT", "CAT", "CATS", "TA", "AS", "SAT", "TAT");
+
+    @Test
+    public void testMasksAllowLettersFormingCrossWords() {
+        final CrossChecks crossChecks = CrossChecks.compute(GRAPH, board(".....", ".....", ".cat.", ".....", "....."));
+
+        // across plays above and below the tiles form down words with them
+        Assert.assertTrue(crossChecks.allows(1, 2, MoveDirection.LEFT_RIGHT, 't'));
+        Assert.assertFalse(crossChecks.allows(1, 2, MoveDirection.LEFT_RIGHT, 'c'));
+        Assert.assertTrue(crossChecks.allows(3, 2, MoveDirection.LEFT_RIGHT, 'S'));
+        Assert.assertTrue(crossChecks.allows(3, 2, MoveDirection.LEFT_RIGHT, 'T'));
+        Assert.assertEquals(bits('S', 'T'), crossChecks.mask(3, 2, MoveDirection.LEFT_RIGHT));
+        // down plays at the ends of the word extend it
+        Assert.assertEquals(bits('S'), crossChecks.mask(2, 4, MoveDirection.TOP_BOTTOM));
+        Assert.assertEquals(0, crossChecks.mask(2, 0, MoveDirection.TOP_BOTTOM));
+        // squares without neighbours allow every letter and occupied squares none
+        Assert.assertEquals(CrossChecks.NO_CROSS_WORD, crossChecks.mask(0, 0, MoveDirection.LEFT_RIGHT));
+        Assert.assertTrue(crossChecks.allows(0, 0, MoveDirection.TOP_BOTTOM, 'q'));
+        Assert.assertEquals(0, crossChecks.mask(2, 2, MoveDirection.LEFT_RIGHT));
+    }
+
+    @Test
+    public void testPlacedMovesMatchMasksComputedFromScratch() {
+        final String[] rows = {".....", ".....", ".cat.", ".....", "....."};
+        final CrossChecks computed = CrossChecks.compute(GRAPH, board(rows));
+
+        CrossChecks crossChecks = computed.placed("cats", 2, 1, MoveDirection.LEFT_RIGHT);
+        rows[2] = ".cats";
+        assertSameMasks(CrossChecks.compute(GRAPH, board(rows)), crossChecks);
+
+        crossChecks = crossChecks.placed("sat", 2, 4, MoveDirection.TOP_BOTTOM);
+        rows[3] = "....a";
+        rows[4] = "....t";
+        assertSameMasks(CrossChecks.compute(GRAPH, board(rows)), crossChecks);
+
+        crossChecks = crossChecks.placed("tat", 4, 2, MoveDirection.LEFT_RIGHT);
+        rows[4] = "..tat";
+        assertSameMasks(CrossChecks.compute(GRAPH, board(rows)), crossChecks);
+        Assert.assertTrue(crossChecks.isFor(GRAPH, board(rows)));
+        // the masks placed on are left as they were
+        Assert.assertTrue(computed.isFor(GRAPH, board(".....", ".....", ".cat.", ".....", ".....")));
+    }
+
+    @Test
+    public void testMasksAreOnlyForTheirGraphAndBoard() {
+        final Board board = board(".....", ".....", ".cat.", ".....", ".....");
+        final CrossChecks crossChecks = CrossChecks.compute(GRAPH, board);
+
+        Assert.assertTrue(crossChecks.isFor(GRAPH, board(".....", ".....", ".cat.", ".....", ".....")));
+        Assert.assertFalse(crossChecks.isFor(graph("AT"), board));
+        Assert.assertFalse(crossChecks.isFor(GRAPH, board(".....", ".....", ".cats", ".....", ".....")));
+        Assert.assertFalse(crossChecks.isFor(GRAPH, board("...", ".a.", "...")));
+    }
+
+    private static void assertSameMasks(CrossChecks expected, CrossChecks actual) {
+        for (int row = 0; row < 5; row++) {
+            for (int col = 0; col < 5; col++) {
+                for (MoveDirection direction: MoveDirection.values()) {
+                    Assert.assertEquals("row " + row + " col " + col + " " + direction,
+                            expected.mask(row, col, direction), actual.mask(row, col, direction));
+                }
+            }
+        }
+    }
+
+    private static int bits(char... letters) {
+        int mask = 0;
+        for (char letter: letters) {
+            mask |= 1 << (letter - 'A');
+        }
+        return mask;
+    }
+
+    private static Board board(String... rows) {
+        return StandardBoard.fromMatrix(Arrays.stream(rows).map(String::toCharArray).toArray(char[][]::new));
+    }
+
+    private static DictionaryGraph graph(String... words) {
+        final DictionaryGraph.Builder builder = DictionaryGraph.builder();
+        for (String word: words) {
+            builder.addWord(word);
+        }
+        return builder.build();
+    }
+}
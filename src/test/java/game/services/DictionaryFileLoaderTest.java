@@ -0,0 +1,66 @@
+package game.services;
+
+import org.assertj.core.util.Lists;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * @author Manish Shrestha
+ */
+public class DictionaryFileLoaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testLoadSortedWordsAcrossChunkBoundaries() throws IOException {
+        final List<String> words = new ArrayList<>();
+        final StringBuilder content = new StringBuilder();
+        final Random random = new Random(7);
+        for (int cnt = 0; cnt < 500; cnt++) {
+            final StringBuilder word = new StringBuilder();
+            final int length = 1 + random.nextInt(12);
+            for (int idx = 0; idx < length; idx++) {
+                word.append((char) ('A' + random.nextInt(26)));
+            }
+            words.add(word.toString());
+            content.append(word).append(cnt % 2 == 0 ? "\r\n" : "\n");
+        }
+        final File file = temporaryFolder.newFile("words.txt");
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        final String[] expected = new TreeSet<>(words).toArray(new String[0]);
+        for (int chunkSize: new int[] {1, 3, 7, 64, 1 << 20}) {
+            Assert.assertArrayEquals("chunk size " + chunkSize, expected,
+                    DictionaryFileLoader.loadSortedWords(Collections.singletonList(file), chunkSize));
+        }
+    }
+
+    @Test
+    public void testLoadSortedWordsMergesFilesAndNormalizesWords() throws IOException {
+        final File first = temporaryFolder.newFile("first.txt");
+        final File second = temporaryFolder.newFile("second.txt");
+        final File empty = temporaryFolder.newFile("empty.txt");
+        Files.write(first.toPath(), "dog\r\n  Cat \r\n\r\nZEBRA".getBytes(StandardCharsets.UTF_8));
+        Files.write(second.toPath(), "CAT\nant\n".getBytes(StandardCharsets.UTF_8));
+
+        final String[] words = DictionaryFileLoader.loadSortedWords(Lists.newArrayList(first, empty, second), 4);
+
+        Assert.assertArrayEquals(new String[] {"ANT", "CAT", "DOG", "ZEBRA"}, words);
+    }
+
+    @Test
+    public void testLoadSortedWordsFromEmptyFile() throws IOException {
+        final File empty = temporaryFolder.newFile("empty.txt");
+
+        Assert.assertEquals(0, DictionaryFileLoader.loadSortedWords(Collections.singletonList(empty)).length);
+    }
+}
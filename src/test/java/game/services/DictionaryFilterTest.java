@@ -0,0 +1,84 @@
+package game.services;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * @author Manish Shrestha
+ */
+public class DictionaryFilterTest {
+
+    @Test
+    public void testFilterHasNoFalseNegatives() {
+        final String[] words = randomWords(20000, 1);
+        final DictionaryFilter dictionaryFilter = DictionaryFilter.build(words, 0.01);
+
+        for (String word: words) {
+            Assert.assertTrue(dictionaryFilter.mightContain(word));
+            Assert.assertTrue(dictionaryFilter.mightContain(word.toLowerCase()));
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRateIsCloseToConfiguredRate() {
+        final String[] words = randomWords(20000, 2);
+        final DictionaryFilter dictionaryFilter = DictionaryFilter.build(words, 0.01);
+        final Set<String> wordSet = new HashSet<>();
+        for (String word: words) {
+            wordSet.add(word);
+        }
+
+        int falsePositives = 0;
+        int misses = 0;
+        for (String word: randomWords(20000, 3)) {
+            if (!wordSet.contains(word)) {
+                misses++;
+                if (dictionaryFilter.mightContain(word)) {
+                    falsePositives++;
+                }
+            }
+        }
+
+        Assert.assertEquals(7, dictionaryFilter.getHashCount());
+        Assert.assertTrue("false positives " + falsePositives + " of " + misses, falsePositives < misses * 0.02);
+    }
+
+    @Test
+    public void testWrappedImageAnswersLikeBuiltFilter() {
+        final String[] words = randomWords(1000, 4);
+        final DictionaryFilter dictionaryFilter = DictionaryFilter.build(words, 0.05);
+        final DictionaryFilter wrappedFilter = DictionaryFilter.wrap(dictionaryFilter.getImage());
+
+        Assert.assertEquals(dictionaryFilter.getBitCount(), wrappedFilter.getBitCount());
+        Assert.assertEquals(dictionaryFilter.getHashCount(), wrappedFilter.getHashCount());
+        Assert.assertEquals(0.05, wrappedFilter.getFalsePositiveRate(), 0);
+        for (String word: randomWords(1000, 5)) {
+            Assert.assertEquals(dictionaryFilter.mightContain(word), wrappedFilter.mightContain(word));
+        }
+    }
+
+    @Test
+    public void testZeroFalsePositiveRateDisablesFilter() {
+        final DictionaryFilter dictionaryFilter = DictionaryFilter.build(new String[] {"CAT"}, 0);
+
+        Assert.assertEquals(0, dictionaryFilter.getBitCount());
+        Assert.assertTrue(dictionaryFilter.mightContain("DOG"));
+    }
+
+    private static String[] randomWords(int count, long seed) {
+        final Random random = new Random(seed);
+        final String[] words = new String[count];
+        for (int cnt = 0; cnt < count; cnt++) {
+            final char[] chars = new char[3 + random.nextInt(8)];
+            for (int idx = 0; idx < chars.length; idx++) {
+                chars[idx] = (char) ('A' + random.nextInt(26));
+            }
+            words[cnt] = new String(chars);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,170 @@
+package game.services;
+
+import game.data.WordQuery;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author Manish Shrestha
+ */
+public class DictionaryGraphTest {
+
+    @Test
+    public void testContainsAddedWords() {
+        DictionaryGraph dictionaryGraph = DictionaryGraph.builder()
+                .addWord("CAT")
+                .addWord("CATS")
+                .addWord("DOG")
+                .addWord("AARDVARK")
+                .build();
+
+        Assert.assertTrue(dictionaryGraph.contains("CAT"));
+        Assert.assertTrue(dictionaryGraph.contains("CATS"));
+        Assert.assertTrue(dictionaryGraph.contains("DOG"));
+        Assert.assertTrue(dictionaryGraph.contains("AARDVARK"));
+        Assert.assertEquals(4, dictionaryGraph.getWordCount());
+    }
+
+    @Test
+    public void testDoesNotContainPrefixesOrUnknownWords() {
+        DictionaryGraph dictionaryGraph = DictionaryGraph.builder()
+                .addWord("CATS")
+                .addWord("DOG")
+                .build();
+
+        Assert.assertFalse(dictionaryGraph.contains("CAT"));
+        Assert.assertFalse(dictionaryGraph.contains("CATSS"));
+        Assert.assertFalse(dictionaryGraph.contains("DOGS"));
+        Assert.assertFalse(dictionaryGraph.contains("BAT"));
+        Assert.assertFalse(dictionaryGraph.contains(""));
+    }
+
+    @Test
+    public void testFindMissingInBatch() {
+        DictionaryGraph dictionaryGraph = DictionaryGraph.builder()
+                .addWord("CAT")
+                .addWord("CATS")
+                .addWord("CATTLE")
+                .addWord("DOG")
+                .build();
+
+        WordBatch words = WordBatch.of(Arrays.asList("cats", "CATTY", "dog", "CA", "CAT", "", "DOGS", "cattle"));
+
+        Assert.assertEquals(4, dictionaryGraph.markMissing(words, words.size()));
+        boolean[] missing = new boolean[words.size()];
+        for (int idx = 0; idx < words.size(); idx++) {
+            missing[idx] = words.isMissing(idx);
+        }
+        Assert.assertArrayEquals(new boolean[] {false, true, false, true, false, true, true, false}, missing);
+
+        words = WordBatch.of(Arrays.asList("CAT", "CAT", "DOG", "COW"));
+        Assert.assertEquals(0, dictionaryGraph.markMissing(words, 3));
+    }
+
+    @Test
+    public void testForEachAnagramSpellsWordsFromRack() {
+        DictionaryGraph dictionaryGraph = DictionaryGraph.builder()
+                .addWord("ACT")
+                .addWord("CAT")
+                .addWord("CATS")
+                .addWord("TACT")
+                .addWord("AT")
+                .addWord("DOG")
+                .build();
+
+        List<String> words = new ArrayList<>();
+        dictionaryGraph.forEachAnagram(rack("TCA"), 0, words::add);
+        Assert.assertEquals(Arrays.asList("ACT", "AT", "CAT"), words);
+
+        words.clear();
+        dictionaryGraph.forEachAnagram(rack("TCA"), 1, words::add);
+        Assert.assertEquals(Arrays.asList("ACT", "AT", "CAT", "CATS", "TACT"), words);
+
+        words.clear();
+        dictionaryGraph.forEachAnagram(rack("TCA"), 1, word -> words.add(word) && words.size() < 2);
+        Assert.assertEquals(Arrays.asList("ACT", "AT"), words);
+    }
+
+    @Test
+    public void testForEachMatchFollowsPatternAndLetters() {
+        DictionaryGraph dictionaryGraph = DictionaryGraph.builder()
+                .addWord("CAT")
+                .addWord("CATS")
+                .addWord("COT")
+                .addWord("CUT")
+                .addWord("SCAT")
+                .addWord("QAT")
+                .addWord("QUIT")
+                .build();
+
+        Assert.assertEquals(Arrays.asList("CAT", "CATS", "COT", "CUT"), match(dictionaryGraph, WordQuery.builder().setPattern("c?t*")));
+        Assert.assertEquals(Arrays.asList("CAT", "CATS", "SCAT"), match(dictionaryGraph, WordQuery.builder().setPattern("*CAT*")));
+        Assert.assertEquals(Arrays.asList("CATS", "QUIT", "SCAT"), match(dictionaryGraph, WordQuery.builder().setMinLength(4)));
+        Assert.assertEquals(Arrays.asList("QAT"), match(dictionaryGraph, WordQuery.builder().setContaining("q").setExcluding("u")));
+        Assert.assertEquals(Arrays.asList("CAT", "COT", "CUT"), match(dictionaryGraph, WordQuery.builder().setPattern("C*").setMaxLength(3)));
+        Assert.assertEquals(Arrays.asList("CATS", "SCAT"), match(dictionaryGraph, WordQuery.builder().setContaining("ST")));
+    }
+
+    @Test
+    public void testForEachMatchStopsAtDeadline() {
+        DictionaryGraph.Builder builder = DictionaryGraph.builder();
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                for (char third = 'A'; third <= 'Z'; third++) {
+                    builder.addWord(new String(new char[] {first, second, third}));
+                }
+            }
+        }
+        DictionaryGraph dictionaryGraph = builder.build();
+
+        List<String> words = new ArrayList<>();
+        Assert.assertTrue(dictionaryGraph.forEachMatch(WordPattern.compile(WordQuery.builder().build()), System.nanoTime() - 1, words::add));
+        Assert.assertTrue(words.size() < dictionaryGraph.getWordCount());
+    }
+
+    @Test
+    public void testContainsIsCaseInsensitive() {
+        DictionaryGraph dictionaryGraph = DictionaryGraph.builder()
+                .addWord("Cat")
+                .addWord(" dog ")
+                .build();
+
+        Assert.assertTrue(dictionaryGraph.contains("cat"));
+        Assert.assertTrue(dictionaryGraph.contains("CAT"));
+        Assert.assertTrue(dictionaryGraph.contains("Dog"));
+    }
+
+    @Test
+    public void testSharedSuffixesAreMerged() {
+        DictionaryGraph dictionaryGraph = DictionaryGraph.builder()
+                .addWord("TAP")
+                .addWord("TAPS")
+                .addWord("TOP")
+                .addWord("TOPS")
+                .addWord("TOPS")
+                .build();
+
+        //root -T-> n1 -A/O-> n2 -P-> n3(final) -S-> n4(final)
+        Assert.assertEquals(5, dictionaryGraph.getNodeCount());
+        Assert.assertEquals(5, dictionaryGraph.getEdgeCount());
+        Assert.assertEquals(4, dictionaryGraph.getWordCount());
+    }
+
+    private static int[] rack(String letters) {
+        final int[] letterCounts = new int[26];
+        for (char c: letters.toCharArray()) {
+            letterCounts[c - 'A']++;
+        }
+        return letterCounts;
+    }
+
+    private static List<String> match(DictionaryGraph dictionaryGraph, WordQuery.Builder builder) {
+        final List<String> words = new ArrayList<>();
+        Assert.assertFalse(dictionaryGraph.forEachMatch(WordPattern.compile(builder.build()), Long.MAX_VALUE, words::add));
+        return words;
+    }
+}
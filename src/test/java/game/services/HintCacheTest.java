@@ -0,0 +1,58 @@
+package game.services;
+
+import game.core.*;
+import game.data.MoveSearchResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Manish Shrestha
+ */
+public class HintCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        final HintCache hintCache = new HintCache(2);
+        final Game game = game(1, '.');
+        final MoveSearchResult hints = new MoveSearchResult(Collections.emptyList(), false);
+
+        hintCache.put(HintCache.key(game, "AB"), hints);
+        hintCache.put(HintCache.key(game, "CD"), hints);
+        Assert.assertSame(hints, hintCache.get(HintCache.key(game, "ba")));
+        hintCache.put(HintCache.key(game, "EF"), hints);
+
+        Assert.assertEquals(2, hintCache.size());
+        Assert.assertSame(hints, hintCache.get(HintCache.key(game, "AB")));
+        Assert.assertNull(hintCache.get(HintCache.key(game, "CD")));
+        Assert.assertSame(hints, hintCache.get(HintCache.key(game, "EF")));
+    }
+
+    @Test
+    public void testEntriesAreKeyedByBoardAndDroppedByGame() {
+        final HintCache hintCache = new HintCache(10);
+        final MoveSearchResult hints = new MoveSearchResult(Collections.emptyList(), false);
+
+        hintCache.put(HintCache.key(game(1, '.'), "AB"), hints);
+        hintCache.put(HintCache.key(game(2, '.'), "AB"), hints);
+        Assert.assertNull(hintCache.get(HintCache.key(game(1, 'a'), "AB")));
+
+        hintCache.invalidate(1);
+
+        Assert.assertNull(hintCache.get(HintCache.key(game(1, '.'), "AB")));
+        Assert.assertSame(hints, hintCache.get(HintCache.key(game(2, '.'), "AB")));
+    }
+
+    private static Game game(int gameId, char centerValue) {
+        final List<Tile> tiles = new ArrayList<>();
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                tiles.add(new StandardTile(row, col, row == 1 && col == 1 ? centerValue : '.'));
+            }
+        }
+        return new StandardGame(gameId, Collections.emptyList(), new StandardBoard(tiles), GameState.IN_PROGRESS, DictionaryType.SOWPODS);
+    }
+}
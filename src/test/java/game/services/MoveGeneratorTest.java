@@ -0,0 +1,208 @@
+package game.services;
+
+import game.configuration.AppConfiguration;
+import game.core.*;
+import game.data.MoveCandidate;
+import game.data.MoveSearchResult;
+import game.data.PlayerMove;
+import game.data.validation.FailReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Manish Shrestha
+ */
+public class MoveGeneratorTest {
+
+    @Test
+    public void testFirstMoveCoversCenter() {
+        final List<MoveCandidate> moves = generate(board(".....", ".....", ".....", ".....", "....."), "CAT", "CAT", "ACT", "AT", "TA");
+
+        Assert.assertEquals(20, moves.size());
+        Assert.assertEquals(new MoveCandidate("ACT", 0, 2, MoveDirection.TOP_BOTTOM, 5, "ACT"), moves.get(0));
+        for (MoveCandidate move: moves) {
+            final int length = move.getWord().length();
+            if (move.getMoveDirection() == MoveDirection.LEFT_RIGHT) {
+                Assert.assertEquals(2, move.getRow());
+                Assert.assertTrue(move.getColumn() <= 2 && move.getColumn() + length > 2);
+            } else {
+                Assert.assertEquals(2, move.getColumn());
+                Assert.assertTrue(move.getRow() <= 2 && move.getRow() + length > 2);
+            }
+        }
+    }
+
+    @Test
+    public void testMovesExtendAndCrossExistingWordWithBoosts() {
+        final List<Tile> tiles = tiles(".....", ".....", ".cat.", ".....", ".....");
+        tiles.set(2 * 5 + 4, new StandardTile(2, 4, '.', 1, 3));
+        tiles.set(3 * 5 + 2, new StandardTile(3, 2, '.', 2, 1));
+
+        final List<MoveCandidate> moves = generate(new StandardBoard(tiles), "S", "CAT", "CATS", "AS", "AT", "TA");
+
+        Assert.assertEquals(Arrays.asList(
+                new MoveCandidate("catS", 2, 1, MoveDirection.LEFT_RIGHT, 8, "S"),
+                new MoveCandidate("aS", 2, 2, MoveDirection.TOP_BOTTOM, 4, "S")), moves);
+    }
+
+    @Test
+    public void testParallelPlayScoresEveryCrossWord() {
+        final List<Tile> tiles = tiles(".....", ".....", ".ta..", ".....", ".....");
+        tiles.set(3 * 5 + 1, new StandardTile(3, 1, '.', 2, 1));
+
+        final List<MoveCandidate> moves = generate(new StandardBoard(tiles), "AS", "TA", "AS", "AT");
+
+        // AS scores 2 doubled, TA down scores 2 doubled and AS down scores 2
+        Assert.assertTrue(moves.contains(new MoveCandidate("AS", 3, 1, MoveDirection.LEFT_RIGHT, 10, "AS")));
+        // S above A would form SA
+        Assert.assertFalse(moves.stream().anyMatch(move -> move.getRow() == 1 && move.getColumn() == 1 &&
+                move.getMoveDirection() == MoveDirection.LEFT_RIGHT));
+    }
+
+    @Test
+    public void testBlankStandsForMissingLetterAndScoresNothing() {
+        final List<MoveCandidate> moves = generate(board(".....", ".....", ".cat.", ".....", "....."), "?", "CAT", "CATS");
+
+        Assert.assertEquals(Collections.singletonList(new MoveCandidate("catS", 2, 1, MoveDirection.LEFT_RIGHT, 5, "?")), moves);
+    }
+
+    @Test
+    public void testSingleTileFormingTwoWordsIsFoundOnce() {
+        final List<MoveCandidate> moves = generate(board("..a..", ".a...", ".....", ".....", "....."), "T", "AT");
+
+        // T at row 1 col 2 forms AT both ways and is only listed across, together with its cross word score
+        Assert.assertEquals(Arrays.asList(
+                new MoveCandidate("aT", 1, 1, MoveDirection.LEFT_RIGHT, 4, "T"),
+                new MoveCandidate("aT", 0, 2, MoveDirection.LEFT_RIGHT, 2, "T"),
+                new MoveCandidate("aT", 1, 1, MoveDirection.TOP_BOTTOM, 2, "T")), moves);
+    }
+
+    @Test
+    public void testEveryGeneratedMoveIsValid() throws Exception {
+        final AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Collections.singletonList("TWL06"));
+        appConfiguration.setDictionaryImageDir("");
+        final StandardDictionaryManager dictionaryManager = new StandardDictionaryManager(appConfiguration);
+        final StandardValidationManager validationManager = new StandardValidationManager(dictionaryManager,
+                appConfiguration, new SimpleMeterRegistry());
+
+        final Random random = new Random(7);
+        final String letters = "AAAAAAAAABBCCDDDDEEEEEEEEEEEEFFGGGHHIIIIIIIIIJKLLLLMMNNNNNNOOOOOOOOPPQRRRRRRSSSSTTTTTTUUUUVVWWXYYZ";
+        final List<Tile> tiles = tiles(15);
+        GameState state = GameState.INITIALIZED;
+        for (int turn = 0; turn < 8; turn++) {
+            final StringBuilder rack = new StringBuilder();
+            for (int idx = 0; idx < MoveGenerator.RACK_SIZE; idx++) {
+                rack.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            final Game game = new StandardGame(1, Collections.emptyList(), new StandardBoard(tiles), state, DictionaryType.TWL06);
+            final MoveSearchResult result = dictionaryManager.generateMoves(DictionaryType.TWL06, game.getBoard(),
+                    rack.toString(), Integer.MAX_VALUE, TimeUnit.MINUTES.toMillis(1));
+            final List<MoveCandidate> moves = result.getMoves();
+            Assert.assertFalse(result.isTimedOut());
+
+            for (MoveCandidate move: moves) {
+                final Optional<FailReason> failReason = validationManager.validateMove(game, new PlayerMove(move.getWord(),
+                        move.getRow(), move.getColumn(), move.getMoveDirection(), null));
+                Assert.assertFalse(move + " " + failReason, failReason.isPresent());
+            }
+            if (!moves.isEmpty()) {
+                play(tiles, moves.get(0));
+                state = GameState.IN_PROGRESS;
+            }
+        }
+        Assert.assertEquals(GameState.IN_PROGRESS, state);
+        dictionaryManager.close();
+    }
+
+    @Test
+    public void testSearchPastDeadlineIsTimedOut() {
+        final DictionaryGraph graph = graph("CAT", "ACT", "AT", "TA");
+
+        final MoveSearchResult result = MoveGenerator.generate(graph, () -> MoveGenerator.buildGaddag(graph),
+                board(".....", ".....", ".....", ".....", "....."), Rack.parse("CAT", MoveGenerator.RACK_SIZE),
+                ForkJoinPool.commonPool(), System.nanoTime() - 1, Integer.MAX_VALUE);
+
+        Assert.assertTrue(result.isTimedOut());
+    }
+
+    @Test
+    public void testCallerDoesNotWaitForGaddagPastDeadline() {
+        final DictionaryGraph graph = graph("CAT", "ACT", "AT", "TA");
+        final CountDownLatch gaddagReleased = new CountDownLatch(1);
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            final long startNanos = System.nanoTime();
+            final MoveSearchResult result = MoveGenerator.generate(graph, () -> {
+                try {
+                    gaddagReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return MoveGenerator.buildGaddag(graph);
+            }, board(".....", ".....", ".....", ".....", "....."), Rack.parse("CAT", MoveGenerator.RACK_SIZE), pool,
+                    startNanos + TimeUnit.MILLISECONDS.toNanos(100), Integer.MAX_VALUE);
+
+            Assert.assertTrue(result.isTimedOut());
+            Assert.assertTrue(result.getMoves().isEmpty());
+            Assert.assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(5));
+        } finally {
+            gaddagReleased.countDown();
+            pool.shutdown();
+        }
+    }
+
+    private static List<MoveCandidate> generate(Board board, String rack, String... words) {
+        final DictionaryGraph graph = graph(words);
+        final DictionaryGraph gaddag = MoveGenerator.buildGaddag(graph);
+        final MoveSearchResult result = MoveGenerator.generate(graph, () -> gaddag, board, Rack.parse(rack, MoveGenerator.RACK_SIZE),
+                ForkJoinPool.commonPool(), System.nanoTime() + TimeUnit.MINUTES.toNanos(1), Integer.MAX_VALUE);
+        Assert.assertFalse(result.isTimedOut());
+        return result.getMoves();
+    }
+
+    private static DictionaryGraph graph(String... words) {
+        final DictionaryGraph.Builder builder = DictionaryGraph.builder();
+        for (String word: words) {
+            builder.addWord(word);
+        }
+        return builder.build();
+    }
+
+    private static void play(List<Tile> tiles, MoveCandidate move) {
+        final int size = (int) Math.sqrt(tiles.size());
+        for (int idx = 0; idx < move.getWord().length(); idx++) {
+            final int row = move.getMoveDirection() == MoveDirection.LEFT_RIGHT ? move.getRow() : move.getRow() + idx;
+            final int column = move.getMoveDirection() == MoveDirection.LEFT_RIGHT ? move.getColumn() + idx : move.getColumn();
+            tiles.set(row * size + column, new StandardTile(row, column, move.getWord().charAt(idx)));
+        }
+    }
+
+    private static Board board(String... rows) {
+        return new StandardBoard(tiles(rows));
+    }
+
+    private static List<Tile> tiles(String... rows) {
+        final List<Tile> tiles = new ArrayList<>();
+        for (int row = 0; row < rows.length; row++) {
+            for (int column = 0; column < rows[row].length(); column++) {
+                tiles.add(new StandardTile(row, column, rows[row].charAt(column)));
+            }
+        }
+        return tiles;
+    }
+
+    private static List<Tile> tiles(int size) {
+        final String[] rows = new String[size];
+        final char[] empty = new char[size];
+        Arrays.fill(empty, '.');
+        Arrays.fill(rows, new String(empty));
+        return tiles(rows);
+    }
+}
@@ -0,0 +1,99 @@
+package game.services;
+
+import game.core.*;
+import game.data.MoveCandidate;
+import game.data.MoveSearchResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Manish Shrestha
+ */
+public class MoveScorerTest {
+
+    @Test
+    public void testLayoutHasStandardPremiumsAtAnySize() {
+        for (int size: new int[] {15, 11, 21}) {
+            final PremiumLayout layout = PremiumLayout.forSize(size);
+            final int last = size - 1;
+            Assert.assertEquals(3, layout.getWordBoost(0, 0));
+            Assert.assertEquals(3, layout.getWordBoost(last, last));
+            Assert.assertEquals(2, layout.getWordBoost(last / 2, last / 2));
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    Assert.assertEquals(layout.getWordBoost(row, col), layout.getWordBoost(col, last - row));
+                    Assert.assertEquals(layout.getLetterBoost(row, col), layout.getLetterBoost(col, last - row));
+                    Assert.assertTrue(layout.getWordBoost(row, col) == 1 || layout.getLetterBoost(row, col) == 1);
+                }
+            }
+        }
+        Assert.assertSame(PremiumLayout.forSize(15), PremiumLayout.forSize(15));
+        Assert.assertEquals(3, PremiumLayout.forSize(15).getLetterBoost(1, 5));
+        Assert.assertEquals(2, PremiumLayout.forSize(15).getLetterBoost(0, 3));
+    }
+
+    @Test
+    public void testScoreCountsPremiumsOfNewTilesOnly() {
+        final char[][] boardMatrix = empty(15);
+        final PremiumLayout layout = PremiumLayout.forSize(15);
+
+        // C A T through the center double word square
+        Assert.assertEquals(10, MoveScorer.score(StandardBoard.fromMatrix(boardMatrix), layout, "CAT", 7, 6, MoveDirection.LEFT_RIGHT));
+
+        boardMatrix[7][6] = 'c';
+        boardMatrix[7][7] = 'a';
+        boardMatrix[7][8] = 't';
+        // CATS keeps the letters on the board at their value and the center is not doubled again
+        Assert.assertEquals(6, MoveScorer.score(StandardBoard.fromMatrix(boardMatrix), layout, "cats", 7, 6, MoveDirection.LEFT_RIGHT));
+        // AS down from the A forms no cross word, S goes on a plain square
+        Assert.assertEquals(2, MoveScorer.score(StandardBoard.fromMatrix(boardMatrix), layout, "as", 7, 7, MoveDirection.TOP_BOTTOM));
+        // AT under CAT with A on a double letter square forms the cross words CA and AT
+        Assert.assertEquals(3 + 5 + 2, MoveScorer.score(StandardBoard.fromMatrix(boardMatrix), layout, "AT", 8, 6, MoveDirection.LEFT_RIGHT));
+    }
+
+    @Test
+    public void testScoreMatchesGeneratedMoves() {
+        final PremiumLayout layout = PremiumLayout.forSize(15);
+        final List<Tile> tiles = new ArrayList<>();
+        final char[][] boardMatrix = empty(15);
+        boardMatrix[7][6] = 'c';
+        boardMatrix[7][7] = 'a';
+        boardMatrix[7][8] = 't';
+        for (int row = 0; row < 15; row++) {
+            for (int col = 0; col < 15; col++) {
+                tiles.add(new StandardTile(row, col, boardMatrix[row][col], layout.getWordBoost(row, col), layout.getLetterBoost(row, col)));
+            }
+        }
+        final Board board = new StandardBoard(tiles);
+        final DictionaryGraph.Builder builder = DictionaryGraph.builder();
+        for (String word: new String[] {"AT", "AS", "CAT", "CATS", "EAST", "EATS", "SAT", "SEAT", "SET", "TA", "TAE", "TEA", "TEAS"}) {
+            builder.addWord(word);
+        }
+        final DictionaryGraph graph = builder.build();
+        final DictionaryGraph gaddag = MoveGenerator.buildGaddag(graph);
+
+        final MoveSearchResult result = MoveGenerator.generate(graph, () -> gaddag, board,
+                Rack.parse("SETA", MoveGenerator.RACK_SIZE), ForkJoinPool.commonPool(),
+                System.nanoTime() + TimeUnit.MINUTES.toNanos(1), Integer.MAX_VALUE);
+
+        Assert.assertFalse(result.getMoves().isEmpty());
+        for (MoveCandidate move: result.getMoves()) {
+            Assert.assertEquals(move.toString(), move.getScore(), MoveScorer.score(board, layout, move.getWord(),
+                    move.getRow(), move.getColumn(), move.getMoveDirection()));
+        }
+    }
+
+    private static char[][] empty(int size) {
+        final char[][] boardMatrix = new char[size][size];
+        for (char[] row: boardMatrix) {
+            Arrays.fill(row, '.');
+        }
+        return boardMatrix;
+    }
+}
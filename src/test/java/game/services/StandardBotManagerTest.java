@@ -0,0 +1,192 @@
+package game.services;
+
+import game.configuration.AppConfiguration;
+import game.core.*;
+import game.data.BotStats;
+import game.data.MoveCandidate;
+import game.data.MoveSearchResult;
+import game.data.PlayerMove;
+import org.easymock.EasyMock;
+import org.easymock.IMocksControl;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.easymock.EasyMock.anyString;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+
+/**
+ * @author Manish Shrestha
+ */
+public class StandardBotManagerTest {
+    private final Player human = new StandardPlayer(new StandardPerson(1, "user", "first", "last"), 1);
+    private final Player bot = new StandardPlayer(new StandardPerson(2, "bot", "first", "last", true), 2);
+
+    @Test
+    public void testBotTurnIsPlayedOnBotThread() throws Exception {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+        MatchManager matchManager = ctrl.createMock(MatchManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
+        Board board = ctrl.createMock(Board.class);
+        Game game = new StandardGame(1, Arrays.asList(human, bot), board, GameState.IN_PROGRESS, DictionaryType.TWL06);
+        AtomicReference<String> moveThread = new AtomicReference<>();
+
+        expect(matchManager.getGame(1)).andReturn(game);
+        expect(matchManager.getNextTurnPlayer(1)).andReturn(bot);
+        expect(dictionaryManager.generateMoves(eq(DictionaryType.TWL06), eq(board), anyString(), eq(1), eq(0L)))
+                .andReturn(new MoveSearchResult(Collections.singletonList(
+                        new MoveCandidate("CAT", 7, 6, MoveDirection.LEFT_RIGHT, 5, "CAT")), false));
+        expect(matchManager.makeMove(game, new PlayerMove("CAT", 7, 6, MoveDirection.LEFT_RIGHT, bot))).andAnswer(() -> {
+            moveThread.set(Thread.currentThread().getName());
+            return game;
+        });
+
+        ctrl.replay();
+
+        StandardBotManager botManager = new StandardBotManager(matchManager, dictionaryManager, new AppConfiguration());
+        botManager.scheduleTurn(1).get(10, TimeUnit.SECONDS);
+        ctrl.verify();
+        botManager.close();
+
+        Assert.assertEquals("bot-move-1", moveThread.get());
+    }
+
+    @Test
+    public void testBotDrawsAnotherRackWhenItHasNoMove() throws Exception {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+        MatchManager matchManager = ctrl.createMock(MatchManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
+        Board board = ctrl.createMock(Board.class);
+        Game game = new StandardGame(1, Arrays.asList(human, bot), board, GameState.IN_PROGRESS, DictionaryType.TWL06);
+
+        expect(matchManager.getGame(1)).andReturn(game);
+        expect(matchManager.getNextTurnPlayer(1)).andReturn(bot);
+        expect(dictionaryManager.generateMoves(eq(DictionaryType.TWL06), eq(board), anyString(), eq(1), eq(0L)))
+                .andReturn(new MoveSearchResult(Collections.emptyList(), false))
+                .times(StandardBotManager.RACK_DRAWS - 1);
+        expect(dictionaryManager.generateMoves(eq(DictionaryType.TWL06), eq(board), anyString(), eq(1), eq(0L)))
+                .andReturn(new MoveSearchResult(Collections.singletonList(
+                        new MoveCandidate("CAT", 7, 6, MoveDirection.LEFT_RIGHT, 5, "CAT")), false));
+        expect(matchManager.makeMove(game, new PlayerMove("CAT", 7, 6, MoveDirection.LEFT_RIGHT, bot))).andReturn(game);
+
+        ctrl.replay();
+
+        StandardBotManager botManager = new StandardBotManager(matchManager, dictionaryManager, new AppConfiguration());
+        botManager.scheduleTurn(1).get(10, TimeUnit.SECONDS);
+        ctrl.verify();
+        botManager.close();
+    }
+
+    @Test
+    public void testTurnIsRetriedWhenNoRackHasMove() throws Exception {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+        MatchManager matchManager = ctrl.createMock(MatchManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
+        Board board = ctrl.createMock(Board.class);
+        Game game = new StandardGame(1, Arrays.asList(human, bot), board, GameState.IN_PROGRESS, DictionaryType.TWL06);
+        CountDownLatch retried = new CountDownLatch(1);
+
+        expect(matchManager.getGame(1)).andReturn(game);
+        expect(matchManager.getNextTurnPlayer(1)).andReturn(bot);
+        expect(dictionaryManager.generateMoves(eq(DictionaryType.TWL06), eq(board), anyString(), eq(1), eq(0L)))
+                .andReturn(new MoveSearchResult(Collections.emptyList(), false))
+                .times(StandardBotManager.RACK_DRAWS);
+        expect(matchManager.getGame(1)).andAnswer(() -> {
+            retried.countDown();
+            return new StandardGame(1, Arrays.asList(human, bot), board, GameState.FINISHED, DictionaryType.TWL06);
+        });
+
+        ctrl.replay();
+
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setBotRetryDelayMillis(10);
+        StandardBotManager botManager = new StandardBotManager(matchManager, dictionaryManager, appConfiguration);
+        botManager.scheduleTurn(1).get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(retried.await(10, TimeUnit.SECONDS));
+        ctrl.verify();
+        botManager.close();
+    }
+
+    @Test
+    public void testHumanTurnIsNotPlayed() throws Exception {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+        MatchManager matchManager = ctrl.createMock(MatchManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
+        Board board = ctrl.createMock(Board.class);
+        Game game = new StandardGame(1, Arrays.asList(human, bot), board, GameState.IN_PROGRESS, DictionaryType.TWL06);
+
+        expect(matchManager.getGame(1)).andReturn(game);
+        expect(matchManager.getNextTurnPlayer(1)).andReturn(human);
+
+        ctrl.replay();
+
+        StandardBotManager botManager = new StandardBotManager(matchManager, dictionaryManager, new AppConfiguration());
+        // a game without bots is never queued
+        botManager.onGameTurn(new GameTurnEvent(new StandardGame(2, Collections.singletonList(human), board,
+                GameState.IN_PROGRESS, DictionaryType.TWL06)));
+        botManager.scheduleTurn(1).get(10, TimeUnit.SECONDS);
+        ctrl.verify();
+        botManager.close();
+    }
+
+    @Test
+    public void testTurnIsRetriedWhenQueueIsFull() throws Exception {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+        MatchManager matchManager = ctrl.createMock(MatchManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
+        Board board = ctrl.createMock(Board.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch queuedTurnPlayed = new CountDownLatch(1);
+        CountDownLatch rejectedTurnPlayed = new CountDownLatch(1);
+
+        expect(matchManager.getGame(1)).andAnswer(() -> {
+            started.countDown();
+            released.await();
+            return new StandardGame(1, Arrays.asList(human, bot), board, GameState.FINISHED, DictionaryType.TWL06);
+        });
+        expect(matchManager.getGame(2)).andAnswer(() -> {
+            queuedTurnPlayed.countDown();
+            return new StandardGame(2, Arrays.asList(human, bot), board, GameState.FINISHED, DictionaryType.TWL06);
+        });
+        expect(matchManager.getGame(3)).andAnswer(() -> {
+            rejectedTurnPlayed.countDown();
+            return new StandardGame(3, Arrays.asList(human, bot), board, GameState.FINISHED, DictionaryType.TWL06);
+        });
+
+        ctrl.replay();
+
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setBotQueueCapacity(1);
+        appConfiguration.setBotRetryDelayMillis(500);
+        StandardBotManager botManager = new StandardBotManager(matchManager, dictionaryManager, appConfiguration);
+        botManager.scheduleTurn(1);
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        botManager.scheduleTurn(2);
+        botManager.scheduleTurn(3);
+
+        BotStats stats = botManager.getBotStats();
+        Assert.assertEquals(1, stats.getQueueDepth());
+        Assert.assertEquals(1, stats.getQueueCapacity());
+        Assert.assertEquals(1, stats.getActiveMoves());
+        Assert.assertEquals(1, stats.getRejectedMoves());
+
+        released.countDown();
+        Assert.assertTrue(queuedTurnPlayed.await(10, TimeUnit.SECONDS));
+        // the turn that did not fit is queued again once there is room
+        Assert.assertTrue(rejectedTurnPlayed.await(10, TimeUnit.SECONDS));
+        ctrl.verify();
+        botManager.close();
+    }
+}
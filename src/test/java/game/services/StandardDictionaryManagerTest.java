@@ -2,16 +2,29 @@ package game.services;
 
 import game.configuration.AppConfiguration;
 import game.core.DictionaryType;
+import game.data.DictionaryStats;
+import game.data.WordQuery;
+import game.data.WordSearchResult;
+import game.exceptions.IncorrectDictionaryTypeException;
+import game.exceptions.IncorrectLettersException;
 import org.assertj.core.util.Lists;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -19,6 +32,9 @@ import java.util.stream.Collectors;
  */
 public class StandardDictionaryManagerTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testDefaultFileLoadToMap() throws IOException {
         final List<String> dictionaries = Lists.newArrayList("SOWPODS", "TWL06");
@@ -27,10 +43,11 @@ public class StandardDictionaryManagerTest {
 
         StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
 
-        List<String> wordList = readDictionaries(dictionaries);
-
-        for (String word: wordList) {
-            Assert.assertTrue(standardDictionaryManager.checkWord(word));
+        for (String dictionary: dictionaries) {
+            final DictionaryType dictionaryType = DictionaryType.fromName(dictionary);
+            for (String word: readDictionaries(Collections.singletonList(dictionary))) {
+                Assert.assertTrue(standardDictionaryManager.checkWord(dictionaryType, word));
+            }
         }
     }
 
@@ -46,14 +63,15 @@ public class StandardDictionaryManagerTest {
 
         StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
 
-        Assert.assertTrue(standardDictionaryManager.checkWord("HUMAN_TEST"));
-        Assert.assertTrue(standardDictionaryManager.checkWord("ANIMAL_TEST"));
-        Assert.assertTrue(standardDictionaryManager.checkWord("CAT_TEST"));
-        Assert.assertTrue(standardDictionaryManager.checkWord("DOG_TEST"));
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.TWL06, "HUMAN_TEST"));
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.TWL06, "ANIMAL_TEST"));
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.TWL06, "CAT_TEST"));
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.TWL06, "DOG_TEST"));
 
         List<String> wordList = readDictionaries(dictionaries);
         for (String word: wordList) {
-            Assert.assertFalse(standardDictionaryManager.checkWord(word));
+            Assert.assertFalse(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, word));
+            Assert.assertFalse(standardDictionaryManager.checkWord(DictionaryType.TWL06, word));
         }
     }
 
@@ -66,7 +84,7 @@ public class StandardDictionaryManagerTest {
 
         StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
 
-        Assert.assertFalse(standardDictionaryManager.checkWord("ABSLRE"));
+        Assert.assertFalse(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "ABSLRE"));
     }
 
     @Test
@@ -77,7 +95,274 @@ public class StandardDictionaryManagerTest {
 
         StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
 
-        Assert.assertTrue(standardDictionaryManager.checkWord("CAT"));
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "CAT"));
+    }
+
+    @Test
+    public void testCheckWordsReturnsFirstMissingWord() {
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS"));
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+
+        Assert.assertEquals(-1, standardDictionaryManager.checkWords(DictionaryType.SOWPODS, Lists.newArrayList("cat", "at", "cats")));
+        Assert.assertEquals(1, standardDictionaryManager.checkWords(DictionaryType.SOWPODS, Lists.newArrayList("cat", "ABSLRE", "cats", "XQZ")));
+        Assert.assertEquals(-1, standardDictionaryManager.checkWords(DictionaryType.SOWPODS, Collections.emptyList()));
+        Assert.assertEquals(7, standardDictionaryManager.getDictionaryStats(DictionaryType.SOWPODS).getLookups());
+    }
+
+    @Test
+    public void testFindAnagrams() {
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS"));
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+
+        final List<String> words = standardDictionaryManager.findAnagrams(DictionaryType.SOWPODS, "tac", 0, 50);
+        Assert.assertEquals(Lists.newArrayList("ACT", "AT", "CAT", "TA"), words);
+
+        final List<String> blankWords = standardDictionaryManager.findAnagrams(DictionaryType.SOWPODS, "ZZ?", 0, 500);
+        Assert.assertTrue(blankWords.contains("ZZZ"));
+        for (String word: blankWords) {
+            Assert.assertTrue(word.length() <= 3);
+            Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, word));
+        }
+
+        Assert.assertEquals(Lists.newArrayList("AT", "CAT"), standardDictionaryManager.findAnagrams(DictionaryType.SOWPODS, "tac", 1, 2));
+    }
+
+    @Test(expected = IncorrectLettersException.class)
+    public void testFindAnagramsWithIncorrectLetters() {
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS"));
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+
+        standardDictionaryManager.findAnagrams(DictionaryType.SOWPODS, "ab1", 0, 50);
+    }
+
+    @Test
+    public void testFindWords() {
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS"));
+        appConfiguration.setWordSearchTimeBudgetMillis(10000);
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+
+        WordSearchResult result = standardDictionaryManager.findWords(DictionaryType.SOWPODS, WordQuery.builder()
+                .setPattern("???????")
+                .setContaining("Q")
+                .setExcluding("U")
+                .setLimit(500)
+                .build());
+        Assert.assertFalse(result.isTimedOut());
+        Assert.assertTrue(result.getWords().contains("QABALAH"));
+        for (String word: result.getWords()) {
+            Assert.assertEquals(7, word.length());
+            Assert.assertTrue(word.contains("Q"));
+            Assert.assertFalse(word.contains("U"));
+        }
+
+        result = standardDictionaryManager.findWords(DictionaryType.SOWPODS, WordQuery.builder().setPattern("C?T*").setLimit(3).build());
+        Assert.assertEquals(Lists.newArrayList("CAT", "CATABASES", "CATABASIS"), result.getWords());
+    }
+
+    @Test
+    public void testFindWordsStopsWhenTimeBudgetIsUsedUp() {
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS"));
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "CAT"));
+
+        final WordSearchResult result = standardDictionaryManager.findWords(DictionaryType.SOWPODS, WordQuery.builder()
+                .setLimit(Integer.MAX_VALUE)
+                .setTimeBudgetMillis(1)
+                .build());
+        Assert.assertTrue(result.isTimedOut());
+        Assert.assertTrue(result.getWords().size() < standardDictionaryManager.getDictionaryStats(DictionaryType.SOWPODS).getWordCount());
+    }
+
+    @Test(expected = IncorrectLettersException.class)
+    public void testFindWordsWithIncorrectPattern() {
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS"));
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+
+        standardDictionaryManager.findWords(DictionaryType.SOWPODS, WordQuery.builder().setPattern("C.T").build());
+    }
+
+    @Test
+    public void testDictionariesAreSeparateAndLoadedOnFirstUse() {
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS", "TWL06"));
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+
+        Assert.assertEquals(Lists.newArrayList(DictionaryType.SOWPODS, DictionaryType.TWL06), standardDictionaryManager.getDictionaryTypes());
+        Assert.assertFalse(standardDictionaryManager.getDictionaryIndex(DictionaryType.SOWPODS).isLoaded());
+        Assert.assertFalse(standardDictionaryManager.getDictionaryIndex(DictionaryType.TWL06).isLoaded());
+
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "ABB"));
+        Assert.assertTrue(standardDictionaryManager.getDictionaryIndex(DictionaryType.SOWPODS).isLoaded());
+        Assert.assertFalse(standardDictionaryManager.getDictionaryIndex(DictionaryType.TWL06).isLoaded());
+
+        Assert.assertFalse(standardDictionaryManager.checkWord(DictionaryType.TWL06, "ABB"));
+        Assert.assertTrue(standardDictionaryManager.getDictionaryIndex(DictionaryType.TWL06).isLoaded());
+    }
+
+    @Test
+    public void testDictionaryStatsCountFilterRejections() throws IOException {
+        final File dictionaryFile = temporaryFolder.newFile("words.txt");
+        Files.write(dictionaryFile.toPath(), "CAT\nDOG\n".getBytes());
+
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS"));
+        appConfiguration.setFiles(Lists.newArrayList(dictionaryFile.getPath()));
+        appConfiguration.setDictionaryImageDir("");
+        appConfiguration.setDictionaryFilterFalsePositiveRate(0.001);
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+
+        DictionaryStats stats = standardDictionaryManager.getDictionaryStats(DictionaryType.SOWPODS);
+        Assert.assertFalse(stats.isLoaded());
+        Assert.assertEquals(0, stats.getLookups());
+
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "CAT"));
+        for (int cnt = 0; cnt < 100; cnt++) {
+            Assert.assertFalse(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "COW" + cnt));
+        }
+
+        stats = standardDictionaryManager.getDictionaryStats(DictionaryType.SOWPODS);
+        Assert.assertTrue(stats.isLoaded());
+        Assert.assertEquals(2, stats.getWordCount());
+        Assert.assertEquals(101, stats.getLookups());
+        Assert.assertEquals(100, stats.getFilterRejections() + stats.getFilterFalsePositives());
+        Assert.assertTrue(stats.getFilterRejections() >= 95);
+        Assert.assertTrue(stats.getFilterSizeInBytes() > 0);
+        Assert.assertEquals(0.001, stats.getFilterFalsePositiveRate(), 0);
+    }
+
+    @Test(expected = IncorrectDictionaryTypeException.class)
+    public void testCheckWordWithDictionaryNotEnabled() {
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS"));
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+
+        standardDictionaryManager.checkWord(DictionaryType.TWL06, "CAT");
+    }
+
+    @Test
+    public void testDictionaryImageIsWrittenAndMapped() throws IOException {
+        final File imageDir = temporaryFolder.newFolder("images");
+        final File dictionaryFile = temporaryFolder.newFile("words.txt");
+        Files.write(dictionaryFile.toPath(), "CAT\nDOG\n".getBytes());
+
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setFiles(Lists.newArrayList(dictionaryFile.getPath()));
+        appConfiguration.setDictionaryImageDir(imageDir.getPath());
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+        final Path imagePath = DictionaryImage.imagePath(imageDir.toPath(), Collections.singletonList(dictionaryFile));
+
+        Assert.assertFalse(Files.exists(imagePath));
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "CAT"));
+        Assert.assertTrue(Files.exists(imagePath));
+
+        DictionaryGraph dictionaryGraph = standardDictionaryManager.getDictionaryIndex(DictionaryType.SOWPODS).getGraph();
+        Assert.assertTrue(dictionaryGraph.getImage().isDirect());
+
+        final long imageModifiedTime = imagePath.toFile().lastModified();
+        StandardDictionaryManager reloadedDictionaryManager = new StandardDictionaryManager(appConfiguration);
+
+        Assert.assertEquals(imageModifiedTime, imagePath.toFile().lastModified());
+        Assert.assertTrue(reloadedDictionaryManager.checkWord(DictionaryType.SOWPODS, "DOG"));
+        Assert.assertFalse(reloadedDictionaryManager.checkWord(DictionaryType.SOWPODS, "COW"));
+    }
+
+    @Test
+    public void testStaleDictionaryImageIsRebuilt() throws IOException {
+        final File imageDir = temporaryFolder.newFolder("images");
+        final File dictionaryFile = temporaryFolder.newFile("words.txt");
+        Files.write(dictionaryFile.toPath(), "CAT\nDOG\n".getBytes());
+
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setFiles(Lists.newArrayList(dictionaryFile.getPath()));
+        appConfiguration.setDictionaryImageDir(imageDir.getPath());
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+        Assert.assertFalse(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "COW"));
+
+        Files.write(dictionaryFile.toPath(), "COW\n".getBytes(), StandardOpenOption.APPEND);
+
+        StandardDictionaryManager reloadedDictionaryManager = new StandardDictionaryManager(appConfiguration);
+        Assert.assertTrue(reloadedDictionaryManager.checkWord(DictionaryType.SOWPODS, "COW"));
+        Assert.assertTrue(reloadedDictionaryManager.checkWord(DictionaryType.SOWPODS, "CAT"));
+    }
+
+    @Test
+    public void testReloadSwapsInNewDictionary() throws Exception {
+        final File imageDir = temporaryFolder.newFolder("images");
+        final File dictionaryFile = temporaryFolder.newFile("words.txt");
+        Files.write(dictionaryFile.toPath(), "CAT\nDOG\n".getBytes());
+
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setFiles(Lists.newArrayList(dictionaryFile.getPath()));
+        appConfiguration.setDictionaryImageDir(imageDir.getPath());
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+        Assert.assertFalse(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "COW"));
+        final DictionaryGraph oldGraph = standardDictionaryManager.getDictionaryIndex(DictionaryType.SOWPODS).getGraph();
+
+        Files.write(dictionaryFile.toPath(), "COW\n".getBytes(), StandardOpenOption.APPEND);
+        standardDictionaryManager.reloadDictionary(DictionaryType.SOWPODS).get(10, TimeUnit.SECONDS);
+
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "COW"));
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "CAT"));
+        Assert.assertTrue(oldGraph.contains("CAT"));
+        Assert.assertFalse(oldGraph.contains("COW"));
+        standardDictionaryManager.close();
+    }
+
+    @Test
+    public void testReloadOfDictionaryNotLoadedLeavesItUnloaded() throws Exception {
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("TWL06"));
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+        standardDictionaryManager.reloadDictionary(DictionaryType.TWL06).get(10, TimeUnit.SECONDS);
+
+        Assert.assertFalse(standardDictionaryManager.getDictionaryIndex(DictionaryType.TWL06).isLoaded());
+        standardDictionaryManager.close();
+    }
+
+    @Test
+    public void testChangedDictionaryFileIsReloaded() throws Exception {
+        final File dictionaryFile = temporaryFolder.newFile("words.txt");
+        Files.write(dictionaryFile.toPath(), "CAT\nDOG\n".getBytes());
+
+        AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setDictionaries(Lists.newArrayList("SOWPODS"));
+        appConfiguration.setFiles(Lists.newArrayList(dictionaryFile.getPath()));
+        appConfiguration.setDictionaryImageDir("");
+        appConfiguration.setDictionaryWatchEnabled(true);
+
+        StandardDictionaryManager standardDictionaryManager = new StandardDictionaryManager(appConfiguration);
+        Assert.assertFalse(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "COW"));
+
+        Files.write(dictionaryFile.toPath(), "COW\n".getBytes(), StandardOpenOption.APPEND);
+
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (!standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "COW")) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new TimeoutException("Dictionary was not reloaded");
+            }
+            Thread.sleep(100);
+        }
+        Assert.assertTrue(standardDictionaryManager.checkWord(DictionaryType.SOWPODS, "CAT"));
+        standardDictionaryManager.close();
     }
 
     private List<String> readDictionaries(List<String> dictionaries) throws IOException {
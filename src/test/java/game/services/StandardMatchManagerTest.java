@@ -1,18 +1,23 @@
 package game.services;
 
-import game.core.Game;
-import game.core.MoveDirection;
-import game.core.Person;
-import game.core.Player;
+import game.configuration.AppConfiguration;
+import game.core.*;
+import game.data.MoveCandidate;
+import game.data.MoveSearchResult;
 import game.data.PlayerMove;
+import game.data.ValidationStats;
 import game.data.validation.FailReason;
+import game.exceptions.IncorrectDictionaryTypeException;
 import game.exceptions.InvalidMoveException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.easymock.EasyMock;
 import org.easymock.IMocksControl;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +28,7 @@ import static org.easymock.EasyMock.expect;
  */
 
 public class StandardMatchManagerTest {
+    private final List<Object> events = new ArrayList<>();
 
     @Test
     public void testStartGame() {
@@ -31,6 +37,7 @@ public class StandardMatchManagerTest {
 
         GamesDao gamesDao = ctrl.createMock(GamesDao.class);
         ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
         Game game = ctrl.createMock(Game.class);
 
         List<Player> players = new ArrayList<>();
@@ -40,11 +47,12 @@ public class StandardMatchManagerTest {
         int boardSize = 20;
         int numOfTiles = 50;
 
-        expect(gamesDao.createGame(players, boardSize, numOfTiles)).andReturn(game);
+        expect(dictionaryManager.getDictionaryTypes()).andReturn(Arrays.asList(DictionaryType.SOWPODS, DictionaryType.TWL06));
+        expect(gamesDao.createGame(players, boardSize, numOfTiles, DictionaryType.TWL06)).andReturn(game);
 
         ctrl.replay();
-        StandardMatchManager matchManager = new StandardMatchManager(gamesDao, validationManager);
-        Game createdGame = matchManager.startNewGame(players, boardSize, numOfTiles);
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
+        Game createdGame = matchManager.startNewGame(players, boardSize, numOfTiles, DictionaryType.TWL06);
 
         ctrl.verify();
 
@@ -58,6 +66,7 @@ public class StandardMatchManagerTest {
 
         GamesDao gamesDao = ctrl.createMock(GamesDao.class);
         ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
         Game game = ctrl.createMock(Game.class);
 
         List<Player> players = new ArrayList<>();
@@ -65,17 +74,34 @@ public class StandardMatchManagerTest {
             players.add(ctrl.createMock("player" + i, Player.class));
         }
 
-        expect(gamesDao.createGame(players, 15, 15 * 15)).andReturn(game);
+        expect(dictionaryManager.getDictionaryTypes()).andReturn(Arrays.asList(DictionaryType.TWL06, DictionaryType.SOWPODS));
+        expect(gamesDao.createGame(players, 15, 15 * 15, DictionaryType.TWL06)).andReturn(game);
 
         ctrl.replay();
-        StandardMatchManager matchManager = new StandardMatchManager(gamesDao, validationManager);
-        Game createdGame = matchManager.startNewGame(players, 0, 0);
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
+        Game createdGame = matchManager.startNewGame(players, 0, 0, null);
 
         ctrl.verify();
 
         Assert.assertEquals(game, createdGame);
     }
 
+    @Test(expected = IncorrectDictionaryTypeException.class)
+    public void testStartGameWithDictionaryNotEnabled() {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+
+        GamesDao gamesDao = ctrl.createMock(GamesDao.class);
+        ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
+
+        expect(dictionaryManager.getDictionaryTypes()).andReturn(Collections.singletonList(DictionaryType.SOWPODS));
+
+        ctrl.replay();
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
+        matchManager.startNewGame(new ArrayList<>(), 0, 0, DictionaryType.TWL06);
+    }
+
     @Test
     public void testMakeMove() {
         IMocksControl ctrl = EasyMock.createStrictControl();
@@ -84,6 +110,7 @@ public class StandardMatchManagerTest {
 
         GamesDao gamesDao = ctrl.createMock(GamesDao.class);
         ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
         Game game = ctrl.createMock("game", Game.class);
         Game returnedGame = ctrl.createMock("returnedGame", Game.class);
 
@@ -91,18 +118,24 @@ public class StandardMatchManagerTest {
         PlayerMove playerMove = new PlayerMove("test", 0, 0, MoveDirection.LEFT_RIGHT, player);
 
         expect(game.getId()).andReturn(gameId).atLeastOnce();
+        expect(game.getVersion()).andReturn(0).atLeastOnce();
+        expect(game.getBoard()).andReturn(emptyBoard(15));
         expect(validationManager.validateMove(game, playerMove)).andReturn(Optional.empty());
-        expect(gamesDao.getNextTurnPlayer(gameId)).andReturn(player);
-        expect(gamesDao.makeMove(gameId, playerMove)).andReturn(returnedGame);
+        expect(gamesDao.getNextTurnPlayers(Collections.singletonList(game))).andReturn(Collections.singletonMap(gameId, player));
+        // TEST on a triple word square and a double letter square
+        expect(gamesDao.makeMove(game, playerMove, 15)).andReturn(returnedGame);
+        validationManager.moveMade(gameId, playerMove);
 
         ctrl.replay();
 
-        StandardMatchManager matchManager = new StandardMatchManager(gamesDao, validationManager);
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
 
         Game returnedGameAfterMove = matchManager.makeMove(game, playerMove);
         ctrl.verify();
 
         Assert.assertEquals(returnedGame, returnedGameAfterMove);
+        Assert.assertEquals(1, events.size());
+        Assert.assertSame(returnedGame, ((GameTurnEvent) events.get(0)).getGame());
     }
 
     @Test(expected = InvalidMoveException.class)
@@ -113,6 +146,7 @@ public class StandardMatchManagerTest {
 
         GamesDao gamesDao = ctrl.createMock(GamesDao.class);
         ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
         Game game = ctrl.createMock("game", Game.class);
         Game returnedGame = ctrl.createMock("returnedGame", Game.class);
 
@@ -120,11 +154,12 @@ public class StandardMatchManagerTest {
         PlayerMove playerMove = new PlayerMove("test", 0, 0, MoveDirection.LEFT_RIGHT, player);
 
         expect(game.getId()).andReturn(gameId).atLeastOnce();
+        expect(game.getVersion()).andReturn(0).atLeastOnce();
         expect(validationManager.validateMove(game, playerMove)).andReturn(Optional.of(new FailReason("")));
 
         ctrl.replay();
 
-        StandardMatchManager matchManager = new StandardMatchManager(gamesDao, validationManager);
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
 
         Game returnedGameAfterMove = matchManager.makeMove(game, playerMove);
         ctrl.verify();
@@ -140,6 +175,7 @@ public class StandardMatchManagerTest {
 
         GamesDao gamesDao = ctrl.createMock(GamesDao.class);
         ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
         Game game = ctrl.createMock("game", Game.class);
         Game returnedGame = ctrl.createMock("returnedGame", Game.class);
         Player player = ctrl.createMock("correctPlayer", Player.class);
@@ -148,14 +184,15 @@ public class StandardMatchManagerTest {
         PlayerMove playerMove = new PlayerMove("test", 0, 0, MoveDirection.LEFT_RIGHT, inCorrectPlayer);
 
         expect(game.getId()).andReturn(gameId).atLeastOnce();
+        expect(game.getVersion()).andReturn(0).atLeastOnce();
         expect(validationManager.validateMove(game, playerMove)).andReturn(Optional.empty());
-        expect(gamesDao.getNextTurnPlayer(gameId)).andReturn(player);
+        expect(gamesDao.getNextTurnPlayers(Collections.singletonList(game))).andReturn(Collections.singletonMap(gameId, player));
         expect(player.getPerson()).andReturn(person);
         expect(person.getId()).andReturn(1);
 
         ctrl.replay();
 
-        StandardMatchManager matchManager = new StandardMatchManager(gamesDao, validationManager);
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
 
         Game returnedGameAfterMove = matchManager.makeMove(game, playerMove);
         ctrl.verify();
@@ -163,6 +200,50 @@ public class StandardMatchManagerTest {
         Assert.assertEquals(returnedGame, returnedGameAfterMove);
     }
 
+    @Test
+    public void testRepeatedMoveIsValidatedOncePerVersion() {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+        int gameId = 1;
+
+        GamesDao gamesDao = ctrl.createMock(GamesDao.class);
+        ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
+
+        Player player = new StandardPlayer(new StandardPerson(7, "user_7", "first_7", "last_7"), 1);
+        Board board = new StandardBoard(Collections.nCopies(9, new StandardTile(0, 0, '.')));
+        Game game = new StandardGame(gameId, Collections.singletonList(player), board, GameState.IN_PROGRESS, DictionaryType.TWL06, 4);
+        Game nextVersion = new StandardGame(gameId, Collections.singletonList(player), board, GameState.IN_PROGRESS, DictionaryType.TWL06, 5);
+        PlayerMove playerMove = new PlayerMove("xx", 1, 0, MoveDirection.LEFT_RIGHT, player);
+        PlayerMove otherMove = new PlayerMove("at", 1, 0, MoveDirection.LEFT_RIGHT, player);
+
+        expect(validationManager.validateMove(game, playerMove)).andReturn(Optional.of(new FailReason("not a word")));
+        expect(validationManager.validateMove(nextVersion, playerMove)).andReturn(Optional.of(new FailReason("not a word")));
+        expect(gamesDao.getGame(gameId)).andReturn(game);
+        expect(validationManager.validateMoves(game, Collections.singletonList(otherMove))).andReturn(Collections.singletonList(Optional.empty()));
+
+        ctrl.replay();
+
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
+        for (Game submitted: Arrays.asList(game, game, nextVersion)) {
+            try {
+                matchManager.makeMove(submitted, playerMove);
+                Assert.fail();
+            } catch (InvalidMoveException e) {
+                Assert.assertEquals("not a word", e.getMessage());
+            }
+        }
+        List<Optional<FailReason>> outcomes = matchManager.validateMoves(gameId, Arrays.asList(playerMove, otherMove));
+        ctrl.verify();
+
+        Assert.assertEquals("not a word", outcomes.get(0).get().getReason());
+        Assert.assertFalse(outcomes.get(1).isPresent());
+        ValidationStats stats = matchManager.getValidationStats();
+        Assert.assertEquals(2, stats.getCacheHits());
+        Assert.assertEquals(3, stats.getCacheMisses());
+        Assert.assertEquals(3, stats.getCacheSize());
+    }
+
     @Test
     public void testGetNextTurnPlayer() {
         IMocksControl ctrl = EasyMock.createStrictControl();
@@ -171,17 +252,91 @@ public class StandardMatchManagerTest {
         GamesDao gamesDao = ctrl.createMock(GamesDao.class);
         Player player = ctrl.createMock(Player.class);
         ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
 
         int gameId = 1;
         expect(gamesDao.getNextTurnPlayer(gameId)).andReturn(player);
 
         ctrl.replay();
 
-        StandardMatchManager matchManager = new StandardMatchManager(gamesDao, validationManager);
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
         final Player nextTurnPlayer = matchManager.getNextTurnPlayer(gameId);
         ctrl.verify();
 
         Assert.assertEquals(player, nextTurnPlayer);
     }
 
+    @Test
+    public void testGetHintsIsGeneratedOnceUntilMoveIsMade() {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+        int gameId = 1;
+
+        GamesDao gamesDao = ctrl.createMock(GamesDao.class);
+        ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
+
+        Player player = new StandardPlayer(new StandardPerson(7, "user_7", "first_7", "last_7"), 1);
+        Board board = emptyBoard(3);
+        Game game = new StandardGame(gameId, Collections.singletonList(player), board, GameState.IN_PROGRESS, DictionaryType.TWL06);
+        MoveSearchResult hints = new MoveSearchResult(Arrays.asList(
+                new MoveCandidate("AT", 1, 0, MoveDirection.LEFT_RIGHT, 2, "AT"),
+                new MoveCandidate("TA", 1, 0, MoveDirection.LEFT_RIGHT, 2, "TA")), false);
+        PlayerMove playerMove = new PlayerMove("at", 1, 0, MoveDirection.LEFT_RIGHT, player);
+
+        expect(gamesDao.getGame(gameId)).andReturn(game).times(3);
+        expect(gamesDao.getNextTurnPlayers(Collections.singletonList(game))).andReturn(Collections.singletonMap(gameId, player)).times(4);
+        expect(dictionaryManager.generateMoves(DictionaryType.TWL06, board, "tA", StandardMatchManager.MAX_HINTS, 0)).andReturn(hints).times(2);
+        expect(validationManager.validateMove(game, playerMove)).andReturn(Optional.empty());
+        expect(gamesDao.makeMove(game, playerMove, 12)).andReturn(game);
+        validationManager.moveMade(gameId, playerMove);
+
+        ctrl.replay();
+
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
+        Assert.assertEquals(hints.getMoves().subList(0, 1), matchManager.getHints(gameId, 7, "tA", 1).getMoves());
+        Assert.assertEquals(hints.getMoves(), matchManager.getHints(gameId, 7, "AT", 10).getMoves());
+        matchManager.makeMove(game, playerMove);
+        Assert.assertEquals(hints.getMoves(), matchManager.getHints(gameId, 7, "tA", 10).getMoves());
+
+        ctrl.verify();
+    }
+
+    @Test(expected = InvalidMoveException.class)
+    public void testGetHintsForIncorrectPlayer() {
+        IMocksControl ctrl = EasyMock.createStrictControl();
+        ctrl.checkOrder(false);
+        int gameId = 1;
+
+        GamesDao gamesDao = ctrl.createMock(GamesDao.class);
+        ValidationManager validationManager = ctrl.createMock(ValidationManager.class);
+        DictionaryManager dictionaryManager = ctrl.createMock(DictionaryManager.class);
+        Game game = ctrl.createMock(Game.class);
+        Player player = new StandardPlayer(new StandardPerson(7, "user_7", "first_7", "last_7"), 1);
+
+        expect(gamesDao.getGame(gameId)).andReturn(game);
+        expect(game.getState()).andReturn(GameState.IN_PROGRESS);
+        expect(gamesDao.getNextTurnPlayers(Collections.singletonList(game))).andReturn(Collections.singletonMap(gameId, player));
+
+        ctrl.replay();
+
+        StandardMatchManager matchManager = newMatchManager(gamesDao, validationManager, dictionaryManager);
+        matchManager.getHints(gameId, 8, "AT", 10);
+    }
+
+    private StandardMatchManager newMatchManager(GamesDao gamesDao, ValidationManager validationManager,
+                                                 DictionaryManager dictionaryManager) {
+        return new StandardMatchManager(gamesDao, validationManager, dictionaryManager, new AppConfiguration(), events::add,
+                new SimpleMeterRegistry());
+    }
+
+    private static Board emptyBoard(int size) {
+        final List<Tile> tiles = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                tiles.add(new StandardTile(row, col, '.'));
+            }
+        }
+        return new StandardBoard(tiles);
+    }
 }
@@ -0,0 +1,170 @@
+package game.services;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import game.configuration.AppConfiguration;
+import game.core.*;
+import game.data.PlayerMove;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs without the PowerMock runner, whose class loader instruments the classes under test and would add its own
+ * allocations to the measurement.
+ *
+ * @author Manish Shrestha
+ */
+public class StandardValidationManagerAllocationTest {
+
+    private static final int VALIDATIONS = 10000;
+
+    @Test
+    public void testValidateMoveDoesNotAllocateForValidWordsFormed() throws Exception {
+        final Path dictionaryFile = dictionaryFile();
+        final StandardValidationManager standardValidationManager =
+                new StandardValidationManager(new StandardDictionaryManager(appConfiguration(dictionaryFile)),
+                        new AppConfiguration(), new SimpleMeterRegistry());
+
+        assertValidationsDoNotAllocate(standardValidationManager);
+        Files.delete(dictionaryFile);
+    }
+
+    /**
+     * Masks of another board forbid the tiles of the move, so every validation falls back to collecting the words
+     * formed and checking them as a batch, which is the path the masks normally skip.
+     */
+    @Test
+    public void testValidateWordsFormedDoesNotAllocateForValidWordsFormed() throws Exception {
+        final Path dictionaryFile = dictionaryFile();
+        final char[][] otherBoardMatrix = getBoardMatrix(5);
+        otherBoardMatrix[0][0] = 'q';
+        otherBoardMatrix[1][0] = 'q';
+        final Board otherBoard = StandardBoard.fromMatrix(otherBoardMatrix);
+        final StandardDictionaryManager dictionaryManager = new StandardDictionaryManager(appConfiguration(dictionaryFile)) {
+            @Override
+            public CrossChecks getCrossChecks(DictionaryType dictionaryType, Board board, CrossChecks previous) {
+                return super.getCrossChecks(dictionaryType, otherBoard, previous);
+            }
+        };
+        final StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager,
+                new AppConfiguration(), new SimpleMeterRegistry());
+
+        final CrossChecks crossChecks = dictionaryManager.getCrossChecks(DictionaryType.SOWPODS, otherBoard, null);
+        Assert.assertFalse(crossChecks.allows(0, 1, MoveDirection.TOP_BOTTOM, 't'));
+        assertValidationsDoNotAllocate(standardValidationManager);
+        Files.delete(dictionaryFile);
+    }
+
+    /**
+     * Validates a move forming the words AT and CE across the played word, after warming up, and compares the bytes
+     * the thread allocated with those of an empty loop measured the same way.
+     */
+    private static void assertValidationsDoNotAllocate(StandardValidationManager standardValidationManager) {
+        final char[][] boardMatrix = getBoardMatrix(5);
+        boardMatrix[0][0] = 'a';
+        boardMatrix[1][0] = 'c';
+        final Game game = new MockGame(StandardBoard.fromMatrix(boardMatrix));
+        final PlayerMove playerMove = new PlayerMove("test", 0, 1, MoveDirection.TOP_BOTTOM, null);
+        final Logger logger = (Logger) LoggerFactory.getLogger(StandardValidationManager.class);
+        final Level level = logger.getLevel();
+        logger.setLevel(Level.INFO);
+
+        for (int cnt = 0; cnt < 5 * VALIDATIONS; cnt++) {
+            Assert.assertFalse(standardValidationManager.validateMove(game, playerMove).isPresent());
+        }
+
+        final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        int failures = 0;
+        final long baselineBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int cnt = 0; cnt < VALIDATIONS; cnt++) {
+            if (cnt < 0) {
+                failures++;
+            }
+        }
+        final long baseline = threadMXBean.getThreadAllocatedBytes(threadId) - baselineBefore;
+
+        final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int cnt = 0; cnt < VALIDATIONS; cnt++) {
+            if (standardValidationManager.validateMove(game, playerMove).isPresent()) {
+                failures++;
+            }
+        }
+        final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        logger.setLevel(level);
+
+        Assert.assertEquals(0, failures);
+        // the smallest object takes 16 bytes, so even one allocation in all of the validations fails the test
+        Assert.assertTrue("allocated " + allocated + " bytes for " + VALIDATIONS + " validations, " + baseline +
+                " bytes without validating", allocated - baseline < 16);
+    }
+
+    private static Path dictionaryFile() throws Exception {
+        final Path dictionaryFile = Files.createTempFile("words", ".txt");
+        Files.write(dictionaryFile, "AT\nCE\nTEST\n".getBytes());
+        return dictionaryFile;
+    }
+
+    private static AppConfiguration appConfiguration(Path dictionaryFile) {
+        final AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setFiles(Collections.singletonList(dictionaryFile.toString()));
+        appConfiguration.setDictionaryImageDir("");
+        return appConfiguration;
+    }
+
+    private static final class MockGame implements Game {
+        private final Board board;
+
+        private MockGame(Board board) {
+            this.board = board;
+        }
+
+        @Override
+        public int getId() {
+            return 1;
+        }
+
+        @Override
+        public int getNumberOfPlayers() {
+            return 0;
+        }
+
+        @Override
+        public List<Player> getPlayers() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Board getBoard() {
+            return board;
+        }
+
+        @Override
+        public GameState getState() {
+            return GameState.IN_PROGRESS;
+        }
+
+        @Override
+        public DictionaryType getDictionaryType() {
+            return DictionaryType.SOWPODS;
+        }
+    }
+
+    private static char [][] getBoardMatrix(int size) {
+        char [][] boardMatrix = new char[size][size];
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                boardMatrix[r][c] = '.';
+            }
+        }
+        return boardMatrix;
+    }
+}
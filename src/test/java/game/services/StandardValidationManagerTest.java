@@ -1,8 +1,14 @@
 package game.services;
 
+import game.configuration.AppConfiguration;
 import game.core.*;
 import game.data.PlayerMove;
 import game.data.validation.FailReason;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.easymock.IArgumentMatcher;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -10,8 +16,11 @@ import org.powermock.api.easymock.PowerMock;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
+import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 
 /**
@@ -23,7 +32,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateBoundaryOutOfBoundaryRow() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateBoundary",
                 5, MoveDirection.LEFT_RIGHT, "cat", 3, 3);
@@ -39,7 +48,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateBoundaryOutOfBoundaryColumn() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateBoundary",
                 5, MoveDirection.TOP_BOTTOM, "cat", 3, 3);
@@ -55,7 +64,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateBoundaryOutOfBoundaryRowAndColumn() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateBoundary",
                 5, MoveDirection.TOP_BOTTOM, "cat", 3, 5);
@@ -81,7 +90,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateMoveWithinBoundaryRow() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateBoundary",
                 5, MoveDirection.LEFT_RIGHT, "cat", 3, 2);
@@ -97,7 +106,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateMoveWithinBoundaryColumn() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateBoundary",
                 5, MoveDirection.TOP_BOTTOM, "cat", 2, 4);
@@ -114,7 +123,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateSpaceShareAllCharacterOverlap() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
         boardMatrix[0][0] = 'c';
@@ -122,7 +131,7 @@ public class StandardValidationManagerTest {
         boardMatrix[0][2] = 't';
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "cat", 0, 0);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "cat", 0, 0);
 
         Assert.assertNotNull(failReason);
 
@@ -132,7 +141,7 @@ public class StandardValidationManagerTest {
         boardMatrix[2][0] = 't';
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-            5, boardMatrix, MoveDirection.TOP_BOTTOM, "cat", 0, 0);
+            5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "cat", 0, 0);
 
         Assert.assertNotNull(failReason);
     }
@@ -140,7 +149,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateSpaceShareSomeCharacterOverlap() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
 
@@ -149,7 +158,7 @@ public class StandardValidationManagerTest {
         boardMatrix[0][2] = 't';
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "atm", 0, 1);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "atm", 0, 1);
 
         Assert.assertNull(failReason);
 
@@ -159,7 +168,7 @@ public class StandardValidationManagerTest {
         boardMatrix[2][0] = 't';
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, "atm", 1, 0);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "atm", 1, 0);
 
         Assert.assertNull(failReason);
     }
@@ -167,7 +176,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateSpaceShareCharacterOverlapDoesNotMatch() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
         boardMatrix[0][0] = 'c';
@@ -175,7 +184,7 @@ public class StandardValidationManagerTest {
         boardMatrix[0][2] = 't';
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "ant", 0, 1);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "ant", 0, 1);
 
         Assert.assertNotNull(failReason);
 
@@ -185,7 +194,7 @@ public class StandardValidationManagerTest {
         boardMatrix[2][0] = 't';
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, "ant", 1, 0);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "ant", 1, 0);
 
         Assert.assertNotNull(failReason);
     }
@@ -193,7 +202,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateSpaceShareNoOverlapShareWithRowAboveForLeftRightMoveDirection() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
 
@@ -202,17 +211,17 @@ public class StandardValidationManagerTest {
         boardMatrix[0][2] = 't';
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "ant", 1, 0);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "ant", 1, 0);
 
         Assert.assertNull(failReason);
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "ant", 1, 1);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "ant", 1, 1);
 
         Assert.assertNull(failReason);
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "ant", 1, 2);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "ant", 1, 2);
 
         Assert.assertNull(failReason);
     }
@@ -220,7 +229,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateSpaceShareNoOverlapShareWithRowBelowForLeftRightMoveDirection() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
 
@@ -229,17 +238,17 @@ public class StandardValidationManagerTest {
         boardMatrix[2][2] = 't';
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "ant", 1, 0);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "ant", 1, 0);
 
         Assert.assertNull(failReason);
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "ant", 1, 1);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "ant", 1, 1);
 
         Assert.assertNull(failReason);
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "ant", 1, 2);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "ant", 1, 2);
 
         Assert.assertNull(failReason);
     }
@@ -247,7 +256,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateSpaceShareNoOverlapShareWithLeftColumnForTopBottomMoveDirection() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
 
@@ -256,17 +265,17 @@ public class StandardValidationManagerTest {
         boardMatrix[2][0] = 't';
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, "ant", 0, 1);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "ant", 0, 1);
 
         Assert.assertNull(failReason);
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, "ant", 1, 1);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "ant", 1, 1);
 
         Assert.assertNull(failReason);
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, "ant", 2, 1);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "ant", 2, 1);
 
         Assert.assertNull(failReason);
     }
@@ -274,7 +283,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateSpaceShareNoOverlapShareWithRightColumnForTopBottomMoveDirection() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
 
@@ -283,17 +292,17 @@ public class StandardValidationManagerTest {
         boardMatrix[3][3] = 't';
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, "ant", 0, 2);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "ant", 0, 2);
 
         Assert.assertNull(failReason);
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, "ant", 1, 2);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "ant", 1, 2);
 
         Assert.assertNull(failReason);
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, "ant", 2, 2);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "ant", 2, 2);
 
         Assert.assertNull(failReason);
     }
@@ -301,7 +310,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateSpaceShareNoOverlapNoShare() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
         boardMatrix[1][0] = 'c';
@@ -313,7 +322,7 @@ public class StandardValidationManagerTest {
         boardMatrix[3][4] = 't';
 
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, "ant", 0, 2);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, "ant", 0, 2);
 
         Assert.assertNotNull(failReason);
 
@@ -327,7 +336,7 @@ public class StandardValidationManagerTest {
         boardMatrix[4][3] = 't';
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateSpaceShare",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, "ant", 2, 0);
+                5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, "ant", 2, 0);
 
         Assert.assertNotNull(failReason);
     }
@@ -335,22 +344,22 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateWordsFormedInvalidWordSpecified() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
 
         String specifiedWord = "BAMN";
 
-        expect(dictionaryManager.checkWord(specifiedWord)).andReturn(false).times(2);
+        expect(dictionaryManager.checkWords(eq(DictionaryType.SOWPODS), wordsEq(specifiedWord))).andReturn(0).times(2);
 
         PowerMock.replayAll();
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateWordsFormed",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, specifiedWord, 0, 2);
+                DictionaryType.SOWPODS, 5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, specifiedWord, 0, 2);
 
         Assert.assertNotNull(failReason);
 
         failReason = Whitebox.invokeMethod(standardValidationManager, "validateWordsFormed",
-                5, boardMatrix, MoveDirection.LEFT_RIGHT, specifiedWord, 0, 2);
+                DictionaryType.SOWPODS, 5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, specifiedWord, 2, 0);
 
         Assert.assertNotNull(failReason);
 
@@ -360,7 +369,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateWordsFormedValidWordFormFromLeftToRight() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
 
@@ -384,15 +393,12 @@ public class StandardValidationManagerTest {
 
         String specifiedWord = "caty";
 
-        expect(dictionaryManager.checkWord(specifiedWord)).andReturn(true);
-        expect(dictionaryManager.checkWord("pact")).andReturn(true);
-        expect(dictionaryManager.checkWord("naot")).andReturn(true);
-        expect(dictionaryManager.checkWord("toy")).andReturn(true);
-        expect(dictionaryManager.checkWord("boy")).andReturn(true);
+        expect(dictionaryManager.checkWords(eq(DictionaryType.SOWPODS), wordsEq(specifiedWord, "pact", "naot", "toy", "boy")))
+                .andReturn(-1);
 
         PowerMock.replayAll();
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateWordsFormed",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, specifiedWord, 1, 2);
+                DictionaryType.SOWPODS, 5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, specifiedWord, 1, 2);
 
         Assert.assertNull(failReason);
 
@@ -403,7 +409,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateWordsFormedValidWordFormFromTopToBottom() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(7);
 
@@ -434,15 +440,12 @@ public class StandardValidationManagerTest {
 
         String specifiedWord = "caty";
 
-        expect(dictionaryManager.checkWord(specifiedWord)).andReturn(true);
-        expect(dictionaryManager.checkWord("stancy")).andReturn(true);
-        expect(dictionaryManager.checkWord("ant")).andReturn(true);
-        expect(dictionaryManager.checkWord("fruit")).andReturn(true);
-        expect(dictionaryManager.checkWord("analyze")).andReturn(true);
+        expect(dictionaryManager.checkWords(eq(DictionaryType.SOWPODS), wordsEq(specifiedWord, "stancy", "ant", "fruit", "analyze")))
+                .andReturn(-1);
 
         PowerMock.replayAll();
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateWordsFormed",
-                7, boardMatrix, MoveDirection.LEFT_RIGHT, specifiedWord, 4, 1);
+                DictionaryType.SOWPODS, 7, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, specifiedWord, 4, 1);
 
         Assert.assertNull(failReason);
 
@@ -453,7 +456,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateWordsFormedInValidWordFormFromLeftToRight() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(5);
 
@@ -477,12 +480,12 @@ public class StandardValidationManagerTest {
 
         String specifiedWord = "caty";
 
-        expect(dictionaryManager.checkWord(specifiedWord)).andReturn(true);
-        expect(dictionaryManager.checkWord("pact")).andReturn(false);
+        expect(dictionaryManager.checkWords(eq(DictionaryType.SOWPODS), wordsEq(specifiedWord, "pact", "naot", "toy", "boy")))
+                .andReturn(1);
 
         PowerMock.replayAll();
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateWordsFormed",
-                5, boardMatrix, MoveDirection.TOP_BOTTOM, specifiedWord, 1, 2);
+                DictionaryType.SOWPODS, 5, StandardBoard.fromMatrix(boardMatrix), MoveDirection.TOP_BOTTOM, specifiedWord, 1, 2);
 
         Assert.assertNotNull(failReason);
 
@@ -493,7 +496,7 @@ public class StandardValidationManagerTest {
     @Test
     public void testValidateWordsFormedInValidWordFormFromTopToBottom() throws Exception {
         DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         char[][] boardMatrix = getBoardMatrix(7);
 
@@ -524,15 +527,12 @@ public class StandardValidationManagerTest {
 
         String specifiedWord = "caty";
 
-        expect(dictionaryManager.checkWord(specifiedWord)).andReturn(true);
-        expect(dictionaryManager.checkWord("stancy")).andReturn(true);
-        expect(dictionaryManager.checkWord("ant")).andReturn(true);
-        expect(dictionaryManager.checkWord("fruit")).andReturn(true);
-        expect(dictionaryManager.checkWord("analyze")).andReturn(false);
+        expect(dictionaryManager.checkWords(eq(DictionaryType.SOWPODS), wordsEq(specifiedWord, "stancy", "ant", "fruit", "analyze")))
+                .andReturn(4);
 
         PowerMock.replayAll();
         FailReason failReason = Whitebox.invokeMethod(standardValidationManager, "validateWordsFormed",
-                7, boardMatrix, MoveDirection.LEFT_RIGHT, specifiedWord, 4, 1);
+                DictionaryType.SOWPODS, 7, StandardBoard.fromMatrix(boardMatrix), MoveDirection.LEFT_RIGHT, specifiedWord, 4, 1);
 
         Assert.assertNotNull(failReason);
 
@@ -554,16 +554,17 @@ public class StandardValidationManagerTest {
 
 
         expect(game.getBoard()).andReturn(board);
-        expect(board.getBoardMatrix()).andReturn(boardMatrix);
+        expect(game.getDictionaryType()).andReturn(DictionaryType.SOWPODS);
+        expectLetters(board, boardMatrix);
         expect(board.getSize()).andReturn(boardSize);
         expect(game.getState()).andReturn(GameState.INITIALIZED);
-        expect(dictionaryManager.checkWord(word)).andReturn(true);
+        expect(dictionaryManager.checkWord(DictionaryType.SOWPODS, word)).andReturn(true);
 
         PlayerMove playerMove = new PlayerMove(word, 0, 0, MoveDirection.LEFT_RIGHT, player);
 
         PowerMock.replayAll();
 
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         Optional<FailReason> failReason = standardValidationManager.validateMove(game, playerMove);
 
@@ -584,16 +585,17 @@ public class StandardValidationManagerTest {
 
 
         expect(game.getBoard()).andReturn(board);
-        expect(board.getBoardMatrix()).andReturn(boardMatrix);
+        expect(game.getDictionaryType()).andReturn(DictionaryType.SOWPODS);
+        expectLetters(board, boardMatrix);
         expect(board.getSize()).andReturn(boardSize);
         expect(game.getState()).andReturn(GameState.INITIALIZED);
-        expect(dictionaryManager.checkWord(word)).andReturn(false);
+        expect(dictionaryManager.checkWord(DictionaryType.SOWPODS, word)).andReturn(false);
 
         PlayerMove playerMove = new PlayerMove(word, 0, 0, MoveDirection.LEFT_RIGHT, player);
 
         PowerMock.replayAll();
 
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         Optional<FailReason> failReason = standardValidationManager.validateMove(game, playerMove);
 
@@ -614,7 +616,8 @@ public class StandardValidationManagerTest {
         String wordLongerThanBoardSize = "marriage";
 
         expect(game.getBoard()).andReturn(board).atLeastOnce();
-        expect(board.getBoardMatrix()).andReturn(boardMatrix).atLeastOnce();
+        expect(game.getDictionaryType()).andReturn(DictionaryType.SOWPODS).atLeastOnce();
+        expectLetters(board, boardMatrix);
         expect(board.getSize()).andReturn(boardSize).atLeastOnce();
         expect(game.getState()).andReturn(GameState.INITIALIZED).atLeastOnce();
 
@@ -623,7 +626,7 @@ public class StandardValidationManagerTest {
 
         PowerMock.replayAll();
 
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         Optional<FailReason> failReason = standardValidationManager.validateMove(game, playerMove);
 
@@ -648,7 +651,8 @@ public class StandardValidationManagerTest {
         String wordLongerThanBoardSize = "marriage";
 
         expect(game.getBoard()).andReturn(board).atLeastOnce();
-        expect(board.getBoardMatrix()).andReturn(boardMatrix).atLeastOnce();
+        expect(game.getDictionaryType()).andReturn(DictionaryType.SOWPODS).atLeastOnce();
+        expectLetters(board, boardMatrix);
         expect(board.getSize()).andReturn(boardSize).atLeastOnce();
         expect(game.getState()).andReturn(GameState.INITIALIZED).atLeastOnce();
 
@@ -657,7 +661,7 @@ public class StandardValidationManagerTest {
 
         PowerMock.replayAll();
 
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         Optional<FailReason> failReason = standardValidationManager.validateMove(game, playerMove);
 
@@ -681,7 +685,8 @@ public class StandardValidationManagerTest {
         String word = "test";
 
         expect(game.getBoard()).andReturn(board);
-        expect(board.getBoardMatrix()).andReturn(boardMatrix);
+        expect(game.getDictionaryType()).andReturn(DictionaryType.SOWPODS);
+        expectLetters(board, boardMatrix);
         expect(board.getSize()).andReturn(boardSize);
         expect(game.getState()).andReturn(GameState.IN_PROGRESS);
 
@@ -689,7 +694,7 @@ public class StandardValidationManagerTest {
 
         PlayerMove playerMove = new PlayerMove(word, 0, 1, MoveDirection.TOP_BOTTOM, player);
 
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         Optional<FailReason> failReason = standardValidationManager.validateMove(game, playerMove);
 
@@ -714,18 +719,21 @@ public class StandardValidationManagerTest {
         String word = "test";
 
         expect(game.getBoard()).andReturn(board);
-        expect(board.getBoardMatrix()).andReturn(boardMatrix);
-        expect(board.getSize()).andReturn(boardSize);
+        expect(game.getDictionaryType()).andReturn(DictionaryType.SOWPODS);
+        expectLetters(board, boardMatrix);
+        expect(board.getSize()).andReturn(boardSize).times(2);
         expect(game.getState()).andReturn(GameState.IN_PROGRESS);
-        expect(dictionaryManager.checkWord(word)).andReturn(true);
-        expect(dictionaryManager.checkWord("at")).andReturn(true);
-        expect(dictionaryManager.checkWord("ce")).andReturn(false);
+        expect(game.getId()).andReturn(1);
+        expect(dictionaryManager.checkWord(DictionaryType.SOWPODS, word)).andReturn(true);
+        expect(dictionaryManager.getCrossChecks(DictionaryType.SOWPODS, board, null))
+                .andReturn(CrossChecks.compute(graph("AT", "TEST"), StandardBoard.fromMatrix(boardMatrix)));
+        expect(dictionaryManager.checkWords(eq(DictionaryType.SOWPODS), wordsEq(word, "at", "ce"))).andReturn(2);
 
         PowerMock.replayAll();
 
         PlayerMove playerMove = new PlayerMove(word, 0, 1, MoveDirection.TOP_BOTTOM, player);
 
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         Optional<FailReason> failReason = standardValidationManager.validateMove(game, playerMove);
 
@@ -750,18 +758,20 @@ public class StandardValidationManagerTest {
         String word = "test";
 
         expect(game.getBoard()).andReturn(board);
-        expect(board.getBoardMatrix()).andReturn(boardMatrix);
+        expect(game.getDictionaryType()).andReturn(DictionaryType.SOWPODS);
+        expectLetters(board, boardMatrix);
         expect(board.getSize()).andReturn(boardSize);
         expect(game.getState()).andReturn(GameState.IN_PROGRESS);
-        expect(dictionaryManager.checkWord(word)).andReturn(true);
-        expect(dictionaryManager.checkWord("at")).andReturn(true);
-        expect(dictionaryManager.checkWord("ce")).andReturn(true);
+        expect(game.getId()).andReturn(1);
+        expect(dictionaryManager.checkWord(DictionaryType.SOWPODS, word)).andReturn(true);
+        expect(dictionaryManager.getCrossChecks(DictionaryType.SOWPODS, board, null))
+                .andReturn(CrossChecks.compute(graph("AT", "CE", "TEST"), StandardBoard.fromMatrix(boardMatrix)));
 
         PowerMock.replayAll();
 
         PlayerMove playerMove = new PlayerMove(word, 0, 1, MoveDirection.TOP_BOTTOM, player);
 
-        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager);
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
 
         Optional<FailReason> failReason = standardValidationManager.validateMove(game, playerMove);
 
@@ -770,6 +780,145 @@ public class StandardValidationManagerTest {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testValidateMoveRecordsPhases() {
+        DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
+        Game game = PowerMock.createMock(Game.class);
+        Board board = PowerMock.createMock(Board.class);
+        Player player = PowerMock.createMock(Player.class);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        int boardSize = 5;
+        char[][] boardMatrix = getBoardMatrix(boardSize);
+
+        boardMatrix[0][0] = 'a';
+        boardMatrix[1][0] = 'c';
+
+        expect(game.getBoard()).andReturn(board).times(2);
+        expect(game.getDictionaryType()).andReturn(DictionaryType.SOWPODS).times(2);
+        expectLetters(board, boardMatrix);
+        expect(board.getSize()).andReturn(boardSize).times(2);
+        expect(game.getState()).andReturn(GameState.IN_PROGRESS).times(2);
+        expect(game.getId()).andReturn(1);
+        expect(dictionaryManager.checkWord(DictionaryType.SOWPODS, "test")).andReturn(true);
+        expect(dictionaryManager.getCrossChecks(DictionaryType.SOWPODS, board, null))
+                .andReturn(CrossChecks.compute(graph("AT", "CE", "TEST"), StandardBoard.fromMatrix(boardMatrix)));
+
+        PowerMock.replayAll();
+
+        StandardValidationManager standardValidationManager = new StandardValidationManager(dictionaryManager,
+                new AppConfiguration(), meterRegistry);
+
+        Assert.assertFalse(standardValidationManager.validateMove(game,
+                new PlayerMove("test", 0, 1, MoveDirection.TOP_BOTTOM, player)).isPresent());
+        // fails the boundary check, no later phase is recorded
+        Assert.assertTrue(standardValidationManager.validateMove(game,
+                new PlayerMove("test", 3, 1, MoveDirection.TOP_BOTTOM, player)).isPresent());
+
+        PowerMock.verifyAll();
+
+        Assert.assertEquals(2, meterRegistry.get("validation.move").timer().count());
+        Assert.assertEquals(2, meterRegistry.get("validation.boundary").timer().count());
+        Assert.assertEquals(1, meterRegistry.get("validation.space.share").timer().count());
+        Assert.assertEquals(1, meterRegistry.get("validation.cross.checks").timer().count());
+        Assert.assertEquals(1, meterRegistry.get("validation.dictionary").timer().count());
+        // TEST is looked up, AT and CE are formed across it and checked against the masks
+        Assert.assertEquals(1, meterRegistry.get("validation.dictionary.lookups").summary().totalAmount(), 0);
+        Assert.assertEquals(3, meterRegistry.get("validation.words.formed").summary().totalAmount(), 0);
+    }
+
+    @Test
+    public void testValidateMovesReadsBoardOnce() {
+        DictionaryManager dictionaryManager = PowerMock.createMock(DictionaryManager.class);
+        Game game = PowerMock.createMock(Game.class);
+        Board board = PowerMock.createMock(Board.class);
+
+        int boardSize = 5;
+        char[][] boardMatrix = getBoardMatrix(boardSize);
+
+        boardMatrix[0][0] = 'a';
+        boardMatrix[1][0] = 'c';
+
+        expect(game.getBoard()).andReturn(board);
+        expect(game.getDictionaryType()).andReturn(DictionaryType.SOWPODS).anyTimes();
+        expectLetters(board, boardMatrix);
+        expect(board.getSize()).andReturn(boardSize).anyTimes();
+        expect(game.getState()).andReturn(GameState.IN_PROGRESS).anyTimes();
+        expect(game.getId()).andReturn(1);
+        expect(dictionaryManager.checkWord(DictionaryType.SOWPODS, "test")).andReturn(true);
+        expect(dictionaryManager.checkWord(DictionaryType.SOWPODS, "tent")).andReturn(true);
+        expect(dictionaryManager.checkWord(DictionaryType.SOWPODS, "tets")).andReturn(false);
+        expect(dictionaryManager.getCrossChecks(DictionaryType.SOWPODS, board, null))
+                .andReturn(CrossChecks.compute(graph("AT", "CE", "TENT", "TEST"), StandardBoard.fromMatrix(boardMatrix)));
+
+        PowerMock.replayAll();
+
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
+
+        List<Optional<FailReason>> failReasons = standardValidationManager.validateMoves(game, Arrays.asList(
+                new PlayerMove("test", 0, 1, MoveDirection.TOP_BOTTOM, null),
+                new PlayerMove("testing", 0, 1, MoveDirection.TOP_BOTTOM, null),
+                new PlayerMove("tets", 0, 1, MoveDirection.TOP_BOTTOM, null),
+                new PlayerMove("tent", 0, 1, MoveDirection.TOP_BOTTOM, null)));
+
+        Assert.assertEquals(4, failReasons.size());
+        Assert.assertFalse(failReasons.get(0).isPresent());
+        Assert.assertTrue(failReasons.get(1).get().getReason().contains("exceeds the board size"));
+        Assert.assertEquals("word tets specified is not in the dictionary", failReasons.get(2).get().getReason());
+        Assert.assertFalse(failReasons.get(3).isPresent());
+
+        PowerMock.verifyAll();
+    }
+
+    private static void expectLetters(Board board, char[][] boardMatrix) {
+        expect(board.getLetter(EasyMock.anyInt(), EasyMock.anyInt())).andAnswer(() ->
+                boardMatrix[(Integer) EasyMock.getCurrentArguments()[0]][(Integer) EasyMock.getCurrentArguments()[1]]).anyTimes();
+    }
+
+    @Test
+    public void testMoveMadeReplacesCrossChecksOfGame() {
+        DictionaryManager dictionaryManager = PowerMock.createNiceMock(DictionaryManager.class);
+        Player player = new StandardPlayer(new StandardPerson(1, "user", "first", "last"), 1);
+        DictionaryGraph graph = graph("AT", "TEST");
+
+        char[][] boardMatrix = getBoardMatrix(5);
+        boardMatrix[0][0] = 'a';
+        boardMatrix[1][0] = 'c';
+        Board board = StandardBoard.fromMatrix(boardMatrix);
+        PlayerMove playerMove = new PlayerMove("test", 0, 1, MoveDirection.TOP_BOTTOM, player);
+        for (int row = 0; row < 4; row++) {
+            boardMatrix[row][1] = "test".charAt(row);
+        }
+        Board movedBoard = StandardBoard.fromMatrix(boardMatrix);
+        CrossChecks crossChecks = CrossChecks.compute(graph, board);
+        Capture<CrossChecks> previous = EasyMock.newCapture();
+
+        expect(dictionaryManager.checkWord(eq(DictionaryType.SOWPODS), EasyMock.anyString())).andReturn(true).anyTimes();
+        expect(dictionaryManager.getCrossChecks(DictionaryType.SOWPODS, board, null)).andReturn(crossChecks);
+        expect(dictionaryManager.getCrossChecks(eq(DictionaryType.SOWPODS), eq(movedBoard), EasyMock.capture(previous)))
+                .andAnswer(previous::getValue);
+
+        PowerMock.replayAll();
+
+        StandardValidationManager standardValidationManager = newValidationManager(dictionaryManager);
+        standardValidationManager.validateMove(
+                new StandardGame(1, Arrays.asList(player), board, GameState.IN_PROGRESS, DictionaryType.SOWPODS), playerMove);
+        standardValidationManager.moveMade(1, playerMove);
+        standardValidationManager.validateMove(
+                new StandardGame(1, Arrays.asList(player), movedBoard, GameState.IN_PROGRESS, DictionaryType.SOWPODS),
+                new PlayerMove("at", 4, 0, MoveDirection.LEFT_RIGHT, player));
+
+        PowerMock.verifyAll();
+        // the masks validations may still be reading are left as they were
+        Assert.assertTrue(crossChecks.isFor(graph, board));
+        Assert.assertNotSame(crossChecks, previous.getValue());
+        Assert.assertTrue(previous.getValue().isFor(graph, movedBoard));
+    }
+
+    private static StandardValidationManager newValidationManager(DictionaryManager dictionaryManager) {
+        return new StandardValidationManager(dictionaryManager, new AppConfiguration(), new SimpleMeterRegistry());
+    }
+
     private char [][] getBoardMatrix(int size) {
         char [][] boardMatrix = new char[size][size];
         for (int r = 0; r < size; r++) {
@@ -779,4 +928,35 @@ public class StandardValidationManagerTest {
         }
         return boardMatrix;
     }
+
+    private static DictionaryGraph graph(String... words) {
+        final DictionaryGraph.Builder builder = DictionaryGraph.builder();
+        for (String word: words) {
+            builder.addWord(word);
+        }
+        return builder.build();
+    }
+
+    private static WordBatch wordsEq(String... expectedWords) {
+        EasyMock.reportMatcher(new IArgumentMatcher() {
+            @Override
+            public boolean matches(Object argument) {
+                if (!(argument instanceof WordBatch)) {
+                    return false;
+                }
+                final WordBatch words = (WordBatch) argument;
+                final String[] actualWords = new String[words.size()];
+                for (int idx = 0; idx < actualWords.length; idx++) {
+                    actualWords[idx] = words.getWord(idx);
+                }
+                return Arrays.equals(expectedWords, actualWords);
+            }
+
+            @Override
+            public void appendTo(StringBuffer buffer) {
+                buffer.append("wordsEq(").append(Arrays.toString(expectedWords)).append(")");
+            }
+        });
+        return null;
+    }
 }
@@ -0,0 +1,29 @@
+package game.services;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Manish Shrestha
+ */
+public class TileBagTest {
+
+    @Test
+    public void testRackHoldsNoMoreOfALetterThanTheBag() {
+        final Random random = new Random(42);
+        for (int draw = 0; draw < 10000; draw++) {
+            final String rack = TileBag.drawRack(random);
+            Assert.assertEquals(MoveGenerator.RACK_SIZE, rack.length());
+            for (char letter: rack.toCharArray()) {
+                Assert.assertTrue(rack + " has more " + letter + " than the bag",
+                        count(rack, letter) <= count(TileBag.TILES, letter));
+            }
+        }
+    }
+
+    private static long count(String tiles, char letter) {
+        return tiles.chars().filter(tile -> tile == letter).count();
+    }
+}